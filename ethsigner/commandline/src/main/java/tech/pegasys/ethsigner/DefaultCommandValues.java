@@ -14,9 +14,11 @@ package tech.pegasys.ethsigner;
 
 public interface DefaultCommandValues {
   String BOOLEAN_FORMAT_HELP = "<BOOL>";
+  String DOUBLE_FORMAT_HELP = "<DOUBLE>";
   String FILE_FORMAT_HELP = "<FILE>";
   String PATH_FORMAT_HELP = "<PATH>";
   String HOST_FORMAT_HELP = "<HOST>";
   String PORT_FORMAT_HELP = "<PORT>";
   String LONG_FORMAT_HELP = "<LONG>";
+  String INTEGER_FORMAT_HELP = "<INTEGER>";
 }
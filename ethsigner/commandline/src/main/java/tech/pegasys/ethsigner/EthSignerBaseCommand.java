@@ -12,7 +12,10 @@
  */
 package tech.pegasys.ethsigner;
 
+import static tech.pegasys.ethsigner.DefaultCommandValues.BOOLEAN_FORMAT_HELP;
+import static tech.pegasys.ethsigner.DefaultCommandValues.DOUBLE_FORMAT_HELP;
 import static tech.pegasys.ethsigner.DefaultCommandValues.HOST_FORMAT_HELP;
+import static tech.pegasys.ethsigner.DefaultCommandValues.INTEGER_FORMAT_HELP;
 import static tech.pegasys.ethsigner.DefaultCommandValues.LONG_FORMAT_HELP;
 import static tech.pegasys.ethsigner.DefaultCommandValues.PATH_FORMAT_HELP;
 import static tech.pegasys.ethsigner.DefaultCommandValues.PORT_FORMAT_HELP;
@@ -25,11 +28,14 @@ import tech.pegasys.ethsigner.config.ConfigFileOption;
 import tech.pegasys.ethsigner.config.InvalidCommandLineOptionsException;
 import tech.pegasys.ethsigner.config.PicoCliTlsServerOptions;
 import tech.pegasys.ethsigner.config.tls.client.PicoCliClientTlsOptions;
+import tech.pegasys.ethsigner.convertor.HostAndPortConverter;
 import tech.pegasys.ethsigner.convertor.MetricCategoryConverter;
 import tech.pegasys.ethsigner.core.CorsAllowedOriginsProperty;
 import tech.pegasys.ethsigner.core.config.Config;
 import tech.pegasys.ethsigner.core.config.TlsOptions;
 import tech.pegasys.ethsigner.core.config.tls.client.ClientTlsOptions;
+import tech.pegasys.ethsigner.core.http.AdmissionHandler;
+import tech.pegasys.ethsigner.core.http.JsonRpcBatchHandler;
 import tech.pegasys.ethsigner.core.metrics.EthSignerMetricCategory;
 import tech.pegasys.ethsigner.core.signing.ChainIdProvider;
 import tech.pegasys.ethsigner.core.signing.ConfigurationChainId;
@@ -41,12 +47,16 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.net.HostAndPort;
 import org.apache.logging.log4j.Level;
 import org.hyperledger.besu.metrics.StandardMetricCategory;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
@@ -78,6 +88,15 @@ import picocli.CommandLine.Spec;
     footer = "EthSigner is licensed under the Apache License 2.0")
 public class EthSignerBaseCommand implements Config, Runnable {
 
+  private static final String DEFAULT_COALESCED_METHODS =
+      "eth_blockNumber,eth_chainId,net_version,eth_gasPrice,eth_getBalance,eth_getCode,"
+          + "eth_getTransactionCount,eth_call,eth_getBlockByNumber,eth_getBlockByHash,"
+          + "eth_getTransactionByHash,eth_getTransactionReceipt";
+
+  private static final String DEFAULT_HEDGED_METHODS =
+      "eth_call,eth_getBalance,eth_getCode,eth_getStorageAt,eth_getBlockByNumber,"
+          + "eth_getBlockByHash,eth_getTransactionByHash,eth_getTransactionReceipt,eth_getLogs";
+
   @Spec private CommandSpec spec; // injected by picocli
 
   @SuppressWarnings("UnusedVariable")
@@ -179,6 +198,255 @@ public class EthSignerBaseCommand implements Config, Runnable {
       arity = "1")
   private long downstreamHttpRequestTimeout = Duration.ofSeconds(5).toMillis();
 
+  @Option(
+      names = {"--downstream-http-max-pool-size"},
+      description =
+          "Maximum number of HTTP/1.1 connections to the downstream node per HTTP server instance "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer downstreamHttpMaxPoolSize = 100;
+
+  @Option(
+      names = {"--downstream-http-max-wait-queue-size"},
+      description =
+          "Maximum number of downstream requests waiting for a pooled connection, -1 for "
+              + "unbounded (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer downstreamHttpMaxWaitQueueSize = -1;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--downstream-http-keep-alive-timeout"},
+      description =
+          "Time in seconds an idle downstream connection is kept open (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long downstreamHttpKeepAliveTimeout = 60;
+
+  @Option(
+      names = {"--downstream-http-pipelining-enabled"},
+      description =
+          "Set to pipeline HTTP/1.1 requests on downstream connections (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOLEAN_FORMAT_HELP,
+      arity = "0..1")
+  private final Boolean downstreamHttpPipeliningEnabled = false;
+
+  @Option(
+      names = {"--downstream-http2-enabled"},
+      description =
+          "Set to use HTTP/2 to the downstream node, negotiated with ALPN when TLS is enabled "
+              + "or by h2c upgrade otherwise (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOLEAN_FORMAT_HELP,
+      arity = "0..1")
+  private final Boolean downstreamHttp2Enabled = false;
+
+  @Option(
+      names = {"--downstream-http2-multiplexing-limit"},
+      description =
+          "Maximum concurrent streams on each HTTP/2 downstream connection, -1 to use the limit "
+              + "advertised by the node (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer downstreamHttp2MultiplexingLimit = -1;
+
+  @Option(
+      names = {"--downstream-http-streaming-enabled"},
+      description =
+          "Set to stream requests that are passed through to the downstream node, and their "
+              + "responses, instead of buffering them (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOLEAN_FORMAT_HELP,
+      arity = "0..1")
+  private final Boolean downstreamHttpStreamingEnabled = false;
+
+  @Option(
+      names = {"--downstream-http-endpoints"},
+      description =
+          "Comma separated list of further downstream nodes to balance requests across, "
+              + "in addition to --downstream-http-host and --downstream-http-port (default: none)",
+      paramLabel = "<host:port>[,<host:port>...]",
+      split = ",",
+      arity = "1..*",
+      converter = HostAndPortConverter.class)
+  private final List<HostAndPort> downstreamHttpEndpoints = new ArrayList<>();
+
+  @Option(
+      names = {"--downstream-http-health-check-interval"},
+      description =
+          "Time in milliseconds between health checks of each downstream node, when more than "
+              + "one is configured (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private final Long downstreamHttpHealthCheckInterval = 5_000L;
+
+  @Option(
+      names = {"--downstream-http-head-tracking-enabled"},
+      description =
+          "Set to follow the head of the downstream chain, so responses which depend on it can be "
+              + "cached until the next block (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOLEAN_FORMAT_HELP,
+      arity = "0..1")
+  private final Boolean downstreamHttpHeadTrackingEnabled = false;
+
+  @Option(
+      names = {"--downstream-http-head-poll-interval"},
+      description =
+          "Time in milliseconds between polls of the downstream node for its latest block "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private final Long downstreamHttpHeadPollInterval = 1_000L;
+
+  @Option(
+      names = {"--downstream-http-cache-enabled"},
+      description =
+          "Set to cache the responses to passed through requests whose result does not change, "
+              + "such as eth_chainId and eth_getBlockByHash (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOLEAN_FORMAT_HELP,
+      arity = "0..1")
+  private final Boolean downstreamHttpCacheEnabled = false;
+
+  @Option(
+      names = {"--downstream-http-cache-max-entries"},
+      description =
+          "Maximum number of responses held in the response cache (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer downstreamHttpCacheMaxEntries = 10_000;
+
+  @Option(
+      names = {"--downstream-http-cache-ttls"},
+      description =
+          "Comma separated list of JSON-RPC methods and the time in milliseconds their responses "
+              + "are cached for, overriding the defaults; 0 stops a method being cached "
+              + "(default: none)",
+      paramLabel = "<method>=<LONG>[,<method>=<LONG>...]",
+      split = ",",
+      arity = "1..*")
+  private final Map<String, Long> downstreamHttpCacheTtls = new HashMap<>();
+
+  @Option(
+      names = {"--downstream-http-coalescing-enabled"},
+      description =
+          "Set to share one downstream request between identical requests in flight at the same "
+              + "time, for the methods in --downstream-http-coalesced-methods "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = BOOLEAN_FORMAT_HELP,
+      arity = "0..1")
+  private final Boolean downstreamHttpCoalescingEnabled = false;
+
+  @Option(
+      names = {"--downstream-http-coalesced-methods"},
+      description =
+          "Comma separated list of read only JSON-RPC methods whose identical concurrent requests "
+              + "are coalesced (default: ${DEFAULT-VALUE})",
+      paramLabel = "<method>[,<method>...]",
+      split = ",",
+      arity = "1..*",
+      defaultValue = DEFAULT_COALESCED_METHODS)
+  private final List<String> downstreamHttpCoalescedMethods = new ArrayList<>();
+
+  @Option(
+      names = {"--downstream-http-adaptive-concurrency-enabled"},
+      description =
+          "Set to limit the requests outstanding at the downstream node to a limit adapted to its "
+              + "observed latency, queuing further requests and rejecting them once the queue is "
+              + "full (default: ${DEFAULT-VALUE})")
+  private final Boolean downstreamHttpAdaptiveConcurrencyEnabled = false;
+
+  @Option(
+      names = {"--downstream-http-concurrency-max-limit"},
+      description =
+          "Maximum number of requests the adaptive limit allows to be outstanding at the "
+              + "downstream node (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer downstreamHttpConcurrencyMaxLimit = 200;
+
+  @Option(
+      names = {"--downstream-http-concurrency-max-queued"},
+      description =
+          "Maximum number of requests waiting to be sent to the downstream node while it is at "
+              + "its adaptive limit (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer downstreamHttpConcurrencyMaxQueued = 1_000;
+
+  @Option(
+      names = {"--downstream-http-circuit-breaker-enabled"},
+      description =
+          "Set to fail requests immediately, rather than sending them to the downstream node, "
+              + "while too many recent requests to it have failed (default: ${DEFAULT-VALUE})")
+  private final Boolean downstreamHttpCircuitBreakerEnabled = false;
+
+  @Option(
+      names = {"--downstream-http-circuit-breaker-failure-rate"},
+      description =
+          "Proportion of the most recent requests to the downstream node which must fail for the "
+              + "circuit breaker to open, between 0 and 1 (default: ${DEFAULT-VALUE})",
+      paramLabel = DOUBLE_FORMAT_HELP,
+      arity = "1")
+  private final Double downstreamHttpCircuitBreakerFailureRate = 0.5;
+
+  @Option(
+      names = {"--downstream-http-circuit-breaker-window"},
+      description =
+          "Number of the most recent requests to the downstream node whose failure rate is "
+              + "measured (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer downstreamHttpCircuitBreakerWindow = 20;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--downstream-http-circuit-breaker-open-duration"},
+      description =
+          "Time in milliseconds the circuit breaker stays open before trial requests are sent to "
+              + "the downstream node (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long downstreamHttpCircuitBreakerOpenDuration = 5_000;
+
+  @Option(
+      names = {"--downstream-http-hedging-enabled"},
+      description =
+          "Set to also send a request to a second downstream node when the first has not answered "
+              + "it within a percentile of recent latencies, for the methods in "
+              + "--downstream-http-hedged-methods (default: ${DEFAULT-VALUE})",
+      paramLabel = BOOLEAN_FORMAT_HELP,
+      arity = "0..1")
+  private final Boolean downstreamHttpHedgingEnabled = false;
+
+  @Option(
+      names = {"--downstream-http-hedged-methods"},
+      description =
+          "Comma separated list of idempotent read only JSON-RPC methods whose requests may be "
+              + "hedged (default: ${DEFAULT-VALUE})",
+      paramLabel = "<method>[,<method>...]",
+      split = ",",
+      arity = "1..*",
+      defaultValue = DEFAULT_HEDGED_METHODS)
+  private final List<String> downstreamHttpHedgedMethods = new ArrayList<>();
+
+  @Option(
+      names = {"--downstream-http-hedge-percentile"},
+      description =
+          "Percentile of recent latencies of a method after which its request is hedged, greater "
+              + "than 0 and at most 100 (default: ${DEFAULT-VALUE})",
+      paramLabel = DOUBLE_FORMAT_HELP,
+      arity = "1")
+  private final Double downstreamHttpHedgePercentile = 95.0;
+
+  @Option(
+      names = {"--downstream-http-hedge-budget-ratio"},
+      description =
+          "Number of hedged requests each request adds to the hedge budget, which caps the extra "
+              + "load hedging puts on the downstream nodes (default: ${DEFAULT-VALUE})",
+      paramLabel = DOUBLE_FORMAT_HELP,
+      arity = "1")
+  private final Double downstreamHttpHedgeBudgetRatio = 0.1;
+
   @Mixin private PicoCliClientTlsOptions clientTlsOptions;
 
   @Option(
@@ -250,6 +518,235 @@ public class EthSignerBaseCommand implements Config, Runnable {
       arity = "1")
   private String httpProxyPassword = null;
 
+  @Option(
+      names = {"--local-nonce-management-enabled"},
+      description =
+          "Set to allocate nonces for sending accounts locally rather than querying the downstream "
+              + "node for every transaction (default: ${DEFAULT-VALUE})")
+  private final Boolean localNonceManagementEnabled = false;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--local-nonce-idle-timeout"},
+      description =
+          "Time in milliseconds an account may be idle before its locally managed nonce is "
+              + "refreshed from the downstream node (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long localNonceIdleTimeout = Duration.ofMinutes(1).toMillis();
+
+  @Option(
+      names = {"--sender-queues-enabled"},
+      description =
+          "Set to submit transactions from the same sending account one at a time, in the order "
+              + "they were received, while different accounts proceed in parallel "
+              + "(default: ${DEFAULT-VALUE})")
+  private final Boolean senderQueuesEnabled = false;
+
+  @Option(
+      names = {"--sender-queue-max-depth"},
+      description =
+          "Maximum number of transactions pending for a single sending account, further "
+              + "transactions are rejected (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer senderQueueMaxDepth = 64;
+
+  @Option(
+      names = {"--sender-queue-max-senders"},
+      description =
+          "Maximum number of sending accounts with transactions pending at the same time, "
+              + "transactions from further accounts are rejected (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer senderQueueMaxSenders = 10_000;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--nonce-retry-initial-backoff"},
+      description =
+          "Time in milliseconds before a transaction rejected for its nonce is first resubmitted, "
+              + "doubling for each further resubmission (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long nonceRetryInitialBackoff = 10;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--nonce-retry-max-backoff"},
+      description =
+          "Maximum time in milliseconds before a transaction rejected for its nonce is resubmitted "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long nonceRetryMaxBackoff = 1_000;
+
+  @Option(
+      names = {"--nonce-retry-jitter"},
+      description =
+          "Proportion of each resubmission delay which is randomised, between 0 and 1 "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = DOUBLE_FORMAT_HELP,
+      arity = "1")
+  private final Double nonceRetryJitter = 0.5;
+
+  @Option(
+      names = {"--nonce-retry-budget-ratio"},
+      description =
+          "Maximum number of resubmissions, as a proportion of transactions sent, under sustained "
+              + "nonce contention (default: ${DEFAULT-VALUE})",
+      paramLabel = DOUBLE_FORMAT_HELP,
+      arity = "1")
+  private final Double nonceRetryBudgetRatio = 0.2;
+
+  @Option(
+      names = {"--async-submission-enabled"},
+      description =
+          "Set to respond to eth_sendTransaction with the transaction hash as soon as the "
+              + "transaction is signed, and deliver it to the downstream node in the background. "
+              + "Applies to public transactions whose nonce is supplied by the client or managed "
+              + "locally (default: ${DEFAULT-VALUE})")
+  private final Boolean asyncSubmissionEnabled = false;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--async-delivery-max-backoff"},
+      description =
+          "Maximum time in milliseconds before a transaction submitted in the background, or "
+              + "recovered from the journal, is redelivered after the downstream node could not "
+              + "accept it (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long asyncDeliveryMaxBackoff = Duration.ofSeconds(30).toMillis();
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--async-delivery-expiry"},
+      description =
+          "Time in milliseconds for which a transaction submitted in the background, or "
+              + "recovered from the journal, is redelivered before it is abandoned "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long asyncDeliveryExpiry = Duration.ofMinutes(10).toMillis();
+
+  @Option(
+      names = {"--transaction-journal-enabled"},
+      description =
+          "Set to record signed transactions in a journal under the data path before they are "
+              + "sent to the downstream node, and resubmit those the node had not responded to "
+              + "when EthSigner restarts (default: ${DEFAULT-VALUE})")
+  private final Boolean transactionJournalEnabled = false;
+
+  @Option(
+      names = {"--idempotency-keys-enabled"},
+      description =
+          "Set to answer a transaction submitted with the same Idempotency-Key header and sender "
+              + "as an earlier one with the earlier outcome, rather than signing and sending it "
+              + "again (default: ${DEFAULT-VALUE})")
+  private final Boolean idempotencyKeysEnabled = false;
+
+  @Option(
+      names = {"--idempotency-key-max-entries"},
+      description =
+          "Maximum number of idempotency keys whose outcome is retained "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer idempotencyKeyMaxEntries = 10_000;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--idempotency-key-expiry"},
+      description =
+          "Time in milliseconds the outcome of a transaction submitted with an idempotency key is "
+              + "retained (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long idempotencyKeyExpiry = Duration.ofMinutes(10).toMillis();
+
+  @Option(
+      names = {"--http-max-in-flight-requests"},
+      description =
+          "Maximum number of requests in progress at the same time, further requests are rejected, "
+              + "or 0 for no limit (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer httpMaxInFlightRequests = 0;
+
+  @Option(
+      names = {"--http-max-batch-size"},
+      description =
+          "Maximum number of requests in a batch, larger batches are rejected. A batch counts as a "
+              + "single request in progress (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer httpMaxBatchSize = JsonRpcBatchHandler.DEFAULT_MAX_BATCH_SIZE;
+
+  @Option(
+      names = {"--http-max-request-body-size"},
+      description =
+          "Maximum size in bytes of a request body, larger requests are rejected "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private final Long httpMaxRequestBodySize = AdmissionHandler.DEFAULT_MAX_BODY_SIZE;
+
+  @Option(
+      names = {"--http-client-rate-limit"},
+      description =
+          "Maximum requests per second from each client, identified by its TLS client certificate "
+              + "or its address, further requests are rejected, or 0 for no limit "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = DOUBLE_FORMAT_HELP,
+      arity = "1")
+  private final Double httpClientRateLimit = 0.0;
+
+  @Option(
+      names = {"--sender-rate-limit"},
+      description =
+          "Maximum transactions per second signed for each sending account, further transactions "
+              + "are rejected, or 0 for no limit (default: ${DEFAULT-VALUE})",
+      paramLabel = DOUBLE_FORMAT_HELP,
+      arity = "1")
+  private final Double senderRateLimit = 0.0;
+
+  @SuppressWarnings("FieldMayBeFinal")
+  @Option(
+      names = {"--http-request-deadline"},
+      description =
+          "Time in milliseconds within which a JSON-RPC request must be answered, bounding all the "
+              + "downstream requests made for it. A client may ask for less with the "
+              + "Request-Timeout header (default: ${DEFAULT-VALUE})",
+      paramLabel = LONG_FORMAT_HELP,
+      arity = "1")
+  private long httpRequestDeadline = Duration.ofSeconds(15).toMillis();
+
+  @Option(
+      names = {"--http-server-instances"},
+      description =
+          "Number of HTTP server instances handling JSON-RPC requests, each bound to its own event "
+              + "loop (default: number of available processors)",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer httpServerInstances = Runtime.getRuntime().availableProcessors();
+
+  @Option(
+      names = {"--vertx-event-loop-pool-size"},
+      description = "Number of Vert.x event loop threads (default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer eventLoopPoolSize = 2 * Runtime.getRuntime().availableProcessors();
+
+  @Option(
+      names = {"--vertx-worker-pool-size"},
+      description =
+          "Number of Vert.x worker threads used for blocking operations such as signing "
+              + "(default: ${DEFAULT-VALUE})",
+      paramLabel = INTEGER_FORMAT_HELP,
+      arity = "1")
+  private final Integer workerPoolSize = 20;
+
   @Override
   public Level getLogLevel() {
     return logLevel;
@@ -357,6 +854,268 @@ public class EthSignerBaseCommand implements Config, Runnable {
     return httpProxyPassword;
   }
 
+  @Override
+  public Boolean isLocalNonceManagementEnabled() {
+    return localNonceManagementEnabled;
+  }
+
+  @Override
+  public Duration getLocalNonceIdleTimeout() {
+    return Duration.ofMillis(localNonceIdleTimeout);
+  }
+
+  @Override
+  public Boolean isSenderQueuesEnabled() {
+    return senderQueuesEnabled;
+  }
+
+  @Override
+  public Integer getSenderQueueMaxDepth() {
+    return senderQueueMaxDepth;
+  }
+
+  @Override
+  public Integer getSenderQueueMaxSenders() {
+    return senderQueueMaxSenders;
+  }
+
+  @Override
+  public Duration getNonceRetryInitialBackoff() {
+    return Duration.ofMillis(nonceRetryInitialBackoff);
+  }
+
+  @Override
+  public Duration getNonceRetryMaxBackoff() {
+    return Duration.ofMillis(nonceRetryMaxBackoff);
+  }
+
+  @Override
+  public Double getNonceRetryJitter() {
+    return nonceRetryJitter;
+  }
+
+  @Override
+  public Double getNonceRetryBudgetRatio() {
+    return nonceRetryBudgetRatio;
+  }
+
+  @Override
+  public Boolean isAsyncSubmissionEnabled() {
+    return asyncSubmissionEnabled;
+  }
+
+  @Override
+  public Duration getAsyncDeliveryMaxBackoff() {
+    return Duration.ofMillis(asyncDeliveryMaxBackoff);
+  }
+
+  @Override
+  public Duration getAsyncDeliveryExpiry() {
+    return Duration.ofMillis(asyncDeliveryExpiry);
+  }
+
+  @Override
+  public Boolean isTransactionJournalEnabled() {
+    return transactionJournalEnabled;
+  }
+
+  @Override
+  public Boolean isIdempotencyKeysEnabled() {
+    return idempotencyKeysEnabled;
+  }
+
+  @Override
+  public Integer getIdempotencyKeyMaxEntries() {
+    return idempotencyKeyMaxEntries;
+  }
+
+  @Override
+  public Duration getIdempotencyKeyExpiry() {
+    return Duration.ofMillis(idempotencyKeyExpiry);
+  }
+
+  @Override
+  public Integer getDownstreamHttpMaxPoolSize() {
+    return downstreamHttpMaxPoolSize;
+  }
+
+  @Override
+  public Integer getDownstreamHttpMaxWaitQueueSize() {
+    return downstreamHttpMaxWaitQueueSize;
+  }
+
+  @Override
+  public Duration getDownstreamHttpKeepAliveTimeout() {
+    return Duration.ofSeconds(downstreamHttpKeepAliveTimeout);
+  }
+
+  @Override
+  public Boolean isDownstreamHttpPipeliningEnabled() {
+    return downstreamHttpPipeliningEnabled;
+  }
+
+  @Override
+  public Boolean isDownstreamHttp2Enabled() {
+    return downstreamHttp2Enabled;
+  }
+
+  @Override
+  public Integer getDownstreamHttp2MultiplexingLimit() {
+    return downstreamHttp2MultiplexingLimit;
+  }
+
+  @Override
+  public Boolean isDownstreamHttpStreamingEnabled() {
+    return downstreamHttpStreamingEnabled;
+  }
+
+  @Override
+  public List<HostAndPort> getDownstreamHttpEndpoints() {
+    return downstreamHttpEndpoints;
+  }
+
+  @Override
+  public Duration getDownstreamHttpHealthCheckInterval() {
+    return Duration.ofMillis(downstreamHttpHealthCheckInterval);
+  }
+
+  @Override
+  public Boolean isDownstreamHttpHeadTrackingEnabled() {
+    return downstreamHttpHeadTrackingEnabled;
+  }
+
+  @Override
+  public Duration getDownstreamHttpHeadPollInterval() {
+    return Duration.ofMillis(downstreamHttpHeadPollInterval);
+  }
+
+  @Override
+  public Boolean isDownstreamHttpCacheEnabled() {
+    return downstreamHttpCacheEnabled;
+  }
+
+  @Override
+  public Integer getDownstreamHttpCacheMaxEntries() {
+    return downstreamHttpCacheMaxEntries;
+  }
+
+  @Override
+  public Map<String, Duration> getDownstreamHttpCacheTtls() {
+    final Map<String, Duration> ttls = new HashMap<>();
+    downstreamHttpCacheTtls.forEach((method, ttl) -> ttls.put(method, Duration.ofMillis(ttl)));
+    return ttls;
+  }
+
+  @Override
+  public Boolean isDownstreamHttpCoalescingEnabled() {
+    return downstreamHttpCoalescingEnabled;
+  }
+
+  @Override
+  public List<String> getDownstreamHttpCoalescedMethods() {
+    return downstreamHttpCoalescedMethods;
+  }
+
+  @Override
+  public Boolean isDownstreamHttpAdaptiveConcurrencyEnabled() {
+    return downstreamHttpAdaptiveConcurrencyEnabled;
+  }
+
+  @Override
+  public Integer getDownstreamHttpConcurrencyMaxLimit() {
+    return downstreamHttpConcurrencyMaxLimit;
+  }
+
+  @Override
+  public Integer getDownstreamHttpConcurrencyMaxQueued() {
+    return downstreamHttpConcurrencyMaxQueued;
+  }
+
+  @Override
+  public Boolean isDownstreamHttpCircuitBreakerEnabled() {
+    return downstreamHttpCircuitBreakerEnabled;
+  }
+
+  @Override
+  public Double getDownstreamHttpCircuitBreakerFailureRate() {
+    return downstreamHttpCircuitBreakerFailureRate;
+  }
+
+  @Override
+  public Integer getDownstreamHttpCircuitBreakerWindow() {
+    return downstreamHttpCircuitBreakerWindow;
+  }
+
+  @Override
+  public Duration getDownstreamHttpCircuitBreakerOpenDuration() {
+    return Duration.ofMillis(downstreamHttpCircuitBreakerOpenDuration);
+  }
+
+  @Override
+  public Boolean isDownstreamHttpHedgingEnabled() {
+    return downstreamHttpHedgingEnabled;
+  }
+
+  @Override
+  public List<String> getDownstreamHttpHedgedMethods() {
+    return downstreamHttpHedgedMethods;
+  }
+
+  @Override
+  public Double getDownstreamHttpHedgePercentile() {
+    return downstreamHttpHedgePercentile;
+  }
+
+  @Override
+  public Double getDownstreamHttpHedgeBudgetRatio() {
+    return downstreamHttpHedgeBudgetRatio;
+  }
+
+  @Override
+  public Integer getHttpMaxInFlightRequests() {
+    return httpMaxInFlightRequests;
+  }
+
+  @Override
+  public Integer getHttpMaxBatchSize() {
+    return httpMaxBatchSize;
+  }
+
+  @Override
+  public Long getHttpMaxRequestBodySize() {
+    return httpMaxRequestBodySize;
+  }
+
+  @Override
+  public Double getHttpClientRateLimit() {
+    return httpClientRateLimit;
+  }
+
+  @Override
+  public Double getSenderRateLimit() {
+    return senderRateLimit;
+  }
+
+  @Override
+  public Duration getHttpRequestDeadline() {
+    return Duration.ofMillis(httpRequestDeadline);
+  }
+
+  @Override
+  public Integer getHttpServerInstances() {
+    return httpServerInstances;
+  }
+
+  @Override
+  public Integer getEventLoopPoolSize() {
+    return eventLoopPoolSize;
+  }
+
+  @Override
+  public Integer getWorkerPoolSize() {
+    return workerPoolSize;
+  }
+
   @Override
   public void run() {
     // validation is performed to simulate similar behavior as with ArgGroups.
@@ -374,6 +1133,33 @@ public class EthSignerBaseCommand implements Config, Runnable {
         .add("downstreamHttpPort", downstreamHttpPort)
         .add("downstreamHttpPath", downstreamHttpPath)
         .add("downstreamHttpRequestTimeout", downstreamHttpRequestTimeout)
+        .add("downstreamHttpMaxPoolSize", downstreamHttpMaxPoolSize)
+        .add("downstreamHttpMaxWaitQueueSize", downstreamHttpMaxWaitQueueSize)
+        .add("downstreamHttpKeepAliveTimeout", downstreamHttpKeepAliveTimeout)
+        .add("downstreamHttpPipeliningEnabled", downstreamHttpPipeliningEnabled)
+        .add("downstreamHttp2Enabled", downstreamHttp2Enabled)
+        .add("downstreamHttp2MultiplexingLimit", downstreamHttp2MultiplexingLimit)
+        .add("downstreamHttpStreamingEnabled", downstreamHttpStreamingEnabled)
+        .add("downstreamHttpEndpoints", downstreamHttpEndpoints)
+        .add("downstreamHttpHealthCheckInterval", downstreamHttpHealthCheckInterval)
+        .add("downstreamHttpHeadTrackingEnabled", downstreamHttpHeadTrackingEnabled)
+        .add("downstreamHttpHeadPollInterval", downstreamHttpHeadPollInterval)
+        .add("downstreamHttpCacheEnabled", downstreamHttpCacheEnabled)
+        .add("downstreamHttpCacheMaxEntries", downstreamHttpCacheMaxEntries)
+        .add("downstreamHttpCacheTtls", downstreamHttpCacheTtls)
+        .add("downstreamHttpCoalescingEnabled", downstreamHttpCoalescingEnabled)
+        .add("downstreamHttpCoalescedMethods", downstreamHttpCoalescedMethods)
+        .add("downstreamHttpAdaptiveConcurrencyEnabled", downstreamHttpAdaptiveConcurrencyEnabled)
+        .add("downstreamHttpConcurrencyMaxLimit", downstreamHttpConcurrencyMaxLimit)
+        .add("downstreamHttpConcurrencyMaxQueued", downstreamHttpConcurrencyMaxQueued)
+        .add("downstreamHttpCircuitBreakerEnabled", downstreamHttpCircuitBreakerEnabled)
+        .add("downstreamHttpCircuitBreakerFailureRate", downstreamHttpCircuitBreakerFailureRate)
+        .add("downstreamHttpCircuitBreakerWindow", downstreamHttpCircuitBreakerWindow)
+        .add("downstreamHttpCircuitBreakerOpenDuration", downstreamHttpCircuitBreakerOpenDuration)
+        .add("downstreamHttpHedgingEnabled", downstreamHttpHedgingEnabled)
+        .add("downstreamHttpHedgedMethods", downstreamHttpHedgedMethods)
+        .add("downstreamHttpHedgePercentile", downstreamHttpHedgePercentile)
+        .add("downstreamHttpHedgeBudgetRatio", downstreamHttpHedgeBudgetRatio)
         .add("httpListenHost", httpListenHost)
         .add("httpListenPort", httpListenPort)
         .add("chainId", chainId)
@@ -384,6 +1170,31 @@ public class EthSignerBaseCommand implements Config, Runnable {
         .add("httpProxyPort", httpProxyPort)
         .add("httpProxyUsername", httpProxyUsername)
         .add("httpProxyPassword", httpProxyPassword)
+        .add("localNonceManagementEnabled", localNonceManagementEnabled)
+        .add("localNonceIdleTimeout", localNonceIdleTimeout)
+        .add("senderQueuesEnabled", senderQueuesEnabled)
+        .add("senderQueueMaxDepth", senderQueueMaxDepth)
+        .add("senderQueueMaxSenders", senderQueueMaxSenders)
+        .add("nonceRetryInitialBackoff", nonceRetryInitialBackoff)
+        .add("nonceRetryMaxBackoff", nonceRetryMaxBackoff)
+        .add("nonceRetryJitter", nonceRetryJitter)
+        .add("nonceRetryBudgetRatio", nonceRetryBudgetRatio)
+        .add("asyncSubmissionEnabled", asyncSubmissionEnabled)
+        .add("asyncDeliveryMaxBackoff", asyncDeliveryMaxBackoff)
+        .add("asyncDeliveryExpiry", asyncDeliveryExpiry)
+        .add("transactionJournalEnabled", transactionJournalEnabled)
+        .add("idempotencyKeysEnabled", idempotencyKeysEnabled)
+        .add("idempotencyKeyMaxEntries", idempotencyKeyMaxEntries)
+        .add("idempotencyKeyExpiry", idempotencyKeyExpiry)
+        .add("httpMaxInFlightRequests", httpMaxInFlightRequests)
+        .add("httpMaxBatchSize", httpMaxBatchSize)
+        .add("httpMaxRequestBodySize", httpMaxRequestBodySize)
+        .add("httpClientRateLimit", httpClientRateLimit)
+        .add("senderRateLimit", senderRateLimit)
+        .add("httpRequestDeadline", httpRequestDeadline)
+        .add("httpServerInstances", httpServerInstances)
+        .add("eventLoopPoolSize", eventLoopPoolSize)
+        .add("workerPoolSize", workerPoolSize)
         .toString();
   }
 
@@ -408,6 +1219,175 @@ public class EthSignerBaseCommand implements Config, Runnable {
     if (errorMessage.trim().length() > 0) {
       throw new InvalidCommandLineOptionsException(errorMessage.trim());
     }
+
+    if (downstreamHttpMaxPoolSize < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-max-pool-size must be a positive integer");
+    }
+
+    if (downstreamHttpKeepAliveTimeout < 0) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-keep-alive-timeout must not be negative");
+    }
+
+    if (downstreamHttp2MultiplexingLimit == 0 || downstreamHttp2MultiplexingLimit < -1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http2-multiplexing-limit must be -1 or a positive integer");
+    }
+
+    if (downstreamHttpHealthCheckInterval < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-health-check-interval must be a positive integer");
+    }
+
+    if (downstreamHttpHeadPollInterval < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-head-poll-interval must be a positive integer");
+    }
+
+    if (downstreamHttpCacheMaxEntries < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-cache-max-entries must be a positive integer");
+    }
+
+    if (downstreamHttpCacheTtls.values().stream().anyMatch(ttl -> ttl < 0)) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-cache-ttls must not contain a negative time");
+    }
+
+    if (downstreamHttpConcurrencyMaxLimit < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-concurrency-max-limit must be a positive integer");
+    }
+
+    if (downstreamHttpConcurrencyMaxQueued < 0) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-concurrency-max-queued must not be negative");
+    }
+
+    if (downstreamHttpCircuitBreakerFailureRate <= 0
+        || downstreamHttpCircuitBreakerFailureRate > 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-circuit-breaker-failure-rate must be greater than 0 and at most 1");
+    }
+
+    if (downstreamHttpCircuitBreakerWindow < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-circuit-breaker-window must be a positive integer");
+    }
+
+    if (downstreamHttpCircuitBreakerOpenDuration < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-circuit-breaker-open-duration must be a positive integer");
+    }
+
+    if (downstreamHttpHedgePercentile <= 0 || downstreamHttpHedgePercentile > 100) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-hedge-percentile must be greater than 0 and at most 100");
+    }
+
+    if (downstreamHttpHedgeBudgetRatio < 0) {
+      throw new InvalidCommandLineOptionsException(
+          "--downstream-http-hedge-budget-ratio must not be negative");
+    }
+
+    if (localNonceIdleTimeout < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--local-nonce-idle-timeout must be a positive integer");
+    }
+
+    if (senderQueueMaxDepth < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--sender-queue-max-depth must be a positive integer");
+    }
+
+    if (senderQueueMaxSenders < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--sender-queue-max-senders must be a positive integer");
+    }
+
+    if (nonceRetryInitialBackoff < 0 || nonceRetryMaxBackoff < nonceRetryInitialBackoff) {
+      throw new InvalidCommandLineOptionsException(
+          "--nonce-retry-max-backoff must not be less than --nonce-retry-initial-backoff, "
+              + "which must not be negative");
+    }
+
+    if (nonceRetryJitter < 0 || nonceRetryJitter > 1) {
+      throw new InvalidCommandLineOptionsException("--nonce-retry-jitter must be between 0 and 1");
+    }
+
+    if (nonceRetryBudgetRatio < 0) {
+      throw new InvalidCommandLineOptionsException(
+          "--nonce-retry-budget-ratio must not be negative");
+    }
+
+    if (asyncDeliveryMaxBackoff < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--async-delivery-max-backoff must be a positive integer");
+    }
+
+    if (asyncDeliveryExpiry < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--async-delivery-expiry must be a positive integer");
+    }
+
+    if (transactionJournalEnabled && dataPath == null) {
+      throw new InvalidCommandLineOptionsException(
+          "--transaction-journal-enabled requires --data-path");
+    }
+
+    if (idempotencyKeyMaxEntries < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--idempotency-key-max-entries must be a positive integer");
+    }
+
+    if (idempotencyKeyExpiry < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--idempotency-key-expiry must be a positive integer");
+    }
+
+    if (httpMaxInFlightRequests < 0) {
+      throw new InvalidCommandLineOptionsException(
+          "--http-max-in-flight-requests must not be negative");
+    }
+
+    if (httpMaxBatchSize < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--http-max-batch-size must be a positive integer");
+    }
+
+    if (httpMaxRequestBodySize < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--http-max-request-body-size must be a positive integer");
+    }
+
+    if (httpClientRateLimit < 0) {
+      throw new InvalidCommandLineOptionsException("--http-client-rate-limit must not be negative");
+    }
+
+    if (senderRateLimit < 0) {
+      throw new InvalidCommandLineOptionsException("--sender-rate-limit must not be negative");
+    }
+
+    if (httpRequestDeadline < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--http-request-deadline must be a positive integer");
+    }
+
+    if (httpServerInstances < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--http-server-instances must be a positive integer");
+    }
+
+    if (eventLoopPoolSize < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--vertx-event-loop-pool-size must be a positive integer");
+    }
+
+    if (workerPoolSize < 1) {
+      throw new InvalidCommandLineOptionsException(
+          "--vertx-worker-pool-size must be a positive integer");
+    }
   }
 
   public static class Web3signerMetricCategoryConverter extends MetricCategoryConverter {
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.convertor;
+
+import com.google.common.net.HostAndPort;
+import picocli.CommandLine;
+
+public class HostAndPortConverter implements CommandLine.ITypeConverter<HostAndPort> {
+
+  @Override
+  public HostAndPort convert(final String value) {
+    final HostAndPort hostAndPort = HostAndPort.fromString(value.trim()).requireBracketsForIPv6();
+    if (!hostAndPort.hasPort()) {
+      throw new IllegalArgumentException("Port is required: " + value);
+    }
+    return hostAndPort;
+  }
+}
@@ -33,6 +33,57 @@ public class CmdlineHelpers {
     optionsMap.put("downstream-http-port", 5000);
     optionsMap.put("downstream-http-path", "/v3/projectid");
     optionsMap.put("downstream-http-request-timeout", 10_000);
+    optionsMap.put("downstream-http-max-pool-size", 50);
+    optionsMap.put("downstream-http-max-wait-queue-size", 1_000);
+    optionsMap.put("downstream-http-keep-alive-timeout", 30);
+    optionsMap.put("downstream-http-pipelining-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http2-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http2-multiplexing-limit", 20);
+    optionsMap.put("downstream-http-streaming-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http-endpoints", "8.8.4.4:5000,node2.example.com:5002");
+    optionsMap.put("downstream-http-health-check-interval", 2_000);
+    optionsMap.put("downstream-http-head-tracking-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http-head-poll-interval", 500);
+    optionsMap.put("downstream-http-cache-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http-cache-max-entries", 500);
+    optionsMap.put("downstream-http-cache-ttls", "eth_blockNumber=1000,eth_chainId=0");
+    optionsMap.put("downstream-http-coalescing-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http-coalesced-methods", "eth_blockNumber,eth_getLogs");
+    optionsMap.put("downstream-http-adaptive-concurrency-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http-concurrency-max-limit", 50);
+    optionsMap.put("downstream-http-concurrency-max-queued", 250);
+    optionsMap.put("downstream-http-circuit-breaker-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http-circuit-breaker-failure-rate", 0.25);
+    optionsMap.put("downstream-http-circuit-breaker-window", 40);
+    optionsMap.put("downstream-http-circuit-breaker-open-duration", 2000);
+    optionsMap.put("downstream-http-hedging-enabled", Boolean.TRUE);
+    optionsMap.put("downstream-http-hedged-methods", "eth_call,eth_getLogs");
+    optionsMap.put("downstream-http-hedge-percentile", 99.0);
+    optionsMap.put("downstream-http-hedge-budget-ratio", 0.05);
+    optionsMap.put("local-nonce-idle-timeout", 30_000);
+    optionsMap.put("sender-queues-enabled", Boolean.TRUE);
+    optionsMap.put("sender-queue-max-depth", 16);
+    optionsMap.put("sender-queue-max-senders", 100);
+    optionsMap.put("nonce-retry-initial-backoff", 20);
+    optionsMap.put("nonce-retry-max-backoff", 400);
+    optionsMap.put("nonce-retry-jitter", 1.0);
+    optionsMap.put("nonce-retry-budget-ratio", 0.1);
+    optionsMap.put("async-submission-enabled", Boolean.TRUE);
+    optionsMap.put("async-delivery-max-backoff", 5000);
+    optionsMap.put("async-delivery-expiry", 120000);
+    optionsMap.put("transaction-journal-enabled", Boolean.TRUE);
+    optionsMap.put("idempotency-keys-enabled", Boolean.TRUE);
+    optionsMap.put("idempotency-key-max-entries", 500);
+    optionsMap.put("idempotency-key-expiry", 60000);
+    optionsMap.put("http-max-in-flight-requests", 200);
+    optionsMap.put("http-max-batch-size", 50);
+    optionsMap.put("http-max-request-body-size", 1048576);
+    optionsMap.put("http-client-rate-limit", 50.0);
+    optionsMap.put("sender-rate-limit", 5.0);
+    optionsMap.put("http-request-deadline", 8000);
+    optionsMap.put("vertx-event-loop-pool-size", 4);
+    optionsMap.put("vertx-worker-pool-size", 8);
+    optionsMap.put("data-path", "./data");
     optionsMap.put("http-listen-port", 5001);
     optionsMap.put("http-listen-host", "localhost");
     optionsMap.put("chain-id", 6);
@@ -34,6 +34,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import com.google.common.net.HostAndPort;
 import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -71,6 +72,61 @@ class CommandlineParserTest {
         commandLine.getSubcommands().get(subCommand.getCommandName()).getUsageMessage();
   }
 
+  @ParameterizedTest
+  @ValueSource(ints = {0, -2})
+  void invalidHttp2MultiplexingLimitShowsError(final int limit) {
+    final Map<String, Object> options =
+        modifyOptionValue("downstream-http2-multiplexing-limit", limit);
+    final List<String> cmdLine = toOptionsList(options);
+    cmdLine.add(subCommand.getCommandName());
+
+    final boolean result = parser.parseCommandLine(cmdLine.toArray(String[]::new));
+
+    assertThat(result).isFalse();
+    assertThat(commandError.toString())
+        .contains("--downstream-http2-multiplexing-limit must be -1 or a positive integer");
+  }
+
+  @Test
+  void unlimitedHttp2MultiplexingLimitIsAccepted() {
+    final Map<String, Object> options =
+        modifyOptionValue("downstream-http2-multiplexing-limit", -1);
+    final List<String> cmdLine = toOptionsList(options);
+    cmdLine.add(subCommand.getCommandName());
+
+    final boolean result = parser.parseCommandLine(cmdLine.toArray(String[]::new));
+
+    assertThat(result).as("CLI Parse result").isTrue();
+    assertThat(config.getDownstreamHttp2MultiplexingLimit()).isEqualTo(-1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, -1})
+  void nonPositiveLocalNonceIdleTimeoutShowsError(final int timeout) {
+    final Map<String, Object> options = modifyOptionValue("local-nonce-idle-timeout", timeout);
+    final List<String> cmdLine = toOptionsList(options);
+    cmdLine.add(subCommand.getCommandName());
+
+    final boolean result = parser.parseCommandLine(cmdLine.toArray(String[]::new));
+
+    assertThat(result).isFalse();
+    assertThat(commandError.toString())
+        .contains("--local-nonce-idle-timeout must be a positive integer");
+  }
+
+  @Test
+  void negativeDownstreamKeepAliveTimeoutShowsError() {
+    final Map<String, Object> options = modifyOptionValue("downstream-http-keep-alive-timeout", -1);
+    final List<String> cmdLine = toOptionsList(options);
+    cmdLine.add(subCommand.getCommandName());
+
+    final boolean result = parser.parseCommandLine(cmdLine.toArray(String[]::new));
+
+    assertThat(result).isFalse();
+    assertThat(commandError.toString())
+        .contains("--downstream-http-keep-alive-timeout must not be negative");
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {false, true})
   void fullyPopulatedCommandLineParsesIntoVariables(final boolean useConfigFile) {
@@ -90,6 +146,64 @@ class CommandlineParserTest {
     assertThat(config.getDownstreamHttpPort()).isEqualTo(5000);
     assertThat(config.getDownstreamHttpPath()).isEqualTo("/v3/projectid");
     assertThat(config.getDownstreamHttpRequestTimeout()).isEqualTo(Duration.ofSeconds(10));
+    assertThat(config.getDownstreamHttpMaxPoolSize()).isEqualTo(50);
+    assertThat(config.getDownstreamHttpMaxWaitQueueSize()).isEqualTo(1_000);
+    assertThat(config.getDownstreamHttpKeepAliveTimeout()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(config.isDownstreamHttpPipeliningEnabled()).isTrue();
+    assertThat(config.isDownstreamHttp2Enabled()).isTrue();
+    assertThat(config.getDownstreamHttp2MultiplexingLimit()).isEqualTo(20);
+    assertThat(config.isDownstreamHttpStreamingEnabled()).isTrue();
+    assertThat(config.getDownstreamHttpEndpoints())
+        .containsExactly(
+            HostAndPort.fromParts("8.8.4.4", 5000),
+            HostAndPort.fromParts("node2.example.com", 5002));
+    assertThat(config.getDownstreamHttpHealthCheckInterval()).isEqualTo(Duration.ofSeconds(2));
+    assertThat(config.isDownstreamHttpHeadTrackingEnabled()).isTrue();
+    assertThat(config.getDownstreamHttpHeadPollInterval()).isEqualTo(Duration.ofMillis(500));
+    assertThat(config.isDownstreamHttpCacheEnabled()).isTrue();
+    assertThat(config.getDownstreamHttpCacheMaxEntries()).isEqualTo(500);
+    assertThat(config.getDownstreamHttpCacheTtls().get("eth_blockNumber"))
+        .isEqualTo(Duration.ofSeconds(1));
+    assertThat(config.getDownstreamHttpCacheTtls().get("eth_chainId")).isEqualTo(Duration.ZERO);
+    assertThat(config.isDownstreamHttpCoalescingEnabled()).isTrue();
+    assertThat(config.getDownstreamHttpCoalescedMethods())
+        .containsExactly("eth_blockNumber", "eth_getLogs");
+    assertThat(config.isDownstreamHttpAdaptiveConcurrencyEnabled()).isTrue();
+    assertThat(config.getDownstreamHttpConcurrencyMaxLimit()).isEqualTo(50);
+    assertThat(config.getDownstreamHttpConcurrencyMaxQueued()).isEqualTo(250);
+    assertThat(config.isDownstreamHttpCircuitBreakerEnabled()).isTrue();
+    assertThat(config.getDownstreamHttpCircuitBreakerFailureRate()).isEqualTo(0.25);
+    assertThat(config.getDownstreamHttpCircuitBreakerWindow()).isEqualTo(40);
+    assertThat(config.getDownstreamHttpCircuitBreakerOpenDuration())
+        .isEqualTo(Duration.ofSeconds(2));
+    assertThat(config.isDownstreamHttpHedgingEnabled()).isTrue();
+    assertThat(config.getDownstreamHttpHedgedMethods()).containsExactly("eth_call", "eth_getLogs");
+    assertThat(config.getDownstreamHttpHedgePercentile()).isEqualTo(99.0);
+    assertThat(config.getDownstreamHttpHedgeBudgetRatio()).isEqualTo(0.05);
+    assertThat(config.getLocalNonceIdleTimeout()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(config.isSenderQueuesEnabled()).isTrue();
+    assertThat(config.getSenderQueueMaxDepth()).isEqualTo(16);
+    assertThat(config.getSenderQueueMaxSenders()).isEqualTo(100);
+    assertThat(config.getNonceRetryInitialBackoff()).isEqualTo(Duration.ofMillis(20));
+    assertThat(config.getNonceRetryMaxBackoff()).isEqualTo(Duration.ofMillis(400));
+    assertThat(config.getNonceRetryJitter()).isEqualTo(1.0);
+    assertThat(config.getNonceRetryBudgetRatio()).isEqualTo(0.1);
+    assertThat(config.isAsyncSubmissionEnabled()).isTrue();
+    assertThat(config.getAsyncDeliveryMaxBackoff()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(config.getAsyncDeliveryExpiry()).isEqualTo(Duration.ofMinutes(2));
+    assertThat(config.isTransactionJournalEnabled()).isTrue();
+    assertThat(config.isIdempotencyKeysEnabled()).isTrue();
+    assertThat(config.getIdempotencyKeyMaxEntries()).isEqualTo(500);
+    assertThat(config.getIdempotencyKeyExpiry()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(config.getHttpMaxInFlightRequests()).isEqualTo(200);
+    assertThat(config.getHttpMaxBatchSize()).isEqualTo(50);
+    assertThat(config.getHttpMaxRequestBodySize()).isEqualTo(1_048_576L);
+    assertThat(config.getHttpClientRateLimit()).isEqualTo(50.0);
+    assertThat(config.getSenderRateLimit()).isEqualTo(5.0);
+    assertThat(config.getHttpRequestDeadline()).isEqualTo(Duration.ofSeconds(8));
+    assertThat(config.getEventLoopPoolSize()).isEqualTo(4);
+    assertThat(config.getWorkerPoolSize()).isEqualTo(8);
+    assertThat(config.getDataPath()).isEqualTo(Path.of("./data"));
     assertThat(config.getHttpListenHost()).isEqualTo("localhost");
     assertThat(config.getHttpListenPort()).isEqualTo(5001);
     assertThat(config.getCorsAllowedOrigins()).isEmpty();
@@ -169,6 +283,19 @@ class CommandlineParserTest {
     assertThat(commandOutput.toString()).containsOnlyOnce(defaultUsageText);
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"vertx-event-loop-pool-size", "vertx-worker-pool-size"})
+  void nonPositivePoolSizeShowsError(final String option) {
+    final Map<String, Object> options = modifyOptionValue(option, 0);
+    final List<String> cmdLine = toOptionsList(options);
+    cmdLine.add(subCommand.getCommandName());
+
+    final boolean result = parser.parseCommandLine(cmdLine.toArray(String[]::new));
+
+    assertThat(result).isFalse();
+    assertThat(commandError.toString()).contains("--" + option + " must be a positive integer");
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {false, true})
   void missingRequiredParamShowsAppropriateError(final boolean useConfigFile) {
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.jsonrpcproxy;
+
+import static java.util.Collections.singletonList;
+import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.INVALID_REQUEST;
+
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcErrorResponse;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcSuccessResponse;
+
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+class BatchRequestIntegrationTest extends DefaultTestBase {
+
+  private static final Object NO_ID = null;
+
+  @Test
+  void batchElementsAreHandledAndRespondedToInRequestOrder() {
+    final JsonObject ethAccounts = jsonRpcRequest("eth_accounts", 1);
+    final JsonObject netVersion = jsonRpcRequest("net_version", 2);
+    final JsonObject missingMethod = new JsonObject().put("jsonrpc", "2.0").put("id", 3);
+    final JsonArray batch = new JsonArray().add(ethAccounts).add(netVersion).add(missingMethod);
+
+    // passthrough elements are forwarded as a batch, with the element index as the id
+    final JsonArray downstreamBatch = new JsonArray().add(jsonRpcRequest("net_version", 0));
+    final JsonArray downstreamResponse =
+        new JsonArray().add(new JsonObject().put("jsonrpc", "2.0").put("id", 0).put("result", "4"));
+    setUpEthNodeResponse(
+        request.ethNode(downstreamBatch.encode()), response.ethNode(downstreamResponse.encode()));
+
+    final String expectedResponse =
+        "["
+            + Json.encode(new JsonRpcSuccessResponse(1, singletonList(unlockedAccount)))
+            + ","
+            + new JsonObject().put("jsonrpc", "2.0").put("id", 2).put("result", "4").encode()
+            + ","
+            + Json.encode(new JsonRpcErrorResponse(NO_ID, INVALID_REQUEST))
+            + "]";
+
+    sendPostRequestAndVerifyResponse(
+        request.ethSigner(batch.encode()), response.ethSigner(expectedResponse));
+  }
+
+  @Test
+  void notificationsAreNotRespondedTo() {
+    final JsonObject notification = jsonRpcRequest("eth_accounts", 2);
+    notification.remove("id");
+    final JsonArray batch =
+        new JsonArray().add(jsonRpcRequest("eth_accounts", 1)).add(notification);
+
+    final String expectedResponse =
+        "[" + Json.encode(new JsonRpcSuccessResponse(1, singletonList(unlockedAccount))) + "]";
+
+    sendPostRequestAndVerifyResponse(
+        request.ethSigner(batch.encode()), response.ethSigner(expectedResponse));
+  }
+
+  @Test
+  void emptyBatchIsAnInvalidRequest() {
+    sendPostRequestAndVerifyResponse(
+        request.ethSigner(new JsonArray().encode()), response.ethSigner(NO_ID, INVALID_REQUEST));
+  }
+
+  private static JsonObject jsonRpcRequest(final String method, final int id) {
+    return new JsonObject()
+        .put("jsonrpc", "2.0")
+        .put("method", method)
+        .put("params", new JsonArray())
+        .put("id", id);
+  }
+}
@@ -27,9 +27,13 @@ import static org.web3j.utils.Async.defaultExecutorService;
 import tech.pegasys.ethsigner.core.Eth1AddressSignerIdentifier;
 import tech.pegasys.ethsigner.core.Eth1AddressSignerProvider;
 import tech.pegasys.ethsigner.core.Runner;
+import tech.pegasys.ethsigner.core.downstream.DownstreamLoadBalancer;
+import tech.pegasys.ethsigner.core.http.AdmissionHandler;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonDecoder;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
 import tech.pegasys.ethsigner.core.metrics.MetricsEndpoint;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DownstreamPathCalculator;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.RetryScheduler;
 import tech.pegasys.ethsigner.jsonrpcproxy.model.request.EthNodeRequest;
 import tech.pegasys.ethsigner.jsonrpcproxy.model.request.EthRequestFactory;
 import tech.pegasys.ethsigner.jsonrpcproxy.model.request.EthSignerRequest;
@@ -125,6 +129,30 @@ public class IntegrationTestBase {
       final String downstreamHttpRequestPath,
       final List<String> allowedCorsOrigin)
       throws Exception {
+    setupEthSigner(chainId, downstreamHttpRequestPath, allowedCorsOrigin, false);
+  }
+
+  static void setupEthSigner(
+      final long chainId,
+      final String downstreamHttpRequestPath,
+      final List<String> allowedCorsOrigin,
+      final boolean streamingPassThroughEnabled)
+      throws Exception {
+    setupEthSigner(
+        chainId,
+        downstreamHttpRequestPath,
+        allowedCorsOrigin,
+        streamingPassThroughEnabled,
+        AdmissionHandler.DEFAULT_MAX_BODY_SIZE);
+  }
+
+  static void setupEthSigner(
+      final long chainId,
+      final String downstreamHttpRequestPath,
+      final List<String> allowedCorsOrigin,
+      final boolean streamingPassThroughEnabled,
+      final long maxRequestBodySize)
+      throws Exception {
     clientAndServer = startClientAndServer();
 
     final File keyFile = createKeyFile();
@@ -151,18 +179,39 @@ public class IntegrationTestBase {
 
     vertx = Vertx.vertx();
     runner =
-        new Runner(
-            chainId,
-            transactionSignerProvider,
-            httpClientOptions,
-            httpServerOptions,
-            downstreamTimeout,
-            new DownstreamPathCalculator(downstreamHttpRequestPath),
-            jsonDecoder,
-            dataPath,
-            vertx,
-            allowedCorsOrigin,
-            new MetricsEndpoint(false, 0, "", emptySet(), emptyList()));
+        Runner.builder()
+            .withChainId(chainId)
+            .withSignerProvider(transactionSignerProvider)
+            .withClientOptions(httpClientOptions)
+            .withServerOptions(httpServerOptions)
+            .withHttpRequestTimeout(downstreamTimeout)
+            .withRequestDeadline(Duration.ofSeconds(15))
+            .withDownstreamPathCalculator(new DownstreamPathCalculator(downstreamHttpRequestPath))
+            .withDownstreamLoadBalancer(
+                DownstreamLoadBalancer.singleEndpoint(LOCALHOST, clientAndServer.getLocalPort()))
+            .withDownstreamHealthCheckInterval(Duration.ofSeconds(5))
+            .withJsonDecoder(jsonDecoder)
+            .withDataPath(dataPath)
+            .withVertx(vertx)
+            .withAllowedCorsOrigins(allowedCorsOrigin)
+            .withMetricsEndpoint(new MetricsEndpoint(false, 0, "", emptySet(), emptyList()))
+            .withMetrics(EthSignerMetrics.noop())
+            .withRetryScheduler(
+                new RetryScheduler(
+                    vertx,
+                    Duration.ofMillis(1),
+                    Duration.ofMillis(1),
+                    0,
+                    10,
+                    EthSignerMetrics.noop()))
+            .withAdmissionHandler(
+                new AdmissionHandler(
+                    0,
+                    Optional.empty(),
+                    maxRequestBodySize,
+                    EthSignerMetrics.noop()))
+            .withStreamingPassThroughEnabled(streamingPassThroughEnabled)
+            .build();
     runner.start();
 
     final Path portsFile = dataPath.resolve(PORTS_FILENAME);
@@ -39,7 +39,7 @@ public class ProxyIntegrationTest extends IntegrationTestBase {
   private static final Iterable<Entry<String, String>> RESPONSE_HEADERS =
       singletonList(ImmutablePair.of("Content-Type", "Application/Json"));
 
-  private static final String ROOT_PATH = "/arbitraryRootPath";
+  static final String ROOT_PATH = "/arbitraryRootPath";
 
   @BeforeAll
   public static void localSetup() {
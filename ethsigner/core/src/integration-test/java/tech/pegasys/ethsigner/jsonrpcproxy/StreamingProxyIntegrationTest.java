@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.jsonrpcproxy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+
+/** Runs the proxy tests against the streaming pass through handler. */
+public class StreamingProxyIntegrationTest extends ProxyIntegrationTest {
+
+  @BeforeAll
+  public static void localSetup() {
+    try {
+      setupEthSigner(DEFAULT_CHAIN_ID, ROOT_PATH, List.of("sample.com"), true);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to setup ethsigner");
+    }
+  }
+}
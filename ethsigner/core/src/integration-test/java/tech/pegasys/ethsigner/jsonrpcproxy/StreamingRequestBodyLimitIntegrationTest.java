@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.jsonrpcproxy;
+
+import static io.restassured.RestAssured.given;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import com.google.common.base.Strings;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Checks the body size limit applies to request bodies streamed to the downstream node. */
+public class StreamingRequestBodyLimitIntegrationTest extends IntegrationTestBase {
+
+  private static final int MAX_REQUEST_BODY_SIZE = 256;
+
+  @BeforeAll
+  public static void localSetup() {
+    try {
+      setupEthSigner(DEFAULT_CHAIN_ID, "", List.of("sample.com"), true, MAX_REQUEST_BODY_SIZE);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to setup ethsigner");
+    }
+  }
+
+  @Test
+  void chunkedBodyExceedingMaximumSizeIsRejected() {
+    final byte[] body = Strings.repeat("a", 4 * MAX_REQUEST_BODY_SIZE).getBytes(UTF_8);
+
+    // a body of unknown length is sent chunked, without a Content-Length header
+    final Response response = given().when().body(new ByteArrayInputStream(body)).post("/login");
+
+    assertThat(response.statusCode()).isEqualTo(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code());
+    assertThat(clientAndServer.retrieveRecordedRequests(request().withPath("/login"))).isEmpty();
+  }
+
+  @Test
+  void chunkedBodyWithinMaximumSizeIsForwarded() {
+    final byte[] body = Strings.repeat("a", MAX_REQUEST_BODY_SIZE).getBytes(UTF_8);
+    clientAndServer.when(request().withPath("/small")).respond(response().withBody("ok"));
+
+    final Response response = given().when().body(new ByteArrayInputStream(body)).post("/small");
+
+    assertThat(response.statusCode()).isEqualTo(HttpResponseStatus.OK.code());
+    assertThat(response.body().asString()).isEqualTo("ok");
+  }
+}
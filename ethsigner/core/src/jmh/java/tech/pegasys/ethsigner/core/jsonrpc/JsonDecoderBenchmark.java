@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.jsonrpc;
+
+import tech.pegasys.ethsigner.core.EthSigner;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonDecoderBenchmark {
+
+  private static final String TRANSACTION =
+      "{\"from\":\"0xfe3b557e8fb62b89f4916b721be55ceb828dbd73\","
+          + "\"to\":\"0x627306090abaB3A6e1400e9345bC60c78a8BEf57\","
+          + "\"gas\":\"0x76c0\",\"gasPrice\":\"0x9184e72a000\",\"nonce\":\"0x1\","
+          + "\"value\":\"0x0\","
+          + "\"data\":\"0xd46e8dd67c5d32be8d46e8dd67c5d32be8058bb8eb970870f07244\"}";
+
+  private JsonDecoder decoder;
+  private Buffer request;
+  private Buffer transaction;
+
+  @Setup
+  public void setup() {
+    decoder = EthSigner.createJsonDecoder();
+    request =
+        Buffer.buffer(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"eth_sendTransaction\",\"params\":["
+                + TRANSACTION
+                + "],\"id\":1}");
+    transaction = Buffer.buffer(TRANSACTION);
+  }
+
+  @Benchmark
+  public JsonRpcRequest decodeJsonRpcRequest() {
+    return decoder.decodeValue(request, JsonRpcRequest.class);
+  }
+
+  @Benchmark
+  public EthSendTransactionJsonParameters decodeTransactionParameters() {
+    return decoder.decodeValue(transaction, EthSendTransactionJsonParameters.class);
+  }
+
+  /** Binds the params of a request as it was done before params were bound in a single pass. */
+  @Benchmark
+  public EthSendTransactionJsonParameters bindParamsThroughJsonObject() {
+    final JsonRpcRequest rpcRequest = decoder.decodeValue(request, JsonRpcRequest.class);
+    final Object params = ((List<?>) rpcRequest.getParams()).get(0);
+    return decoder.decodeValue(
+        JsonObject.mapFrom(params).toBuffer(), EthSendTransactionJsonParameters.class);
+  }
+
+  @Benchmark
+  public EthSendTransactionJsonParameters bindParamsInSinglePass() {
+    final JsonRpcRequest rpcRequest = decoder.decodeValue(request, JsonRpcRequest.class);
+    return decoder.decodeParams(rpcRequest, EthSendTransactionJsonParameters.class);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.signing;
+
+import tech.pegasys.ethsigner.core.Eth1AddressSignerIdentifier;
+import tech.pegasys.ethsigner.core.jsonrpc.EthSendTransactionJsonParameters;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.EthTransaction;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.GoQuorumPrivateTransaction;
+import tech.pegasys.signers.secp256k1.api.Signer;
+import tech.pegasys.signers.secp256k1.api.SignerIdentifier;
+import tech.pegasys.signers.secp256k1.filebased.CredentialSigner;
+
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Future;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.web3j.crypto.Credentials;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionSerializerBenchmark {
+
+  private static final long CHAIN_ID = 2018;
+  private static final String PRIVATE_KEY =
+      "8f2a55949038a9610f50fb23b5883af3b4ecb3c3bb792cbcefbd1542c692be63";
+  private static final String DATA =
+      "0xd46e8dd67c5d32be8d46e8dd67c5d32be8058bb8eb970870f072445675058bb8eb970870f072445675";
+  private static final String LOOKUP_ID =
+      "0x9aefeff5ef9cef1dfdeffccff0afefff6fef0ff9faef9feffaeff3ffeffcf8feefafefeffdefef98ba";
+
+  private Signer signer;
+  private EthTransaction ethTransaction;
+  private GoQuorumPrivateTransaction goQuorumTransaction;
+  private TransactionSerializer transactionSerializer;
+  private GoQuorumPrivateTransactionSerializer goQuorumSerializer;
+
+  @Setup
+  public void setup() {
+    signer = new CredentialSigner(Credentials.create(PRIVATE_KEY));
+    transactionSerializer = new TransactionSerializer(signer, CHAIN_ID);
+    goQuorumSerializer = new GoQuorumPrivateTransactionSerializer(signer, CHAIN_ID);
+
+    ethTransaction = new EthTransaction(transactionParameters(), null, new JsonRpcRequestId(1));
+
+    final EthSendTransactionJsonParameters goQuorumParameters = transactionParameters();
+    goQuorumParameters.privateFor(new String[] {"GV8m0VZAccYGAAYMBuYQtKEj0XtpXeaw2APcoBmtA2w="});
+    goQuorumTransaction =
+        GoQuorumPrivateTransaction.from(
+            goQuorumParameters,
+            null,
+            data -> Future.succeededFuture(LOOKUP_ID),
+            new JsonRpcRequestId(1));
+    // the nonce is user specified and the lookup id completes immediately
+    goQuorumTransaction.updateFieldsIfRequired();
+  }
+
+  @Benchmark
+  public String serializeEthTransaction() {
+    return transactionSerializer.serialize(ethTransaction);
+  }
+
+  @Benchmark
+  public String serializeGoQuorumPrivateTransaction() {
+    return goQuorumSerializer.serialize(goQuorumTransaction);
+  }
+
+  @Benchmark
+  public byte[] rlpEncodeEthTransaction() {
+    return ethTransaction.rlpEncode(CHAIN_ID);
+  }
+
+  @Benchmark
+  public SignerIdentifier signerIdentifierFromPublicKey() {
+    return Eth1AddressSignerIdentifier.fromPublicKey(signer.getPublicKey());
+  }
+
+  private static EthSendTransactionJsonParameters transactionParameters() {
+    final EthSendTransactionJsonParameters params =
+        new EthSendTransactionJsonParameters("0xfe3b557e8fb62b89f4916b721be55ceb828dbd73");
+    params.receiver("0x627306090abaB3A6e1400e9345bC60c78a8BEf57");
+    params.gas("0x76c0");
+    params.gasPrice("0x9184e72a000");
+    params.nonce("0x1");
+    params.value("0x0");
+    params.data(DATA);
+    return params;
+  }
+}
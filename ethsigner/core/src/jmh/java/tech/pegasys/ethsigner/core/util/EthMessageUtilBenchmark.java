@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EthMessageUtilBenchmark {
+
+  @Param({"32", "1024"})
+  private int messageLength;
+
+  private String hexMessage;
+  private String textMessage;
+
+  @Setup
+  public void setup() {
+    hexMessage = "0x" + "ab".repeat(messageLength);
+    textMessage = "a".repeat(messageLength);
+  }
+
+  @Benchmark
+  public Bytes hexMessage() {
+    return EthMessageUtil.getEthereumMessage(hexMessage);
+  }
+
+  @Benchmark
+  public Bytes textMessage() {
+    return EthMessageUtil.getEthereumMessage(textMessage);
+  }
+}
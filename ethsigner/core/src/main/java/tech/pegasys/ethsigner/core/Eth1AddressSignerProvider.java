@@ -12,6 +12,8 @@
  */
 package tech.pegasys.ethsigner.core;
 
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.signers.secp256k1.api.Signature;
 import tech.pegasys.signers.secp256k1.api.Signer;
 import tech.pegasys.signers.secp256k1.api.SignerProvider;
 
@@ -19,20 +21,57 @@ import java.security.interfaces.ECPublicKey;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+
 /** Wrapper on SignerProvider that uses address (Eth1AddressSignerIdentifier) to load signer */
 public class Eth1AddressSignerProvider {
   private final SignerProvider signerProvider;
+  private final EthSignerMetrics metrics;
 
   public Eth1AddressSignerProvider(final SignerProvider signerProvider) {
+    this(signerProvider, EthSignerMetrics.noop());
+  }
+
+  public Eth1AddressSignerProvider(
+      final SignerProvider signerProvider, final EthSignerMetrics metrics) {
     this.signerProvider = signerProvider;
+    this.metrics = metrics;
   }
 
   /* Gets a signer from its address, address is expected to be hex value, with or without 0x */
   public Optional<Signer> getSigner(final String address) {
-    return signerProvider.getSigner(new Eth1AddressSignerIdentifier(address));
+    final Eth1AddressSignerIdentifier identifier = new Eth1AddressSignerIdentifier(address);
+    return signerProvider
+        .getSigner(identifier)
+        .map(signer -> new TimedSigner(signer, identifier.toStringIdentifier()));
   }
 
   public Set<ECPublicKey> availablePublicKeys() {
     return signerProvider.availablePublicKeys(Eth1AddressSignerIdentifier::fromPublicKey);
   }
+
+  private class TimedSigner implements Signer {
+    private final Signer signer;
+    private final String address;
+
+    private TimedSigner(final Signer signer, final String address) {
+      this.signer = signer;
+      this.address = address;
+    }
+
+    @Override
+    public Signature sign(final byte[] data) {
+      final TimingContext timer = metrics.startSigning(address);
+      try {
+        return signer.sign(data);
+      } finally {
+        timer.stopTimer();
+      }
+    }
+
+    @Override
+    public ECPublicKey getPublicKey() {
+      return signer.getPublicKey();
+    }
+  }
 }
@@ -15,9 +15,24 @@ package tech.pegasys.ethsigner.core;
 import tech.pegasys.ethsigner.core.config.ClientAuthConstraints;
 import tech.pegasys.ethsigner.core.config.Config;
 import tech.pegasys.ethsigner.core.config.TlsOptions;
+import tech.pegasys.ethsigner.core.downstream.CircuitBreaker;
+import tech.pegasys.ethsigner.core.downstream.ConcurrencyLimiter;
+import tech.pegasys.ethsigner.core.downstream.DownstreamEndpoint;
+import tech.pegasys.ethsigner.core.downstream.DownstreamLoadBalancer;
+import tech.pegasys.ethsigner.core.downstream.HedgePolicy;
+import tech.pegasys.ethsigner.core.http.AdmissionHandler;
+import tech.pegasys.ethsigner.core.http.RateLimiter;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonDecoder;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
 import tech.pegasys.ethsigner.core.metrics.MetricsEndpoint;
+import tech.pegasys.ethsigner.core.requesthandler.passthrough.ResponseCache;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DeliveryRetryPolicy;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DownstreamPathCalculator;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.IdempotencyCache;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.NonceManager;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.RetryScheduler;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.SenderQueues;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.TransactionJournal;
 import tech.pegasys.ethsigner.core.util.FileUtil;
 import tech.pegasys.signers.secp256k1.api.SignerProvider;
 
@@ -25,10 +40,15 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.NoSuchFileException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.http.ClientAuth;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.net.PfxOptions;
@@ -39,14 +59,15 @@ import org.apache.tuweni.net.tls.VertxTrustOptions;
 public final class EthSigner {
 
   private static final Logger LOG = LogManager.getLogger();
+  private static final String JOURNAL_DIRECTORY = "journal";
 
   private final Config config;
-  private final Eth1AddressSignerProvider signerProvider;
+  private final SignerProvider signerProvider;
   private final WebClientOptionsFactory webClientOptionsFactory = new WebClientOptionsFactory();
 
   public EthSigner(final Config config, final SignerProvider signerProvider) {
     this.config = config;
-    this.signerProvider = new Eth1AddressSignerProvider(signerProvider);
+    this.signerProvider = signerProvider;
   }
 
   public void run() {
@@ -81,22 +102,147 @@ public final class EthSigner {
             config.getMetricsHost(),
             config.getMetricCategories(),
             config.getMetricsHostAllowList());
+    final EthSignerMetrics metrics = new EthSignerMetrics(metricsEndpoint.getMetricsSystem());
 
-    final Vertx vertx = Vertx.vertx();
+    final Optional<NonceManager> nonceManager =
+        config.isLocalNonceManagementEnabled()
+            ? Optional.of(new NonceManager(config.getLocalNonceIdleTimeout()))
+            : Optional.empty();
+
+    final Optional<SenderQueues> senderQueues =
+        config.isSenderQueuesEnabled()
+            ? Optional.of(
+                new SenderQueues(
+                    config.getSenderQueueMaxDepth(), config.getSenderQueueMaxSenders()))
+            : Optional.empty();
+
+    final Optional<ResponseCache> responseCache =
+        config.isDownstreamHttpCacheEnabled()
+            ? Optional.of(
+                new ResponseCache(
+                    ResponseCache.policies(config.getDownstreamHttpCacheTtls()),
+                    config.getDownstreamHttpCacheMaxEntries(),
+                    config.isDownstreamHttpHeadTrackingEnabled(),
+                    metrics))
+            : Optional.empty();
+
+    final Optional<IdempotencyCache> idempotencyCache =
+        config.isIdempotencyKeysEnabled()
+            ? Optional.of(
+                new IdempotencyCache(
+                    config.getIdempotencyKeyMaxEntries(),
+                    config.getIdempotencyKeyExpiry(),
+                    metrics))
+            : Optional.empty();
+
+    final AdmissionHandler admissionHandler =
+        new AdmissionHandler(
+            config.getHttpMaxInFlightRequests(),
+            rateLimiter(config.getHttpClientRateLimit()),
+            config.getHttpMaxRequestBodySize(),
+            metrics);
+
+    final Optional<CircuitBreaker> circuitBreaker =
+        config.isDownstreamHttpCircuitBreakerEnabled()
+            ? Optional.of(
+                new CircuitBreaker(
+                    config.getDownstreamHttpCircuitBreakerFailureRate(),
+                    config.getDownstreamHttpCircuitBreakerWindow(),
+                    config.getDownstreamHttpCircuitBreakerOpenDuration(),
+                    metrics))
+            : Optional.empty();
+
+    final Optional<ConcurrencyLimiter> concurrencyLimiter =
+        config.isDownstreamHttpAdaptiveConcurrencyEnabled()
+            ? Optional.of(
+                new ConcurrencyLimiter(
+                    config.getDownstreamHttpConcurrencyMaxLimit(),
+                    config.getDownstreamHttpConcurrencyMaxQueued(),
+                    downstreamHttpRequestTimeout,
+                    metrics))
+            : Optional.empty();
+
+    final Optional<HedgePolicy> hedgePolicy =
+        config.isDownstreamHttpHedgingEnabled()
+            ? Optional.of(
+                new HedgePolicy(
+                    Set.copyOf(config.getDownstreamHttpHedgedMethods()),
+                    config.getDownstreamHttpHedgePercentile(),
+                    config.getDownstreamHttpHedgeBudgetRatio(),
+                    metrics))
+            : Optional.empty();
+
+    final Vertx vertx =
+        Vertx.vertx(
+            new VertxOptions()
+                .setEventLoopPoolSize(config.getEventLoopPoolSize())
+                .setWorkerPoolSize(config.getWorkerPoolSize()));
     try {
-      final Runner runner =
-          new Runner(
-              config.getChainId().id(),
-              signerProvider,
-              webClientOptionsFactory.createWebClientOptions(config),
-              applyConfigTlsSettingsTo(serverOptions),
-              downstreamHttpRequestTimeout,
-              new DownstreamPathCalculator(config.getDownstreamHttpPath()),
-              jsonDecoder,
-              config.getDataPath(),
+      final Optional<TransactionJournal> transactionJournal =
+          config.isTransactionJournalEnabled()
+              ? Optional.of(
+                  TransactionJournal.open(vertx, config.getDataPath().resolve(JOURNAL_DIRECTORY)))
+              : Optional.empty();
+      final RetryScheduler retryScheduler =
+          new RetryScheduler(
               vertx,
-              config.getCorsAllowedOrigins(),
-              metricsEndpoint);
+              config.getNonceRetryInitialBackoff(),
+              config.getNonceRetryMaxBackoff(),
+              config.getNonceRetryJitter(),
+              config.getNonceRetryBudgetRatio(),
+              metrics);
+      final Runner runner =
+          Runner.builder()
+              .withChainId(config.getChainId().id())
+              .withSignerProvider(new Eth1AddressSignerProvider(signerProvider, metrics))
+              .withClientOptions(webClientOptionsFactory.createWebClientOptions(config))
+              .withServerOptions(applyConfigTlsSettingsTo(serverOptions))
+              .withHttpRequestTimeout(downstreamHttpRequestTimeout)
+              .withRequestDeadline(config.getHttpRequestDeadline())
+              .withDownstreamPathCalculator(
+                  new DownstreamPathCalculator(config.getDownstreamHttpPath()))
+              .withDownstreamLoadBalancer(createDownstreamLoadBalancer())
+              .withDownstreamHealthCheckInterval(config.getDownstreamHttpHealthCheckInterval())
+              .withChainHeadPollInterval(
+                  config.isDownstreamHttpHeadTrackingEnabled()
+                      ? Optional.of(config.getDownstreamHttpHeadPollInterval())
+                      : Optional.empty())
+              .withJsonDecoder(jsonDecoder)
+              .withDataPath(config.getDataPath())
+              .withVertx(vertx)
+              .withAllowedCorsOrigins(config.getCorsAllowedOrigins())
+              .withMetricsEndpoint(metricsEndpoint)
+              .withMetrics(metrics)
+              .withNonceManager(nonceManager)
+              .withSenderQueues(senderQueues)
+              .withRetryScheduler(retryScheduler)
+              // recovered transactions are redelivered as asynchronously submitted ones are
+              .withDeliveryRetryPolicy(
+                  config.isAsyncSubmissionEnabled() || config.isTransactionJournalEnabled()
+                      ? Optional.of(
+                          new DeliveryRetryPolicy(
+                              vertx,
+                              config.getAsyncDeliveryMaxBackoff(),
+                              config.getAsyncDeliveryExpiry(),
+                              metrics))
+                      : Optional.empty())
+              .withAsyncSubmissionEnabled(config.isAsyncSubmissionEnabled())
+              .withTransactionJournal(transactionJournal)
+              .withIdempotencyCache(idempotencyCache)
+              .withAdmissionHandler(admissionHandler)
+              .withMaxBatchSize(config.getHttpMaxBatchSize())
+              .withSenderRateLimiter(rateLimiter(config.getSenderRateLimit()))
+              .withCircuitBreaker(circuitBreaker)
+              .withConcurrencyLimiter(concurrencyLimiter)
+              .withResponseCache(responseCache)
+              .withCoalescedMethods(
+                  config.isDownstreamHttpCoalescingEnabled()
+                      ? Set.copyOf(config.getDownstreamHttpCoalescedMethods())
+                      : Set.of())
+              .withHedgePolicy(hedgePolicy)
+              .withHttpServerInstances(config.getHttpServerInstances())
+              .withStreamingPassThroughEnabled(config.isDownstreamHttpStreamingEnabled())
+              .build();
 
       runner.start();
     } catch (final Throwable t) {
@@ -106,6 +252,22 @@ public final class EthSigner {
     }
   }
 
+  private static Optional<RateLimiter> rateLimiter(final double permitsPerSecond) {
+    return permitsPerSecond > 0 ? Optional.of(new RateLimiter(permitsPerSecond)) : Optional.empty();
+  }
+
+  private DownstreamLoadBalancer createDownstreamLoadBalancer() {
+    final List<DownstreamEndpoint> endpoints = new ArrayList<>();
+    endpoints.add(
+        new DownstreamEndpoint(config.getDownstreamHttpHost(), config.getDownstreamHttpPort()));
+    config
+        .getDownstreamHttpEndpoints()
+        .forEach(
+            endpoint ->
+                endpoints.add(new DownstreamEndpoint(endpoint.getHost(), endpoint.getPort())));
+    return new DownstreamLoadBalancer(endpoints);
+  }
+
   private HttpServerOptions applyConfigTlsSettingsTo(final HttpServerOptions input) {
 
     if (config.getTlsOptions().isEmpty()) {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.util.function.Function;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Promise;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.ext.web.Router;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Serves JSON-RPC requests from a single event loop. Multiple instances are deployed to spread the
+ * load across cores; each instance has its own router and downstream connection pool, while Vert.x
+ * shares the listening socket between them.
+ */
+class JsonRpcServerVerticle extends AbstractVerticle {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final HttpServerOptions serverOptions;
+  private final HttpClientOptions clientOptions;
+  private final Function<HttpClient, Router> routerFactory;
+  private final EthSignerMetrics metrics;
+  private HttpServer httpServer;
+
+  JsonRpcServerVerticle(
+      final HttpServerOptions serverOptions,
+      final HttpClientOptions clientOptions,
+      final Function<HttpClient, Router> routerFactory,
+      final EthSignerMetrics metrics) {
+    this.serverOptions = serverOptions;
+    this.clientOptions = clientOptions;
+    this.routerFactory = routerFactory;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void start(final Promise<Void> startPromise) {
+    final HttpClient downstreamConnection = vertx.createHttpClient(clientOptions);
+    downstreamConnection.connectionHandler(
+        connection -> {
+          metrics.downstreamConnectionOpened();
+          connection.closeHandler(closed -> metrics.downstreamConnectionClosed());
+        });
+    vertx
+        .createHttpServer(serverOptions)
+        .requestHandler(routerFactory.apply(downstreamConnection))
+        .listen()
+        .onSuccess(
+            server -> {
+              httpServer = server;
+              startPromise.complete();
+            })
+        .onFailure(
+            error -> {
+              LOG.error(
+                  "Failed to create HTTP Server on {}:{}",
+                  serverOptions.getHost(),
+                  serverOptions.getPort());
+              startPromise.fail(error);
+            });
+  }
+
+  int actualPort() {
+    return httpServer.actualPort();
+  }
+}
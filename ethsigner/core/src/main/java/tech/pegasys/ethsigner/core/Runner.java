@@ -12,23 +12,51 @@
  */
 package tech.pegasys.ethsigner.core;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import tech.pegasys.ethsigner.core.downstream.ChainHead;
+import tech.pegasys.ethsigner.core.downstream.ChainHeadTracker;
+import tech.pegasys.ethsigner.core.downstream.CircuitBreaker;
+import tech.pegasys.ethsigner.core.downstream.ConcurrencyLimiter;
+import tech.pegasys.ethsigner.core.downstream.DownstreamHealthChecker;
+import tech.pegasys.ethsigner.core.downstream.DownstreamLoadBalancer;
+import tech.pegasys.ethsigner.core.downstream.HedgePolicy;
+import tech.pegasys.ethsigner.core.http.AdmissionHandler;
 import tech.pegasys.ethsigner.core.http.HttpResponseFactory;
+import tech.pegasys.ethsigner.core.http.JsonRpcBatchHandler;
 import tech.pegasys.ethsigner.core.http.JsonRpcErrorHandler;
 import tech.pegasys.ethsigner.core.http.JsonRpcHandler;
 import tech.pegasys.ethsigner.core.http.LogErrorHandler;
+import tech.pegasys.ethsigner.core.http.RateLimiter;
 import tech.pegasys.ethsigner.core.http.RequestMapper;
 import tech.pegasys.ethsigner.core.http.UpcheckHandler;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonDecoder;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
 import tech.pegasys.ethsigner.core.metrics.MetricsEndpoint;
+import tech.pegasys.ethsigner.core.requesthandler.JsonRpcRequestHandler;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitter;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
 import tech.pegasys.ethsigner.core.requesthandler.internalresponse.EthAccountsResultProvider;
 import tech.pegasys.ethsigner.core.requesthandler.internalresponse.EthSignResultProvider;
 import tech.pegasys.ethsigner.core.requesthandler.internalresponse.EthSignTransactionResultProvider;
 import tech.pegasys.ethsigner.core.requesthandler.internalresponse.InternalResponseHandler;
+import tech.pegasys.ethsigner.core.requesthandler.passthrough.CachingPassThroughHandler;
+import tech.pegasys.ethsigner.core.requesthandler.passthrough.HedgingForwarder;
+import tech.pegasys.ethsigner.core.requesthandler.passthrough.JsonRpcForwarder;
 import tech.pegasys.ethsigner.core.requesthandler.passthrough.PassThroughHandler;
+import tech.pegasys.ethsigner.core.requesthandler.passthrough.RequestCoalescer;
+import tech.pegasys.ethsigner.core.requesthandler.passthrough.ResponseCache;
+import tech.pegasys.ethsigner.core.requesthandler.passthrough.StreamingPassThroughHandler;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DeliveryRetryPolicy;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DownstreamPathCalculator;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.IdempotencyCache;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.NonceManager;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.RecoveredTransactionTransmitter;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.RetryScheduler;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.SendTransactionHandler;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.SenderQueues;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.TransactionJournal;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.TransactionFactory;
 
 import java.io.File;
@@ -36,22 +64,23 @@ import java.io.FileOutputStream;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 
 import com.google.common.collect.Sets;
 import io.netty.handler.codec.http.HttpHeaderValues;
-import io.vertx.core.Handler;
+import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
-import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.handler.BodyHandler;
 import io.vertx.ext.web.handler.CorsHandler;
@@ -69,7 +98,11 @@ public class Runner {
   private final Eth1AddressSignerProvider signerProvider;
   private final HttpClientOptions clientOptions;
   private final Duration httpRequestTimeout;
+  private final Duration requestDeadline;
   private final DownstreamPathCalculator downstreamPathCalculator;
+  private final DownstreamLoadBalancer downstreamLoadBalancer;
+  private final Duration downstreamHealthCheckInterval;
+  private final Optional<Duration> chainHeadPollInterval;
   private final HttpResponseFactory responseFactory = new HttpResponseFactory();
   private final JsonDecoder jsonDecoder;
   private final Path dataPath;
@@ -77,56 +110,177 @@ public class Runner {
   private final Collection<String> allowedCorsOrigins;
   private final HttpServerOptions serverOptions;
   private final MetricsEndpoint metricsEndpoint;
+  private final EthSignerMetrics metrics;
+  private final Optional<NonceManager> nonceManager;
+  private final Optional<SenderQueues> senderQueues;
+  private final RetryScheduler retryScheduler;
+  private final Optional<DeliveryRetryPolicy> deliveryRetryPolicy;
+  private final boolean asyncSubmissionEnabled;
+  private final Optional<TransactionJournal> transactionJournal;
+  private final Optional<IdempotencyCache> idempotencyCache;
+  private final AdmissionHandler admissionHandler;
+  private final int maxBatchSize;
+  private final Optional<RateLimiter> senderRateLimiter;
+  private final Optional<CircuitBreaker> circuitBreaker;
+  private final Optional<ConcurrencyLimiter> concurrencyLimiter;
+  private final Optional<ResponseCache> responseCache;
+  private final Set<String> coalescedMethods;
+  private final Optional<HedgePolicy> hedgePolicy;
+  private final int httpServerInstances;
+  private final boolean streamingPassThroughEnabled;
+
+  private Runner(final Builder builder) {
+    checkArgument(
+        builder.deliveryRetryPolicy.isPresent()
+            || (!builder.asyncSubmissionEnabled && builder.transactionJournal.isEmpty()),
+        "A delivery retry policy is required for asynchronous submission and the journal");
+    this.chainId = checkNotNull(builder.chainId, "chainId");
+    this.signerProvider = checkNotNull(builder.signerProvider, "signerProvider");
+    this.clientOptions = checkNotNull(builder.clientOptions, "clientOptions");
+    this.serverOptions = checkNotNull(builder.serverOptions, "serverOptions");
+    this.httpRequestTimeout = checkNotNull(builder.httpRequestTimeout, "httpRequestTimeout");
+    this.requestDeadline = checkNotNull(builder.requestDeadline, "requestDeadline");
+    this.downstreamPathCalculator =
+        checkNotNull(builder.downstreamPathCalculator, "downstreamPathCalculator");
+    this.downstreamLoadBalancer =
+        checkNotNull(builder.downstreamLoadBalancer, "downstreamLoadBalancer");
+    this.downstreamHealthCheckInterval =
+        checkNotNull(builder.downstreamHealthCheckInterval, "downstreamHealthCheckInterval");
+    this.chainHeadPollInterval = builder.chainHeadPollInterval;
+    this.jsonDecoder = checkNotNull(builder.jsonDecoder, "jsonDecoder");
+    this.dataPath = builder.dataPath;
+    this.vertx = checkNotNull(builder.vertx, "vertx");
+    this.allowedCorsOrigins = builder.allowedCorsOrigins;
+    this.metricsEndpoint = checkNotNull(builder.metricsEndpoint, "metricsEndpoint");
+    this.metrics = checkNotNull(builder.metrics, "metrics");
+    this.nonceManager = builder.nonceManager;
+    this.senderQueues = builder.senderQueues;
+    this.retryScheduler = checkNotNull(builder.retryScheduler, "retryScheduler");
+    this.deliveryRetryPolicy = builder.deliveryRetryPolicy;
+    this.asyncSubmissionEnabled = builder.asyncSubmissionEnabled;
+    this.transactionJournal = builder.transactionJournal;
+    this.idempotencyCache = builder.idempotencyCache;
+    this.admissionHandler = checkNotNull(builder.admissionHandler, "admissionHandler");
+    this.maxBatchSize = builder.maxBatchSize;
+    this.senderRateLimiter = builder.senderRateLimiter;
+    this.circuitBreaker = builder.circuitBreaker;
+    this.concurrencyLimiter = builder.concurrencyLimiter;
+    this.responseCache = builder.responseCache;
+    this.coalescedMethods = builder.coalescedMethods;
+    this.hedgePolicy = builder.hedgePolicy;
+    this.httpServerInstances = builder.httpServerInstances;
+    this.streamingPassThroughEnabled = builder.streamingPassThroughEnabled;
+  }
 
-  public Runner(
-      final long chainId,
-      final Eth1AddressSignerProvider signerProvider,
-      final HttpClientOptions clientOptions,
-      final HttpServerOptions serverOptions,
-      final Duration httpRequestTimeout,
-      final DownstreamPathCalculator downstreamPathCalculator,
-      final JsonDecoder jsonDecoder,
-      final Path dataPath,
-      final Vertx vertx,
-      final Collection<String> allowedCorsOrigins,
-      final MetricsEndpoint metricsEndpoint) {
-    this.chainId = chainId;
-    this.signerProvider = signerProvider;
-    this.clientOptions = clientOptions;
-    this.httpRequestTimeout = httpRequestTimeout;
-    this.downstreamPathCalculator = downstreamPathCalculator;
-    this.jsonDecoder = jsonDecoder;
-    this.dataPath = dataPath;
-    this.vertx = vertx;
-    this.allowedCorsOrigins = allowedCorsOrigins;
-    this.serverOptions = serverOptions;
-    this.metricsEndpoint = metricsEndpoint;
+  public static Builder builder() {
+    return new Builder();
   }
 
   public void start() throws ExecutionException, InterruptedException {
     metricsEndpoint.start(vertx);
-    final HttpServer httpServer = createServerAndWait(vertx, router());
-    LOG.info("Server is up, and listening on {}", httpServer.actualPort());
+    final int connectionsPerInstance =
+        clientOptions.getProtocolVersion() == HttpVersion.HTTP_2
+            ? clientOptions.getHttp2MaxPoolSize()
+            : clientOptions.getMaxPoolSize();
+    final int endpointCount = downstreamLoadBalancer.getEndpoints().size();
+    metrics.registerDownstreamPoolCapacity(
+        connectionsPerInstance * httpServerInstances * endpointCount);
+    if (endpointCount > 1) {
+      new DownstreamHealthChecker(
+              vertx,
+              vertx.createHttpClient(clientOptions),
+              downstreamLoadBalancer.getEndpoints(),
+              downstreamPathCalculator.calculateDownstreamPath("/"),
+              downstreamHealthCheckInterval,
+              httpRequestTimeout)
+          .start();
+    }
+    concurrencyLimiter.ifPresent(limiter -> limiter.start(vertx));
+    chainHeadPollInterval.ifPresent(this::startChainHeadTracker);
+    transactionJournal.ifPresent(this::resubmitRecoveredTransactions);
+    final int httpPort = deployServersAndWait();
+    LOG.info(
+        "Server is up, and listening on {} with {} instances", httpPort, httpServerInstances);
     if (dataPath != null) {
-      writePortsToFile(httpServer, metricsEndpoint.getPort());
+      writePortsToFile(httpPort, metricsEndpoint.getPort());
+    }
+  }
+
+  private void startChainHeadTracker(final Duration pollInterval) {
+    final ChainHeadTracker chainHeadTracker =
+        new ChainHeadTracker(
+            vertx,
+            vertx.createHttpClient(clientOptions),
+            downstreamLoadBalancer,
+            downstreamPathCalculator.calculateDownstreamPath("/"),
+            pollInterval,
+            httpRequestTimeout);
+    metrics.registerChainHead(
+        () -> chainHeadTracker.getHead().map(ChainHead::getNumber).orElse(0L));
+    responseCache.ifPresent(
+        cache -> chainHeadTracker.addListener(head -> cache.newHead(head.getNumber())));
+    chainHeadTracker.start();
+  }
+
+  private void resubmitRecoveredTransactions(final TransactionJournal journal) {
+    final List<TransactionJournal.Entry> recovered = journal.getRecovered();
+    if (recovered.isEmpty()) {
+      return;
     }
+    final VertxRequestTransmitterFactory transmitterFactory =
+        transmitterFactory(vertx.createHttpClient(clientOptions));
+    // redeliveries are scheduled on timers, so must be started on a context
+    vertx
+        .getOrCreateContext()
+        .runOnContext(
+            ignored ->
+                recovered.forEach(
+                    entry ->
+                        new RecoveredTransactionTransmitter(
+                                journal,
+                                entry,
+                                transmitterFactory,
+                                deliveryRetryPolicy.orElseThrow(),
+                                metrics)
+                            .send()));
   }
 
-  private Router router() {
-    final HttpClient downStreamConnection = vertx.createHttpClient(clientOptions);
+  private VertxRequestTransmitterFactory transmitterFactory(
+      final HttpClient downStreamConnection) {
+    return (responseBodyHandler, deadline) ->
+        new VertxRequestTransmitter(
+            downStreamConnection,
+            downstreamLoadBalancer,
+            httpRequestTimeout,
+            downstreamPathCalculator,
+            responseBodyHandler,
+            deadline,
+            circuitBreaker,
+            concurrencyLimiter,
+            metrics);
+  }
+
+  private Router router(final HttpClient downStreamConnection) {
     final VertxRequestTransmitterFactory transmitterFactory =
-        responseBodyHandler ->
-            new VertxRequestTransmitter(
-                vertx,
-                downStreamConnection,
-                httpRequestTimeout,
-                downstreamPathCalculator,
-                responseBodyHandler);
-    final RequestMapper requestMapper = createRequestMapper(transmitterFactory);
+        transmitterFactory(downStreamConnection);
+    final PassThroughHandler passThroughHandler = new PassThroughHandler(transmitterFactory);
+    final StreamingPassThroughHandler streamingPassThroughHandler =
+        new StreamingPassThroughHandler(
+            downStreamConnection,
+            downstreamLoadBalancer,
+            httpRequestTimeout,
+            downstreamPathCalculator,
+            circuitBreaker,
+            concurrencyLimiter,
+            admissionHandler.getMaxBodySize(),
+            metrics);
+    final RequestMapper requestMapper =
+        createRequestMapper(
+            transmitterFactory,
+            streamingPassThroughEnabled ? streamingPassThroughHandler : passThroughHandler);
 
     final Router router = Router.router(vertx);
 
-    // Handler for JSON-RPC requests
     router
         .route()
         .handler(
@@ -134,14 +288,6 @@ public class Runner {
                 .addRelativeOrigin(buildCorsRegexFromConfig())
                 .allowedHeaders(Sets.newHashSet("*", "content-type")));
 
-    router
-        .route(HttpMethod.POST, "/")
-        .produces(JSON)
-        .handler(ResponseContentTypeHandler.create())
-        .handler(BodyHandler.create())
-        .failureHandler(new JsonRpcErrorHandler(new HttpResponseFactory()))
-        .blockingHandler(new JsonRpcHandler(responseFactory, requestMapper, jsonDecoder), false);
-
     // Handler for UpCheck endpoint
     router
         .route(HttpMethod.GET, "/upcheck")
@@ -149,46 +295,110 @@ public class Runner {
         .handler(ResponseContentTypeHandler.create())
         .handler(BodyHandler.create())
         .failureHandler(new LogErrorHandler())
-        .handler(new UpcheckHandler());
+        .handler(new UpcheckHandler(circuitBreaker));
 
-    final PassThroughHandler passThroughHandler = new PassThroughHandler(transmitterFactory);
-    router.route().handler(BodyHandler.create()).handler(passThroughHandler);
+    // upcheck is answered regardless of load, all other requests are subject to admission control
+    router.route().handler(admissionHandler);
+
+    // Handler for JSON-RPC requests
+    router
+        .route(HttpMethod.POST, "/")
+        .produces(JSON)
+        .handler(ResponseContentTypeHandler.create())
+        .handler(admissionHandler.bodyHandler())
+        .failureHandler(new JsonRpcErrorHandler(new HttpResponseFactory()))
+        .handler(
+            new JsonRpcHandler(
+                responseFactory,
+                requestMapper,
+                jsonDecoder,
+                new JsonRpcBatchHandler(
+                    responseFactory, requestMapper, jsonDecoder, transmitterFactory, maxBatchSize),
+                requestDeadline,
+                metrics));
+
+    if (streamingPassThroughEnabled) {
+      router.route().handler(streamingPassThroughHandler);
+    } else {
+      router.route().handler(admissionHandler.bodyHandler()).handler(passThroughHandler);
+    }
     return router;
   }
 
   private RequestMapper createRequestMapper(
-      final VertxRequestTransmitterFactory transmitterFactory) {
-    final PassThroughHandler defaultHandler = new PassThroughHandler(transmitterFactory);
+      final VertxRequestTransmitterFactory transmitterFactory,
+      final JsonRpcRequestHandler defaultHandler) {
     final TransactionFactory transactionFactory =
-        new TransactionFactory(jsonDecoder, transmitterFactory);
+        new TransactionFactory(jsonDecoder, transmitterFactory, nonceManager, metrics);
 
     final SendTransactionHandler sendTransactionHandler =
-        new SendTransactionHandler(chainId, signerProvider, transactionFactory, transmitterFactory);
+        new SendTransactionHandler(
+            chainId,
+            signerProvider,
+            transactionFactory,
+            transmitterFactory,
+            nonceManager,
+            senderQueues,
+            retryScheduler,
+            asyncSubmissionEnabled ? deliveryRetryPolicy : Optional.empty(),
+            transactionJournal,
+            idempotencyCache,
+            senderRateLimiter,
+            metrics);
+
+    final JsonRpcForwarder directForwarder = JsonRpcForwarder.direct(transmitterFactory);
+    // a coalesced request is hedged once, however many requests share it
+    final JsonRpcForwarder hedgingForwarder =
+        hedgePolicy
+            .<JsonRpcForwarder>map(
+                policy ->
+                    new HedgingForwarder(
+                        directForwarder,
+                        transmitterFactory,
+                        downstreamLoadBalancer,
+                        policy,
+                        metrics))
+            .orElse(directForwarder);
+    final JsonRpcForwarder forwarder =
+        coalescedMethods.isEmpty()
+            ? hedgingForwarder
+            : new RequestCoalescer(hedgingForwarder, coalescedMethods, metrics);
 
     final RequestMapper requestMapper = new RequestMapper(defaultHandler);
+    // added first, so a cached, coalesced or hedged method can never displace one EthSigner handles
+    hedgePolicy.ifPresent(
+        policy ->
+            policy
+                .getMethods()
+                .forEach(method -> requestMapper.addHandler(method, forwarder::forward)));
+    coalescedMethods.forEach(method -> requestMapper.addHandler(method, forwarder::forward));
+    responseCache.ifPresent(
+        cache -> {
+          final CachingPassThroughHandler cachingHandler =
+              new CachingPassThroughHandler(forwarder, cache);
+          cache.getMethods().forEach(method -> requestMapper.addHandler(method, cachingHandler));
+        });
     requestMapper.addHandler("eth_sendTransaction", sendTransactionHandler);
     requestMapper.addHandler("eea_sendTransaction", sendTransactionHandler);
     requestMapper.addHandler(
         "eth_accounts",
         new InternalResponseHandler<>(
-            responseFactory, new EthAccountsResultProvider(signerProvider::availablePublicKeys)));
+            new EthAccountsResultProvider(signerProvider::availablePublicKeys)));
     requestMapper.addHandler(
-        "eth_sign",
-        new InternalResponseHandler<>(responseFactory, new EthSignResultProvider(signerProvider)));
+        "eth_sign", new InternalResponseHandler<>(new EthSignResultProvider(signerProvider)));
     requestMapper.addHandler(
         "eth_signTransaction",
         new InternalResponseHandler<>(
-            responseFactory,
             new EthSignTransactionResultProvider(chainId, signerProvider, jsonDecoder)));
     return requestMapper;
   }
 
-  private void writePortsToFile(final HttpServer server, final Optional<Integer> metricsPort) {
+  private void writePortsToFile(final int httpPort, final Optional<Integer> metricsPort) {
     final File portsFile = new File(dataPath.toFile(), "ethsigner.ports");
     portsFile.deleteOnExit();
 
     final Properties properties = new Properties();
-    properties.setProperty("http-jsonrpc", String.valueOf(server.actualPort()));
+    properties.setProperty("http-jsonrpc", String.valueOf(httpPort));
     metricsPort.ifPresent(port -> properties.setProperty("metrics-port", String.valueOf(port)));
 
     LOG.info(
@@ -217,28 +427,243 @@ public class Runner {
     }
   }
 
-  private HttpServer createServerAndWait(
-      final Vertx vertx, final Handler<HttpServerRequest> requestHandler)
-      throws ExecutionException, InterruptedException {
-
-    final HttpServer httpServer = vertx.createHttpServer(serverOptions);
-    final CompletableFuture<Void> serverRunningFuture = new CompletableFuture<>();
-    httpServer
-        .requestHandler(requestHandler)
-        .listen(
-            result -> {
-              if (result.succeeded()) {
-                serverRunningFuture.complete(null);
-              } else {
-                LOG.error(
-                    "Failed to create HTTP Server on {}:{}",
-                    serverOptions.getHost(),
-                    serverOptions.getPort());
-                serverRunningFuture.completeExceptionally(result.cause());
-              }
-            });
-    serverRunningFuture.get();
-
-    return httpServer;
+  private int deployServersAndWait() throws ExecutionException, InterruptedException {
+    // a negative port asks Vert.x to pick one random port and share it between all instances,
+    // whereas port 0 would bind each instance to a different random port
+    final HttpServerOptions instanceServerOptions =
+        serverOptions.getPort() == 0 && httpServerInstances > 1
+            ? new HttpServerOptions(serverOptions).setPort(-1)
+            : serverOptions;
+
+    final List<JsonRpcServerVerticle> servers = new CopyOnWriteArrayList<>();
+    vertx
+        .deployVerticle(
+            () -> {
+              final JsonRpcServerVerticle server =
+                  new JsonRpcServerVerticle(
+                      instanceServerOptions, clientOptions, this::router, metrics);
+              servers.add(server);
+              return server;
+            },
+            new DeploymentOptions().setInstances(httpServerInstances))
+        .toCompletionStage()
+        .toCompletableFuture()
+        .get();
+
+    return servers.get(0).actualPort();
+  }
+
+  /**
+   * Collects the services a {@link Runner} is built from. The optional services, which default to
+   * absent, need only be set when their features are enabled; the data path may be left unset for
+   * no ports file to be written.
+   */
+  public static class Builder {
+    private Long chainId;
+    private Eth1AddressSignerProvider signerProvider;
+    private HttpClientOptions clientOptions;
+    private HttpServerOptions serverOptions;
+    private Duration httpRequestTimeout;
+    private Duration requestDeadline;
+    private DownstreamPathCalculator downstreamPathCalculator;
+    private DownstreamLoadBalancer downstreamLoadBalancer;
+    private Duration downstreamHealthCheckInterval;
+    private Optional<Duration> chainHeadPollInterval = Optional.empty();
+    private JsonDecoder jsonDecoder;
+    private Path dataPath;
+    private Vertx vertx;
+    private Collection<String> allowedCorsOrigins = List.of();
+    private MetricsEndpoint metricsEndpoint;
+    private EthSignerMetrics metrics;
+    private Optional<NonceManager> nonceManager = Optional.empty();
+    private Optional<SenderQueues> senderQueues = Optional.empty();
+    private RetryScheduler retryScheduler;
+    private Optional<DeliveryRetryPolicy> deliveryRetryPolicy = Optional.empty();
+    private boolean asyncSubmissionEnabled;
+    private Optional<TransactionJournal> transactionJournal = Optional.empty();
+    private Optional<IdempotencyCache> idempotencyCache = Optional.empty();
+    private AdmissionHandler admissionHandler;
+    private int maxBatchSize = JsonRpcBatchHandler.DEFAULT_MAX_BATCH_SIZE;
+    private Optional<RateLimiter> senderRateLimiter = Optional.empty();
+    private Optional<CircuitBreaker> circuitBreaker = Optional.empty();
+    private Optional<ConcurrencyLimiter> concurrencyLimiter = Optional.empty();
+    private Optional<ResponseCache> responseCache = Optional.empty();
+    private Set<String> coalescedMethods = Set.of();
+    private Optional<HedgePolicy> hedgePolicy = Optional.empty();
+    private int httpServerInstances = 1;
+    private boolean streamingPassThroughEnabled;
+
+    private Builder() {}
+
+    public Builder withChainId(final long chainId) {
+      this.chainId = chainId;
+      return this;
+    }
+
+    public Builder withSignerProvider(final Eth1AddressSignerProvider signerProvider) {
+      this.signerProvider = signerProvider;
+      return this;
+    }
+
+    public Builder withClientOptions(final HttpClientOptions clientOptions) {
+      this.clientOptions = clientOptions;
+      return this;
+    }
+
+    public Builder withServerOptions(final HttpServerOptions serverOptions) {
+      this.serverOptions = serverOptions;
+      return this;
+    }
+
+    public Builder withHttpRequestTimeout(final Duration httpRequestTimeout) {
+      this.httpRequestTimeout = httpRequestTimeout;
+      return this;
+    }
+
+    public Builder withRequestDeadline(final Duration requestDeadline) {
+      this.requestDeadline = requestDeadline;
+      return this;
+    }
+
+    public Builder withDownstreamPathCalculator(
+        final DownstreamPathCalculator downstreamPathCalculator) {
+      this.downstreamPathCalculator = downstreamPathCalculator;
+      return this;
+    }
+
+    public Builder withDownstreamLoadBalancer(final DownstreamLoadBalancer downstreamLoadBalancer) {
+      this.downstreamLoadBalancer = downstreamLoadBalancer;
+      return this;
+    }
+
+    public Builder withDownstreamHealthCheckInterval(final Duration downstreamHealthCheckInterval) {
+      this.downstreamHealthCheckInterval = downstreamHealthCheckInterval;
+      return this;
+    }
+
+    public Builder withChainHeadPollInterval(final Optional<Duration> chainHeadPollInterval) {
+      this.chainHeadPollInterval = chainHeadPollInterval;
+      return this;
+    }
+
+    public Builder withJsonDecoder(final JsonDecoder jsonDecoder) {
+      this.jsonDecoder = jsonDecoder;
+      return this;
+    }
+
+    public Builder withDataPath(final Path dataPath) {
+      this.dataPath = dataPath;
+      return this;
+    }
+
+    public Builder withVertx(final Vertx vertx) {
+      this.vertx = vertx;
+      return this;
+    }
+
+    public Builder withAllowedCorsOrigins(final Collection<String> allowedCorsOrigins) {
+      this.allowedCorsOrigins = allowedCorsOrigins;
+      return this;
+    }
+
+    public Builder withMetricsEndpoint(final MetricsEndpoint metricsEndpoint) {
+      this.metricsEndpoint = metricsEndpoint;
+      return this;
+    }
+
+    public Builder withMetrics(final EthSignerMetrics metrics) {
+      this.metrics = metrics;
+      return this;
+    }
+
+    public Builder withNonceManager(final Optional<NonceManager> nonceManager) {
+      this.nonceManager = nonceManager;
+      return this;
+    }
+
+    public Builder withSenderQueues(final Optional<SenderQueues> senderQueues) {
+      this.senderQueues = senderQueues;
+      return this;
+    }
+
+    public Builder withRetryScheduler(final RetryScheduler retryScheduler) {
+      this.retryScheduler = retryScheduler;
+      return this;
+    }
+
+    public Builder withDeliveryRetryPolicy(
+        final Optional<DeliveryRetryPolicy> deliveryRetryPolicy) {
+      this.deliveryRetryPolicy = deliveryRetryPolicy;
+      return this;
+    }
+
+    public Builder withAsyncSubmissionEnabled(final boolean asyncSubmissionEnabled) {
+      this.asyncSubmissionEnabled = asyncSubmissionEnabled;
+      return this;
+    }
+
+    public Builder withTransactionJournal(final Optional<TransactionJournal> transactionJournal) {
+      this.transactionJournal = transactionJournal;
+      return this;
+    }
+
+    public Builder withIdempotencyCache(final Optional<IdempotencyCache> idempotencyCache) {
+      this.idempotencyCache = idempotencyCache;
+      return this;
+    }
+
+    public Builder withAdmissionHandler(final AdmissionHandler admissionHandler) {
+      this.admissionHandler = admissionHandler;
+      return this;
+    }
+
+    public Builder withMaxBatchSize(final int maxBatchSize) {
+      this.maxBatchSize = maxBatchSize;
+      return this;
+    }
+
+    public Builder withSenderRateLimiter(final Optional<RateLimiter> senderRateLimiter) {
+      this.senderRateLimiter = senderRateLimiter;
+      return this;
+    }
+
+    public Builder withCircuitBreaker(final Optional<CircuitBreaker> circuitBreaker) {
+      this.circuitBreaker = circuitBreaker;
+      return this;
+    }
+
+    public Builder withConcurrencyLimiter(final Optional<ConcurrencyLimiter> concurrencyLimiter) {
+      this.concurrencyLimiter = concurrencyLimiter;
+      return this;
+    }
+
+    public Builder withResponseCache(final Optional<ResponseCache> responseCache) {
+      this.responseCache = responseCache;
+      return this;
+    }
+
+    public Builder withCoalescedMethods(final Set<String> coalescedMethods) {
+      this.coalescedMethods = coalescedMethods;
+      return this;
+    }
+
+    public Builder withHedgePolicy(final Optional<HedgePolicy> hedgePolicy) {
+      this.hedgePolicy = hedgePolicy;
+      return this;
+    }
+
+    public Builder withHttpServerInstances(final int httpServerInstances) {
+      this.httpServerInstances = httpServerInstances;
+      return this;
+    }
+
+    public Builder withStreamingPassThroughEnabled(final boolean streamingPassThroughEnabled) {
+      this.streamingPassThroughEnabled = streamingPassThroughEnabled;
+      return this;
+    }
+
+    public Runner build() {
+      return new Runner(this);
+    }
   }
 }
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.net.PfxOptions;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.ext.web.client.WebClientOptions;
@@ -35,12 +36,32 @@ class WebClientOptionsFactory {
             .setDefaultPort(config.getDownstreamHttpPort())
             .setDefaultHost(config.getDownstreamHttpHost())
             .setTryUseCompression(true)
-            .setProxyOptions(getProxyOptions(config).orElse(null));
+            .setProxyOptions(getProxyOptions(config).orElse(null))
+            .setMaxPoolSize(config.getDownstreamHttpMaxPoolSize())
+            .setMaxWaitQueueSize(config.getDownstreamHttpMaxWaitQueueSize())
+            .setKeepAlive(true)
+            .setKeepAliveTimeout((int) config.getDownstreamHttpKeepAliveTimeout().toSeconds())
+            .setPipelining(config.isDownstreamHttpPipeliningEnabled());
 
     applyTlsOptions(clientOptions, config);
+    applyHttp2Options(clientOptions, config);
     return clientOptions;
   }
 
+  private static void applyHttp2Options(final WebClientOptions clientOptions, final Config config) {
+    if (!config.isDownstreamHttp2Enabled()) {
+      return;
+    }
+    // with TLS, h2 is negotiated by ALPN; otherwise h2c is requested via an HTTP/1.1 upgrade.
+    // Either way the connection falls back to HTTP/1.1 if the node does not support HTTP/2
+    clientOptions
+        .setProtocolVersion(HttpVersion.HTTP_2)
+        .setUseAlpn(clientOptions.isSsl())
+        .setHttp2ClearTextUpgrade(true)
+        .setHttp2MultiplexingLimit(config.getDownstreamHttp2MultiplexingLimit())
+        .setHttp2KeepAliveTimeout((int) config.getDownstreamHttpKeepAliveTimeout().toSeconds());
+  }
+
   private static Optional<ProxyOptions> getProxyOptions(final Config config) {
     final String proxyHost = config.getHttpProxyHost();
     if (proxyHost == null) {
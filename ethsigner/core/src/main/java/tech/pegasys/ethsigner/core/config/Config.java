@@ -19,9 +19,11 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import com.google.common.net.HostAndPort;
 import org.apache.logging.log4j.Level;
 import org.hyperledger.besu.plugin.services.metrics.MetricCategory;
 
@@ -68,4 +70,108 @@ public interface Config {
   String getHttpProxyUsername();
 
   String getHttpProxyPassword();
+
+  Integer getDownstreamHttpMaxPoolSize();
+
+  Integer getDownstreamHttpMaxWaitQueueSize();
+
+  Duration getDownstreamHttpKeepAliveTimeout();
+
+  Boolean isDownstreamHttpPipeliningEnabled();
+
+  Boolean isDownstreamHttp2Enabled();
+
+  Integer getDownstreamHttp2MultiplexingLimit();
+
+  Boolean isDownstreamHttpStreamingEnabled();
+
+  List<HostAndPort> getDownstreamHttpEndpoints();
+
+  Duration getDownstreamHttpHealthCheckInterval();
+
+  Boolean isDownstreamHttpHeadTrackingEnabled();
+
+  Duration getDownstreamHttpHeadPollInterval();
+
+  Boolean isDownstreamHttpCacheEnabled();
+
+  Integer getDownstreamHttpCacheMaxEntries();
+
+  Map<String, Duration> getDownstreamHttpCacheTtls();
+
+  Boolean isDownstreamHttpCoalescingEnabled();
+
+  List<String> getDownstreamHttpCoalescedMethods();
+
+  Boolean isDownstreamHttpAdaptiveConcurrencyEnabled();
+
+  Integer getDownstreamHttpConcurrencyMaxLimit();
+
+  Integer getDownstreamHttpConcurrencyMaxQueued();
+
+  Boolean isDownstreamHttpCircuitBreakerEnabled();
+
+  Double getDownstreamHttpCircuitBreakerFailureRate();
+
+  Integer getDownstreamHttpCircuitBreakerWindow();
+
+  Duration getDownstreamHttpCircuitBreakerOpenDuration();
+
+  Boolean isDownstreamHttpHedgingEnabled();
+
+  List<String> getDownstreamHttpHedgedMethods();
+
+  Double getDownstreamHttpHedgePercentile();
+
+  Double getDownstreamHttpHedgeBudgetRatio();
+
+  Boolean isLocalNonceManagementEnabled();
+
+  Duration getLocalNonceIdleTimeout();
+
+  Boolean isSenderQueuesEnabled();
+
+  Integer getSenderQueueMaxDepth();
+
+  Integer getSenderQueueMaxSenders();
+
+  Duration getNonceRetryInitialBackoff();
+
+  Duration getNonceRetryMaxBackoff();
+
+  Double getNonceRetryJitter();
+
+  Double getNonceRetryBudgetRatio();
+
+  Boolean isAsyncSubmissionEnabled();
+
+  Duration getAsyncDeliveryMaxBackoff();
+
+  Duration getAsyncDeliveryExpiry();
+
+  Boolean isTransactionJournalEnabled();
+
+  Boolean isIdempotencyKeysEnabled();
+
+  Integer getIdempotencyKeyMaxEntries();
+
+  Duration getIdempotencyKeyExpiry();
+
+  Integer getHttpMaxInFlightRequests();
+
+  Integer getHttpMaxBatchSize();
+
+  Long getHttpMaxRequestBodySize();
+
+  Double getHttpClientRateLimit();
+
+  Double getSenderRateLimit();
+
+  Duration getHttpRequestDeadline();
+
+  Integer getHttpServerInstances();
+
+  Integer getEventLoopPoolSize();
+
+  Integer getWorkerPoolSize();
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+
+/** The block at the head of the downstream node's chain. */
+public class ChainHead {
+
+  private final long number;
+  private final String hash;
+
+  public ChainHead(final long number, final String hash) {
+    this.number = number;
+    this.hash = hash;
+  }
+
+  public long getNumber() {
+    return number;
+  }
+
+  public String getHash() {
+    return hash;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final ChainHead that = (ChainHead) o;
+    return number == that.number && Objects.equal(hash, that.hash);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(number, hash);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("number", number).add("hash", hash).toString();
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Follows the head of the downstream chain by polling for the latest block, and publishes each new
+ * head to its listeners. A head is new when it is higher than the last, or at the same height with
+ * a different hash, so nodes which lag each other by a block do not make the head go back and
+ * forth.
+ */
+public class ChainHeadTracker {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Buffer LATEST_BLOCK_REQUEST =
+      Buffer.buffer(
+          "{\"jsonrpc\":\"2.0\",\"method\":\"eth_getBlockByNumber\","
+              + "\"params\":[\"latest\",false],\"id\":1}");
+
+  private final Vertx vertx;
+  private final HttpClient httpClient;
+  private final DownstreamLoadBalancer loadBalancer;
+  private final String path;
+  private final Duration interval;
+  private final Duration timeout;
+  private final List<Consumer<ChainHead>> listeners = new CopyOnWriteArrayList<>();
+  private volatile ChainHead head;
+  private volatile boolean stopped = false;
+
+  public ChainHeadTracker(
+      final Vertx vertx,
+      final HttpClient httpClient,
+      final DownstreamLoadBalancer loadBalancer,
+      final String path,
+      final Duration interval,
+      final Duration timeout) {
+    this.vertx = vertx;
+    this.httpClient = httpClient;
+    this.loadBalancer = loadBalancer;
+    this.path = path;
+    this.interval = interval;
+    this.timeout = timeout;
+  }
+
+  /** Registers a listener to be called, on the event loop of the tracker, with each new head. */
+  public void addListener(final Consumer<ChainHead> listener) {
+    listeners.add(listener);
+  }
+
+  public Optional<ChainHead> getHead() {
+    return Optional.ofNullable(head);
+  }
+
+  public void start() {
+    LOG.info("Polling downstream chain head every {} ms", interval.toMillis());
+    vertx.runOnContext(ignored -> poll());
+  }
+
+  public void stop() {
+    stopped = true;
+  }
+
+  private void poll() {
+    if (stopped) {
+      return;
+    }
+    // the next poll is scheduled once this one completes, so polls never overlap
+    fetchLatestBlock()
+        .onSuccess(this::update)
+        .onFailure(thrown -> LOG.debug("Polling downstream chain head failed", thrown))
+        .onComplete(ignored -> vertx.setTimer(interval.toMillis(), id -> poll()));
+  }
+
+  private Future<ChainHead> fetchLatestBlock() {
+    final DownstreamEndpoint endpoint = loadBalancer.select();
+    return httpClient
+        .request(HttpMethod.POST, endpoint.getPort(), endpoint.getHost(), path)
+        .compose(
+            request -> {
+              request.setTimeout(timeout.toMillis());
+              request.putHeader(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+              return request.send(LATEST_BLOCK_REQUEST);
+            })
+        .compose(
+            response -> {
+              if (response.statusCode() != HttpResponseStatus.OK.code()) {
+                return Future.failedFuture(
+                    "Latest block request to " + endpoint + " returned " + response.statusCode());
+              }
+              return response.body();
+            })
+        .map(
+            body -> {
+              final JsonObject block = body.toJsonObject().getJsonObject("result");
+              return new ChainHead(Long.decode(block.getString("number")), block.getString("hash"));
+            });
+  }
+
+  @VisibleForTesting
+  void update(final ChainHead observed) {
+    final ChainHead current = head;
+    if (current != null
+        && (observed.getNumber() < current.getNumber() || observed.equals(current))) {
+      return;
+    }
+    LOG.debug("New downstream chain head {}", observed);
+    head = observed;
+    listeners.forEach(listener -> listener.accept(observed));
+  }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Stops requests being sent to the downstream node while it is failing, so they fail immediately
+ * rather than each waiting for a connection failure or timeout.
+ *
+ * <p>The breaker opens when the proportion of the most recent requests which failed reaches a
+ * threshold. Once it has been open for a while it is half open: a few trial requests are sent, and
+ * if they all succeed the breaker closes, while if any fails it opens again. A response saying the
+ * node, or a gateway in front of it, is unavailable counts as a failure.
+ *
+ * <p>A single instance is shared by all HTTP server instances.
+ */
+public class CircuitBreaker {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int HALF_OPEN_TRIALS = 3;
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final double failureRateThreshold;
+  private final long openNanos;
+  private final LongSupplier nanoTime;
+  private final EthSignerMetrics metrics;
+  // outcomes of the most recent requests while closed, true for a failure
+  private final boolean[] outcomes;
+
+  private State state = State.CLOSED;
+  private int recorded;
+  private int failures;
+  private long openedNanos;
+  private int trialsStarted;
+  private int trialsSucceeded;
+  // distinguishes calls started before the most recent change of state
+  private long generation;
+
+  public CircuitBreaker(
+      final double failureRateThreshold,
+      final int windowSize,
+      final Duration openDuration,
+      final EthSignerMetrics metrics) {
+    this(failureRateThreshold, windowSize, openDuration, metrics, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  CircuitBreaker(
+      final double failureRateThreshold,
+      final int windowSize,
+      final Duration openDuration,
+      final EthSignerMetrics metrics,
+      final LongSupplier nanoTime) {
+    this.failureRateThreshold = failureRateThreshold;
+    this.outcomes = new boolean[windowSize];
+    this.openNanos = openDuration.toNanos();
+    this.metrics = metrics;
+    this.nanoTime = nanoTime;
+    metrics.registerCircuitBreakerState(() -> getState().ordinal());
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * Admits a request to the downstream node, returning the call it must complete when it
+   * concludes, or empty if the request must fail immediately.
+   */
+  public Optional<Call> tryAcquire() {
+    synchronized (this) {
+      if (state == State.OPEN && nanoTime.getAsLong() - openedNanos >= openNanos) {
+        transitionTo(State.HALF_OPEN);
+      }
+      if (state == State.CLOSED) {
+        return Optional.of(new Call(generation, false));
+      }
+      if (state == State.HALF_OPEN && trialsStarted < HALF_OPEN_TRIALS) {
+        trialsStarted++;
+        return Optional.of(new Call(generation, true));
+      }
+    }
+    metrics.circuitBreakerRejection();
+    return Optional.empty();
+  }
+
+  private synchronized void cancel(final Call call) {
+    if (call.trial && call.admittedGeneration == generation) {
+      trialsStarted--;
+    }
+  }
+
+  private synchronized void complete(final Call call, final boolean failed) {
+    if (call.admittedGeneration != generation) {
+      return;
+    }
+    if (call.trial) {
+      if (failed) {
+        transitionTo(State.OPEN);
+      } else if (++trialsSucceeded >= HALF_OPEN_TRIALS) {
+        transitionTo(State.CLOSED);
+      }
+      return;
+    }
+
+    final int index = recorded % outcomes.length;
+    if (recorded >= outcomes.length && outcomes[index]) {
+      failures--;
+    }
+    outcomes[index] = failed;
+    recorded++;
+    if (failed) {
+      failures++;
+    }
+    if (recorded >= outcomes.length && failures >= failureRateThreshold * outcomes.length) {
+      transitionTo(State.OPEN);
+    }
+  }
+
+  private void transitionTo(final State newState) {
+    LOG.info("Downstream circuit breaker is {}", newState);
+    state = newState;
+    generation++;
+    recorded = 0;
+    failures = 0;
+    trialsStarted = 0;
+    trialsSucceeded = 0;
+    if (newState == State.OPEN) {
+      openedNanos = nanoTime.getAsLong();
+    }
+  }
+
+  /** Whether the status reports the downstream node, rather than the request, to be at fault. */
+  private static boolean isUnavailable(final int statusCode) {
+    return statusCode == HttpResponseStatus.BAD_GATEWAY.code()
+        || statusCode == HttpResponseStatus.SERVICE_UNAVAILABLE.code()
+        || statusCode == HttpResponseStatus.GATEWAY_TIMEOUT.code();
+  }
+
+  /** A request admitted to the downstream node, which must be completed exactly once. */
+  public class Call {
+    private final long admittedGeneration;
+    private final boolean trial;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private Call(final long admittedGeneration, final boolean trial) {
+      this.admittedGeneration = admittedGeneration;
+      this.trial = trial;
+    }
+
+    /** The downstream node responded. */
+    public void succeeded() {
+      if (completed.compareAndSet(false, true)) {
+        complete(this, false);
+      }
+    }
+
+    /** The downstream node responded with the status, which may report it unavailable. */
+    public void responded(final int statusCode) {
+      if (isUnavailable(statusCode)) {
+        failed();
+      } else {
+        succeeded();
+      }
+    }
+
+    /** The downstream node could not be reached or did not respond in time. */
+    public void failed() {
+      if (completed.compareAndSet(false, true)) {
+        complete(this, true);
+      }
+    }
+
+    /** The request was not sent after all, so says nothing of the downstream node. */
+    public void cancelled() {
+      if (completed.compareAndSet(false, true)) {
+        cancel(this);
+      }
+    }
+  }
+}
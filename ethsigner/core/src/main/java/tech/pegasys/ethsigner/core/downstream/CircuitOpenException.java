@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import java.net.ConnectException;
+
+/**
+ * A request was not sent to the downstream node because recent requests to it have failed. It is
+ * a ConnectException, so is reported as a failure to connect to the downstream node.
+ */
+public class CircuitOpenException extends ConnectException {
+
+  public CircuitOpenException(final String message) {
+    super(message);
+  }
+}
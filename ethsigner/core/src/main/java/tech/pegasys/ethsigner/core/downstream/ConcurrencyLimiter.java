@@ -0,0 +1,306 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Limits the number of requests outstanding at the downstream node, adapting the limit to keep the
+ * node busy without requests queuing inside it. Requests beyond the limit wait in a bounded queue,
+ * and are rejected once it is full or they have waited too long, rather than all timing out
+ * together when the node slows down. A waiting request which is abandoned, because its client has
+ * gone or its deadline has passed, is dropped from the queue rather than started.
+ *
+ * <p>The limit is adjusted as in TCP Vegas: the latency of a request compared with the lowest
+ * latency observed estimates how many requests are queued within the node. Few queued requests
+ * raise the limit, many lower it, and a failed request lowers it multiplicatively.
+ *
+ * <p>A single instance is shared by all HTTP server instances.
+ */
+public class ConcurrencyLimiter {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int MIN_LIMIT = 1;
+  private static final int INITIAL_LIMIT = 20;
+  private static final double DROPPED_BACKOFF_RATIO = 0.9;
+  // the lowest latency is measured afresh periodically, so it follows changes in the node
+  private static final int MIN_LATENCY_RESET_SAMPLES = 1_000;
+  // how often waiting requests are checked, as none may be released to time them out
+  private static final long SWEEP_INTERVAL_MILLIS = 50;
+
+  private final int maxLimit;
+  private final int maxQueued;
+  private final long maxQueueNanos;
+  private final LongSupplier nanoTime;
+  private final EthSignerMetrics metrics;
+  private final Deque<Waiter> queue = new ArrayDeque<>();
+
+  private double limit;
+  private int inFlight;
+  private long minLatencyNanos;
+  private int samples;
+
+  public ConcurrencyLimiter(
+      final int maxLimit,
+      final int maxQueued,
+      final Duration maxQueueTime,
+      final EthSignerMetrics metrics) {
+    this(maxLimit, maxQueued, maxQueueTime, metrics, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  ConcurrencyLimiter(
+      final int maxLimit,
+      final int maxQueued,
+      final Duration maxQueueTime,
+      final EthSignerMetrics metrics,
+      final LongSupplier nanoTime) {
+    this.maxLimit = maxLimit;
+    this.maxQueued = maxQueued;
+    this.maxQueueNanos = maxQueueTime.toNanos();
+    this.metrics = metrics;
+    this.nanoTime = nanoTime;
+    this.limit = Math.min(INITIAL_LIMIT, maxLimit);
+    metrics.registerDownstreamConcurrency(this::getLimit, this::getQueued);
+  }
+
+  /** Periodically rejects the requests which have waited too long or been abandoned. */
+  public void start(final Vertx vertx) {
+    vertx.setPeriodic(SWEEP_INTERVAL_MILLIS, id -> sweepQueue());
+  }
+
+  /**
+   * Starts the request once it is within the limit, passing it the permit it must complete when it
+   * concludes. A request which cannot be started, or is abandoned while it waits, is passed to
+   * rejected instead.
+   *
+   * @param abandoned whether the request no longer needs to be sent; must be cheap and thread safe
+   */
+  public void submit(
+      final Consumer<Permit> request,
+      final Consumer<Throwable> rejected,
+      final BooleanSupplier abandoned) {
+    final Permit permit;
+    synchronized (this) {
+      if (inFlight >= getLimit()) {
+        if (queue.size() < maxQueued) {
+          queue.add(new Waiter(request, rejected, abandoned));
+          return;
+        }
+        permit = null;
+      } else {
+        permit = acquire();
+      }
+    }
+    if (permit == null) {
+      reject("queue_full", rejected);
+    } else {
+      request.accept(permit);
+    }
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getQueued() {
+    return queue.size();
+  }
+
+  private Permit acquire() {
+    inFlight++;
+    return new Permit(inFlight);
+  }
+
+  private void release(final Permit permit, final Outcome outcome) {
+    final List<Runnable> dequeued = new ArrayList<>();
+    synchronized (this) {
+      inFlight--;
+      if (outcome != Outcome.CANCELLED) {
+        adjustLimit(
+            nanoTime.getAsLong() - permit.startNanos,
+            permit.inFlightAtStart,
+            outcome == Outcome.DROPPED);
+      }
+
+      final long now = nanoTime.getAsLong();
+      while (!queue.isEmpty()) {
+        final Waiter waiter = queue.peek();
+        final Optional<String> rejection = waiter.rejection(now);
+        if (rejection.isPresent()) {
+          queue.poll();
+          dequeued.add(() -> waiter.reject(rejection.get()));
+        } else if (inFlight < getLimit()) {
+          queue.poll();
+          final Permit next = acquire();
+          dequeued.add(() -> waiter.start(next));
+        } else {
+          break;
+        }
+      }
+    }
+    dequeued.forEach(Runnable::run);
+  }
+
+  @VisibleForTesting
+  void sweepQueue() {
+    final List<Runnable> rejected = new ArrayList<>();
+    synchronized (this) {
+      final long now = nanoTime.getAsLong();
+      final Iterator<Waiter> waiters = queue.iterator();
+      while (waiters.hasNext()) {
+        final Waiter waiter = waiters.next();
+        final Optional<String> rejection = waiter.rejection(now);
+        if (rejection.isPresent()) {
+          waiters.remove();
+          rejected.add(() -> waiter.reject(rejection.get()));
+        }
+      }
+    }
+    rejected.forEach(Runnable::run);
+  }
+
+  private void adjustLimit(
+      final long latencyNanos, final int inFlightAtStart, final boolean dropped) {
+    if (dropped) {
+      limit = Math.max(MIN_LIMIT, limit * DROPPED_BACKOFF_RATIO);
+      return;
+    }
+
+    if (++samples >= MIN_LATENCY_RESET_SAMPLES) {
+      samples = 0;
+      minLatencyNanos = latencyNanos;
+    } else if (minLatencyNanos == 0 || latencyNanos < minLatencyNanos) {
+      minLatencyNanos = latencyNanos;
+    }
+
+    // a node which was not kept busy says nothing about whether the limit is too low
+    if (inFlightAtStart * 2 < limit || latencyNanos <= 0) {
+      return;
+    }
+
+    final double queuedAtNode = limit * (1 - (double) minLatencyNanos / latencyNanos);
+    final double step = Math.max(1, Math.log10(limit));
+    if (queuedAtNode < 3 * step) {
+      limit = Math.min(maxLimit, limit + step);
+    } else if (queuedAtNode > 6 * step) {
+      limit = Math.max(MIN_LIMIT, limit - step);
+    }
+  }
+
+  private void reject(final String reason, final Consumer<Throwable> rejected) {
+    LOG.debug("Downstream request rejected: {}", reason);
+    metrics.downstreamRequestRejected(reason);
+    rejected.accept(
+        new DownstreamOverloadedException("Downstream node is at its concurrency limit"));
+  }
+
+  /** Permission for a request to be outstanding, which must be completed exactly once. */
+  public class Permit {
+    private final long startNanos = nanoTime.getAsLong();
+    private final int inFlightAtStart;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private Permit(final int inFlightAtStart) {
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    /** The downstream node responded. */
+    public void succeeded() {
+      complete(Outcome.SUCCEEDED);
+    }
+
+    /** The downstream node could not be reached or did not respond in time. */
+    public void dropped() {
+      complete(Outcome.DROPPED);
+    }
+
+    /** The request was abandoned before it concluded, so says nothing of the downstream node. */
+    public void cancelled() {
+      complete(Outcome.CANCELLED);
+    }
+
+    private void complete(final Outcome outcome) {
+      if (completed.compareAndSet(false, true)) {
+        release(this, outcome);
+      }
+    }
+  }
+
+  private enum Outcome {
+    SUCCEEDED,
+    DROPPED,
+    CANCELLED
+  }
+
+  private class Waiter {
+    private final Consumer<Permit> request;
+    private final Consumer<Throwable> rejected;
+    private final BooleanSupplier abandoned;
+    private final long enqueuedNanos = nanoTime.getAsLong();
+    // the request continues on the event loop it was submitted from
+    private final Context context = Vertx.currentContext();
+
+    private Waiter(
+        final Consumer<Permit> request,
+        final Consumer<Throwable> rejected,
+        final BooleanSupplier abandoned) {
+      this.request = request;
+      this.rejected = rejected;
+      this.abandoned = abandoned;
+    }
+
+    /** @return the reason the request must leave the queue without starting, if there is one */
+    Optional<String> rejection(final long now) {
+      if (now - enqueuedNanos > maxQueueNanos) {
+        return Optional.of("queue_timeout");
+      }
+      return abandoned.getAsBoolean() ? Optional.of("abandoned") : Optional.empty();
+    }
+
+    void start(final Permit permit) {
+      run(() -> request.accept(permit));
+    }
+
+    void reject(final String reason) {
+      run(() -> ConcurrencyLimiter.this.reject(reason, rejected));
+    }
+
+    private void run(final Runnable task) {
+      if (context == null) {
+        task.run();
+      } else {
+        context.runOnContext(ignored -> task.run());
+      }
+    }
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A downstream node, with the statistics used to choose between nodes: the number of outstanding
+ * requests, an exponentially weighted moving average (EWMA) of the response latency and whether
+ * the node is believed to be healthy.
+ */
+public class DownstreamEndpoint {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  // weight of the most recent latency sample in the moving average
+  private static final double LATENCY_DECAY = 0.3;
+  private static final int SERVER_ERROR = 500;
+
+  private final String host;
+  private final int port;
+  private final AtomicInteger outstandingRequests = new AtomicInteger();
+  private double latencyEwmaNanos;
+  private volatile boolean healthy = true;
+
+  public DownstreamEndpoint(final String host, final int port) {
+    this.host = host;
+    this.port = port;
+  }
+
+  public String getHost() {
+    return host;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public boolean isHealthy() {
+    return healthy;
+  }
+
+  public int getOutstandingRequests() {
+    return outstandingRequests.get();
+  }
+
+  public synchronized double getLatencyEwmaNanos() {
+    return latencyEwmaNanos;
+  }
+
+  /**
+   * The expected cost of sending another request to this endpoint, a lower cost is better. An
+   * endpoint without latency samples costs the least, so new endpoints are tried first.
+   */
+  double cost() {
+    return (getLatencyEwmaNanos() + 1) * (getOutstandingRequests() + 1);
+  }
+
+  public Request startRequest() {
+    outstandingRequests.incrementAndGet();
+    return new Request(System.nanoTime());
+  }
+
+  public void markHealthy() {
+    if (!healthy) {
+      LOG.info("Downstream node {} is healthy", this);
+      healthy = true;
+    }
+  }
+
+  public void markUnhealthy() {
+    if (healthy) {
+      LOG.warn("Downstream node {} is unhealthy", this);
+      healthy = false;
+    }
+  }
+
+  @VisibleForTesting
+  synchronized void recordLatency(final long nanos) {
+    latencyEwmaNanos =
+        latencyEwmaNanos == 0
+            ? nanos
+            : LATENCY_DECAY * nanos + (1 - LATENCY_DECAY) * latencyEwmaNanos;
+  }
+
+  @Override
+  public String toString() {
+    return host + ":" + port;
+  }
+
+  /** A request sent to the endpoint, which must be completed exactly once. */
+  public class Request {
+    private final long startNanos;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    private Request(final long startNanos) {
+      this.startNanos = startNanos;
+    }
+
+    public DownstreamEndpoint getEndpoint() {
+      return DownstreamEndpoint.this;
+    }
+
+    public void succeeded() {
+      if (complete()) {
+        final long latencyNanos = System.nanoTime() - startNanos;
+        recordLatency(latencyNanos);
+        LOG.trace(
+            "Request to {} completed in {} ms",
+            DownstreamEndpoint.this,
+            TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+        markHealthy();
+      }
+    }
+
+    /**
+     * The endpoint responded with the status. A server error is a failure, which neither shows the
+     * endpoint to be healthy nor, as it may be returned without the request being processed,
+     * measures its latency.
+     */
+    public void responded(final int statusCode) {
+      if (statusCode >= SERVER_ERROR) {
+        complete();
+      } else {
+        succeeded();
+      }
+    }
+
+    /** Failures are not timed, as they may be reported before the request reaches the endpoint. */
+    public void failed(final Throwable thrown) {
+      if (complete() && thrown instanceof ConnectException) {
+        markUnhealthy();
+      }
+    }
+
+    /** The request was abandoned before it concluded, which says nothing of the endpoint health. */
+    public void cancelled() {
+      complete();
+    }
+
+    private boolean complete() {
+      if (!completed.compareAndSet(false, true)) {
+        return false;
+      }
+      outstandingRequests.decrementAndGet();
+      return true;
+    }
+  }
+}
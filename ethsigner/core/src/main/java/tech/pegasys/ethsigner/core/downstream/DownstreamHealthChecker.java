@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically sends a JSON-RPC request to every downstream node, marking nodes which fail to
+ * respond as unhealthy and nodes which respond successfully as healthy again.
+ */
+public class DownstreamHealthChecker {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Buffer PROBE =
+      Buffer.buffer("{\"jsonrpc\":\"2.0\",\"method\":\"net_version\",\"params\":[],\"id\":1}");
+
+  private final Vertx vertx;
+  private final HttpClient httpClient;
+  private final List<DownstreamEndpoint> endpoints;
+  private final String path;
+  private final Duration interval;
+  private final Duration timeout;
+  private long timerId;
+
+  public DownstreamHealthChecker(
+      final Vertx vertx,
+      final HttpClient httpClient,
+      final List<DownstreamEndpoint> endpoints,
+      final String path,
+      final Duration interval,
+      final Duration timeout) {
+    this.vertx = vertx;
+    this.httpClient = httpClient;
+    this.endpoints = endpoints;
+    this.path = path;
+    this.interval = interval;
+    this.timeout = timeout;
+  }
+
+  public void start() {
+    LOG.info("Checking health of downstream nodes {} every {} ms", endpoints, interval.toMillis());
+    timerId = vertx.setPeriodic(interval.toMillis(), id -> endpoints.forEach(this::probe));
+  }
+
+  public void stop() {
+    vertx.cancelTimer(timerId);
+  }
+
+  private void probe(final DownstreamEndpoint endpoint) {
+    httpClient
+        .request(HttpMethod.POST, endpoint.getPort(), endpoint.getHost(), path)
+        .compose(
+            request -> {
+              request.setTimeout(timeout.toMillis());
+              request.putHeader(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+              return request.send(PROBE);
+            })
+        .compose(response -> response.body().map(body -> response.statusCode()))
+        .onSuccess(
+            statusCode -> {
+              if (statusCode == HttpResponseStatus.OK.code()) {
+                endpoint.markHealthy();
+              } else {
+                LOG.debug("Health check of {} returned status {}", endpoint, statusCode);
+                endpoint.markUnhealthy();
+              }
+            })
+        .onFailure(
+            thrown -> {
+              LOG.debug("Health check of {} failed", endpoint, thrown);
+              endpoint.markUnhealthy();
+            });
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Chooses the downstream node for each request. Healthy nodes are preferred, and among them the
+ * node with the lowest product of latency average and outstanding requests, so load moves away
+ * from a node as soon as it slows down.
+ */
+public class DownstreamLoadBalancer {
+
+  private final List<DownstreamEndpoint> endpoints;
+  private final AtomicInteger nextStart = new AtomicInteger();
+
+  public DownstreamLoadBalancer(final List<DownstreamEndpoint> endpoints) {
+    Preconditions.checkArgument(!endpoints.isEmpty(), "At least one endpoint is required");
+    this.endpoints = List.copyOf(endpoints);
+  }
+
+  public static DownstreamLoadBalancer singleEndpoint(final String host, final int port) {
+    return new DownstreamLoadBalancer(List.of(new DownstreamEndpoint(host, port)));
+  }
+
+  public List<DownstreamEndpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  /**
+   * Selects the endpoint for a new request. If no endpoint is healthy the least loaded endpoint is
+   * still returned, as failing the request outright would not be any better.
+   */
+  public DownstreamEndpoint select() {
+    return cheapest(DownstreamEndpoint::isHealthy).orElseGet(() -> cheapest(e -> true).get());
+  }
+
+  /**
+   * Selects a healthy endpoint to retry a request on, which has not been attempted yet.
+   *
+   * @param attempted the endpoints the request has already been sent to
+   * @return the endpoint to retry on, or empty if there is none
+   */
+  public Optional<DownstreamEndpoint> failover(final Collection<DownstreamEndpoint> attempted) {
+    return cheapest(endpoint -> endpoint.isHealthy() && !attempted.contains(endpoint));
+  }
+
+  private Optional<DownstreamEndpoint> cheapest(final Predicate<DownstreamEndpoint> candidate) {
+    // rotating the starting point spreads requests between endpoints of equal cost
+    final int start = Math.floorMod(nextStart.getAndIncrement(), endpoints.size());
+    DownstreamEndpoint cheapest = null;
+    double cheapestCost = Double.MAX_VALUE;
+    for (int i = 0; i < endpoints.size(); i++) {
+      final DownstreamEndpoint endpoint = endpoints.get((start + i) % endpoints.size());
+      if (candidate.test(endpoint)) {
+        final double cost = endpoint.cost();
+        if (cost < cheapestCost) {
+          cheapest = endpoint;
+          cheapestCost = cost;
+        }
+      }
+    }
+    return Optional.ofNullable(cheapest);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Decides when a request to the downstream node is hedged: sent to a second endpoint because the
+ * first has not answered for longer than a given percentile of recent latencies of its method. Only
+ * idempotent read methods may be hedged, as the downstream node may process both requests.
+ *
+ * <p>The percentile is estimated as latencies are recorded, without keeping them: the estimate is
+ * seeded from the first few latencies, then nudged up by a latency above it and down by one below
+ * it, in proportion to the percentile, so it settles where that fraction of latencies are below
+ * it and follows changes in the downstream node.
+ *
+ * <p>Hedges are limited by a budget shared by all requests, in the same way as retries are. Every
+ * request of a hedged method adds a fraction of a hedge to the budget, every hedge takes a whole
+ * one, so when the downstream node slows down as a whole the extra load is capped at that fraction.
+ */
+public class HedgePolicy {
+
+  static final int MIN_LATENCY_SAMPLES = 20;
+  // the proportion of the estimate it is moved by each latency
+  private static final double ADJUSTMENT_RATE = 0.02;
+  static final double BUDGET_CAPACITY = 100;
+
+  private final double percentile;
+  private final double budgetRatio;
+  private final EthSignerMetrics metrics;
+  private final Map<String, PercentileEstimate> latencies = new HashMap<>();
+
+  private double budget = BUDGET_CAPACITY;
+
+  /**
+   * @param methods the methods which may be hedged
+   * @param percentile the percentile of recent latencies after which a request is hedged
+   * @param budgetRatio the number of hedges each request adds to the budget
+   */
+  public HedgePolicy(
+      final Set<String> methods,
+      final double percentile,
+      final double budgetRatio,
+      final EthSignerMetrics metrics) {
+    Preconditions.checkArgument(
+        percentile > 0 && percentile <= 100, "Percentile must be greater than 0 and at most 100");
+    this.percentile = percentile;
+    this.budgetRatio = budgetRatio;
+    this.metrics = metrics;
+    methods.forEach(method -> latencies.put(method, new PercentileEstimate()));
+    metrics.registerHedgeBudget(this::getBudget);
+  }
+
+  public Set<String> getMethods() {
+    return latencies.keySet();
+  }
+
+  public boolean isHedged(final String method) {
+    return latencies.containsKey(method);
+  }
+
+  /**
+   * Records a request of a hedged method, adding to the hedge budget.
+   *
+   * @return how long to wait for a response before hedging the request, or empty if too few of its
+   *     latencies are known yet
+   */
+  public synchronized Optional<Duration> requestStarted(final String method) {
+    budget = Math.min(BUDGET_CAPACITY, budget + budgetRatio);
+    return latencies.get(method).delay().map(Duration::ofNanos);
+  }
+
+  /**
+   * Records the latency of a request of a hedged method, from when it was first sent until it was
+   * answered. A request answered by its hedge is recorded with the time until then, as its first
+   * endpoint would have taken at least that long.
+   */
+  public synchronized void recordLatency(final String method, final long nanos) {
+    latencies.get(method).add(nanos);
+  }
+
+  /** @return false if the hedge budget is spent, so the request must not be hedged */
+  public synchronized boolean tryHedge(final String method) {
+    if (budget < 1) {
+      metrics.hedgedRequest(method, "budget_exhausted");
+      return false;
+    }
+    budget -= 1;
+    metrics.hedgedRequest(method, "sent");
+    return true;
+  }
+
+  public synchronized double getBudget() {
+    return budget;
+  }
+
+  /** The running estimate of the percentile of the latencies of a method. */
+  private class PercentileEstimate {
+    private final long[] seed = new long[MIN_LATENCY_SAMPLES];
+    private int seeded = 0;
+    private double estimate;
+
+    private void add(final long nanos) {
+      if (seeded < seed.length) {
+        seed[seeded++] = nanos;
+        if (seeded == seed.length) {
+          Arrays.sort(seed);
+          final int index = (int) Math.ceil(percentile / 100 * seed.length) - 1;
+          estimate = Math.max(1, seed[Math.max(0, index)]);
+        }
+      } else if (nanos > estimate) {
+        estimate *= 1 + ADJUSTMENT_RATE * percentile / 100;
+      } else {
+        estimate = Math.max(1, estimate * (1 - ADJUSTMENT_RATE * (1 - percentile / 100)));
+      }
+    }
+
+    private Optional<Long> delay() {
+      return seeded < seed.length ? Optional.empty() : Optional.of(Math.round(estimate));
+    }
+  }
+}
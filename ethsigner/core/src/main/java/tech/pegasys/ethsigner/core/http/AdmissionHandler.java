@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.http;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE;
+import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
+
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.handler.BodyHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Rejects requests EthSigner should not take on before any work is done for them: those whose body
+ * is too large, those from a client exceeding its rate limit, and those arriving while too many
+ * are already in progress. Rejections are immediate, with a JSON-RPC error, so a burst from one
+ * client is turned away rather than queued ahead of everyone else.
+ *
+ * <p>A single instance is shared by all HTTP server instances. Clients are identified by the
+ * subject of their TLS client certificate, or their address if they have none.
+ */
+public class AdmissionHandler implements Handler<RoutingContext> {
+
+  public static final long DEFAULT_MAX_BODY_SIZE = 10 * 1024 * 1024;
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final String RETRY_AFTER_SECONDS = "1";
+
+  private final int maxInFlightRequests;
+  private final Optional<RateLimiter> clientRateLimiter;
+  private final long maxBodySize;
+  private final EthSignerMetrics metrics;
+  private final HttpResponseFactory responseFactory = new HttpResponseFactory();
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+  /**
+   * @param maxInFlightRequests the number of requests which may be in progress at once, or 0 for
+   *     no limit
+   */
+  public AdmissionHandler(
+      final int maxInFlightRequests,
+      final Optional<RateLimiter> clientRateLimiter,
+      final long maxBodySize,
+      final EthSignerMetrics metrics) {
+    this.maxInFlightRequests = maxInFlightRequests;
+    this.clientRateLimiter = clientRateLimiter;
+    this.maxBodySize = maxBodySize;
+    this.metrics = metrics;
+  }
+
+  /** Reads request bodies, failing any which turn out to exceed the maximum size. */
+  public BodyHandler bodyHandler() {
+    return BodyHandler.create().setBodyLimit(maxBodySize);
+  }
+
+  public long getMaxBodySize() {
+    return maxBodySize;
+  }
+
+  @Override
+  public void handle(final RoutingContext context) {
+    final HttpServerRequest request = context.request();
+
+    final String contentLength = request.getHeader(HttpHeaderNames.CONTENT_LENGTH);
+    if (contentLength != null && exceedsMaxBodySize(contentLength)) {
+      reject(
+          context,
+          "body_size",
+          REQUEST_ENTITY_TOO_LARGE.code(),
+          JsonRpcError.REQUEST_BODY_TOO_LARGE);
+      return;
+    }
+
+    if (clientRateLimiter.isPresent() && !clientRateLimiter.get().tryAcquire(client(request))) {
+      context.response().putHeader(HttpHeaderNames.RETRY_AFTER, RETRY_AFTER_SECONDS);
+      reject(context, "client_rate", TOO_MANY_REQUESTS.code(), JsonRpcError.RATE_LIMIT_EXCEEDED);
+      return;
+    }
+
+    if (maxInFlightRequests > 0) {
+      if (inFlightRequests.incrementAndGet() > maxInFlightRequests) {
+        inFlightRequests.decrementAndGet();
+        context.response().putHeader(HttpHeaderNames.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        reject(
+            context,
+            "in_flight",
+            TOO_MANY_REQUESTS.code(),
+            JsonRpcError.TOO_MANY_REQUESTS_IN_PROGRESS);
+        return;
+      }
+      context.addEndHandler(ended -> inFlightRequests.decrementAndGet());
+    }
+
+    context.next();
+  }
+
+  private boolean exceedsMaxBodySize(final String contentLength) {
+    try {
+      return Long.parseLong(contentLength) > maxBodySize;
+    } catch (final NumberFormatException e) {
+      // left to the body handler to reject
+      return false;
+    }
+  }
+
+  private void reject(
+      final RoutingContext context,
+      final String reason,
+      final int statusCode,
+      final JsonRpcError error) {
+    LOG.debug("Rejected request from {}: {}", context.request().remoteAddress(), reason);
+    metrics.admissionRejected(reason);
+    responseFactory.failureResponse(context.response(), null, statusCode, error);
+  }
+
+  private static String client(final HttpServerRequest request) {
+    final SSLSession session = request.sslSession();
+    if (session != null) {
+      try {
+        return session.getPeerPrincipal().getName();
+      } catch (final SSLPeerUnverifiedException e) {
+        // the client did not present a certificate
+      }
+    }
+    return request.remoteAddress() == null ? "" : request.remoteAddress().host();
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.http;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcErrorResponse;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcSuccessResponse;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.ForwardedMessageResponder;
+
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Captures the response to a single element of a batch request as an encoded JSON-RPC response,
+ * rather than writing it to the HTTP response.
+ */
+public class BatchElementResponder extends ForwardedMessageResponder {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final JsonRpcRequestId id;
+  private final int index;
+  private final Promise<Buffer> result = Promise.promise();
+
+  public BatchElementResponder(
+      final RoutingContext context, final JsonRpcRequestId id, final int index) {
+    super(context);
+    this.id = id;
+    this.index = index;
+  }
+
+  public Future<Buffer> result() {
+    return result.future();
+  }
+
+  @Override
+  public Optional<Integer> batchIndex() {
+    return Optional.of(index);
+  }
+
+  @Override
+  public void handleResponse(
+      final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+    try {
+      // ensure the downstream response can be embedded in the batch response
+      new JsonObject(body);
+      result.tryComplete(Buffer.buffer(body));
+    } catch (final DecodeException e) {
+      LOG.debug("Downstream response for batch element {} is not a JSON object: {}", id, body);
+      failureResponse(id, statusCode, JsonRpcError.INTERNAL_ERROR);
+    }
+  }
+
+  @Override
+  public void successResponse(final JsonRpcRequestId id, final Object result) {
+    this.result.tryComplete(Json.encodeToBuffer(new JsonRpcSuccessResponse(id, result)));
+  }
+
+  @Override
+  public void failureResponse(
+      final JsonRpcRequestId id, final int statusCode, final JsonRpcError error) {
+    result.tryComplete(Json.encodeToBuffer(new JsonRpcErrorResponse(id, error)));
+  }
+
+  @Override
+  public void fail(final int statusCode, final Throwable failure) {
+    failureResponse(id, statusCode, JsonRpcErrorHandler.jsonRpcErrorFor(failure));
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.http;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonDecoder;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcErrorResponse;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitter;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Handles a JSON-RPC batch request. Elements with a registered handler are dispatched
+ * concurrently, while the remaining elements are forwarded to the downstream node as a single
+ * batch. The batch response lists the element responses in the order of the request, omitting
+ * those to notifications, and is empty if every element was a notification.
+ *
+ * <p>A batch is admitted as a single request, so its size is limited separately to bound the work
+ * one admitted request can cause.
+ */
+public class JsonRpcBatchHandler {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+
+  private static final Buffer OPEN_ARRAY = Buffer.buffer("[");
+  private static final Buffer SEPARATOR = Buffer.buffer(",");
+  private static final Buffer CLOSE_ARRAY = Buffer.buffer("]");
+
+  private final HttpResponseFactory responseFactory;
+  private final RequestMapper requestMapper;
+  private final JsonDecoder jsonDecoder;
+  private final VertxRequestTransmitterFactory transmitterFactory;
+  private final int maxBatchSize;
+
+  public JsonRpcBatchHandler(
+      final HttpResponseFactory responseFactory,
+      final RequestMapper requestMapper,
+      final JsonDecoder jsonDecoder,
+      final VertxRequestTransmitterFactory transmitterFactory,
+      final int maxBatchSize) {
+    this.responseFactory = responseFactory;
+    this.requestMapper = requestMapper;
+    this.jsonDecoder = jsonDecoder;
+    this.transmitterFactory = transmitterFactory;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  public void handle(final RoutingContext context, final JsonArray batch) {
+    if (batch.isEmpty()) {
+      responseFactory.response(
+          context.response(),
+          HttpResponseStatus.BAD_REQUEST.code(),
+          new JsonRpcErrorResponse(JsonRpcError.INVALID_REQUEST));
+      return;
+    }
+    if (batch.size() > maxBatchSize) {
+      LOG.debug("Rejecting batch of {} requests, more than {}", batch.size(), maxBatchSize);
+      responseFactory.response(
+          context.response(),
+          HttpResponseStatus.BAD_REQUEST.code(),
+          new JsonRpcErrorResponse(JsonRpcError.BATCH_TOO_LARGE));
+      return;
+    }
+
+    LOG.debug("Handling batch of {} requests", batch.size());
+    final List<Future<Buffer>> responses = new ArrayList<>(batch.size());
+    // the responses to notifications are not returned to the client
+    final List<Boolean> notifications = new ArrayList<>(batch.size());
+    final List<PassThroughElement> passThroughElements = new ArrayList<>();
+
+    for (int index = 0; index < batch.size(); index++) {
+      final Object element = batch.getValue(index);
+      final JsonRpcRequest request = decodeElement(element);
+      notifications.add(request != null && !((JsonObject) element).containsKey("id"));
+      if (request == null) {
+        responses.add(Future.succeededFuture(encodedError(JsonRpcError.INVALID_REQUEST)));
+      } else if (requestMapper.hasHandler(request.getMethod())) {
+        responses.add(dispatch(context, request, index));
+      } else {
+        final PassThroughElement passThroughElement =
+            new PassThroughElement(context, request, (JsonObject) element, index);
+        passThroughElements.add(passThroughElement);
+        responses.add(passThroughElement.responder.result());
+      }
+    }
+
+    if (!passThroughElements.isEmpty()) {
+      forward(context, passThroughElements);
+    }
+
+    final AtomicInteger outstanding = new AtomicInteger(responses.size());
+    responses.forEach(
+        response ->
+            response.onComplete(
+                ignored -> {
+                  if (outstanding.decrementAndGet() == 0) {
+                    respond(context, responses, notifications);
+                  }
+                }));
+  }
+
+  private JsonRpcRequest decodeElement(final Object element) {
+    if (!(element instanceof JsonObject)) {
+      LOG.debug("Batch element is not a JSON object: {}", element);
+      return null;
+    }
+    try {
+      return jsonDecoder.convertValue(((JsonObject) element).getMap(), JsonRpcRequest.class);
+    } catch (final IllegalArgumentException e) {
+      LOG.debug("Parsing batch element as JSON-RPC request failed for: {}", element, e);
+      return null;
+    }
+  }
+
+  private Future<Buffer> dispatch(
+      final RoutingContext context, final JsonRpcRequest request, final int index) {
+    final BatchElementResponder responder =
+        new BatchElementResponder(context, request.getId(), index);
+    try {
+      requestMapper.getMatchingHandler(request.getMethod()).handle(context, request, responder);
+    } catch (final RuntimeException e) {
+      responder.fail(INTERNAL_SERVER_ERROR.code(), e);
+    }
+    return responder.result();
+  }
+
+  private void forward(
+      final RoutingContext context, final List<PassThroughElement> passThroughElements) {
+    // downstream ids are replaced by the element index, so duplicate or absent ids can be mapped
+    final JsonArray downstreamBatch = new JsonArray();
+    for (int i = 0; i < passThroughElements.size(); i++) {
+      downstreamBatch.add(passThroughElements.get(i).element.copy().put("id", i));
+    }
+
+    final HttpServerRequest request = context.request();
+    final VertxRequestTransmitter transmitter =
+        transmitterFactory.create(
+            new PassThroughBatchResponseHandler(passThroughElements), RequestDeadline.of(context));
+    transmitter.sendRequest(
+        request.method(),
+        HeaderHelpers.createHeaders(request.headers()),
+        request.path(),
+        downstreamBatch.encode());
+  }
+
+  private void respond(
+      final RoutingContext context,
+      final List<Future<Buffer>> responses,
+      final List<Boolean> notifications) {
+    final Buffer body = Buffer.buffer().appendBuffer(OPEN_ARRAY);
+    boolean empty = true;
+    for (int i = 0; i < responses.size(); i++) {
+      if (notifications.get(i)) {
+        continue;
+      }
+      if (!empty) {
+        body.appendBuffer(SEPARATOR);
+      }
+      body.appendBuffer(responses.get(i).result());
+      empty = false;
+    }
+    if (empty) {
+      // a batch of only notifications is answered with no body at all
+      context.response().setStatusCode(HttpResponseStatus.NO_CONTENT.code()).end();
+      return;
+    }
+    body.appendBuffer(CLOSE_ARRAY);
+    responseFactory.response(context.response(), HttpResponseStatus.OK.code(), body);
+  }
+
+  private static Buffer encodedError(final JsonRpcError error) {
+    return Json.encodeToBuffer(new JsonRpcErrorResponse(error));
+  }
+
+  private static class PassThroughElement {
+    private final JsonRpcRequest request;
+    private final JsonObject element;
+    private final BatchElementResponder responder;
+
+    private PassThroughElement(
+        final RoutingContext context,
+        final JsonRpcRequest request,
+        final JsonObject element,
+        final int index) {
+      this.request = request;
+      this.element = element;
+      this.responder = new BatchElementResponder(context, request.getId(), index);
+    }
+  }
+
+  private static class PassThroughBatchResponseHandler implements DownstreamResponseHandler {
+    private final List<PassThroughElement> elements;
+
+    private PassThroughBatchResponseHandler(final List<PassThroughElement> elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    public void handleResponse(
+        final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+      try {
+        final JsonArray responses = new JsonArray(body);
+        for (final Object response : responses) {
+          if (response instanceof JsonObject) {
+            completeElement((JsonObject) response);
+          }
+        }
+      } catch (final DecodeException e) {
+        LOG.debug("Downstream response to batch is not a JSON array: {}", body);
+      }
+
+      // any element the downstream node did not respond to is reported as an error
+      elements.forEach(
+          element ->
+              element.responder.failureResponse(
+                  element.request.getId(), statusCode, JsonRpcError.INTERNAL_ERROR));
+    }
+
+    private void completeElement(final JsonObject response) {
+      final Object downstreamId = response.getValue("id");
+      if (!(downstreamId instanceof Number)) {
+        return;
+      }
+      final int index = ((Number) downstreamId).intValue();
+      if (index < 0 || index >= elements.size()) {
+        return;
+      }
+      final PassThroughElement element = elements.get(index);
+      response.put("id", element.element.getValue("id"));
+      element.responder.handleResponse(List.of(), HttpResponseStatus.OK.code(), response.encode());
+    }
+
+    @Override
+    public void handleFailure(final Throwable t) {
+      elements.forEach(element -> element.responder.handleFailure(t));
+    }
+  }
+}
@@ -14,6 +14,7 @@ package tech.pegasys.ethsigner.core.http;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
+import tech.pegasys.ethsigner.core.downstream.DownstreamOverloadedException;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
 import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
 import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
@@ -46,35 +47,35 @@ public class JsonRpcErrorHandler implements Handler<RoutingContext> {
 
     final Throwable failure = context.failure();
     if (failure != null) {
-      if (failure instanceof JsonRpcException) {
-        final JsonRpcException ex = (JsonRpcException) context.failure();
-        httpResponseFactory.failureResponse(
-            context.response(), requestId, statusCode, ex.getJsonRpcError());
-      } else if (failure instanceof ConnectException || failure instanceof SSLException) {
-        httpResponseFactory.failureResponse(
-            context.response(),
-            requestId,
-            statusCode,
-            JsonRpcError.FAILED_TO_CONNECT_TO_DOWNSTREAM_NODE);
-      } else if (failure instanceof TimeoutException) {
-        httpResponseFactory.failureResponse(
-            context.response(),
-            requestId,
-            statusCode,
-            JsonRpcError.CONNECTION_TO_DOWNSTREAM_NODE_TIMED_OUT);
-      } else if (failure instanceof IllegalStateException
+      if (failure instanceof IllegalStateException
           && statusCode == HttpResponseStatus.FORBIDDEN.code()) {
         // send status code and empty body
         context.response().setStatusCode(statusCode);
         context.response().end();
       } else {
-        LOG.error("Unhandled exception handling request", failure);
         httpResponseFactory.failureResponse(
-            context.response(), requestId, statusCode, JsonRpcError.INTERNAL_ERROR);
+            context.response(), requestId, statusCode, jsonRpcErrorFor(failure));
       }
     } else {
       context.response().setStatusCode(statusCode);
       context.response().end();
     }
   }
+
+  public static JsonRpcError jsonRpcErrorFor(final Throwable failure) {
+    if (failure instanceof JsonRpcException) {
+      return ((JsonRpcException) failure).getJsonRpcError();
+    } else if (failure instanceof ConnectException || failure instanceof SSLException) {
+      return JsonRpcError.FAILED_TO_CONNECT_TO_DOWNSTREAM_NODE;
+    } else if (failure instanceof RequestDeadlineExceededException) {
+      return JsonRpcError.REQUEST_DEADLINE_EXCEEDED;
+    } else if (failure instanceof TimeoutException) {
+      return JsonRpcError.CONNECTION_TO_DOWNSTREAM_NODE_TIMED_OUT;
+    } else if (failure instanceof DownstreamOverloadedException) {
+      return JsonRpcError.DOWNSTREAM_NODE_OVERLOADED;
+    } else {
+      LOG.error("Unhandled exception handling request", failure);
+      return JsonRpcError.INTERNAL_ERROR;
+    }
+  }
 }
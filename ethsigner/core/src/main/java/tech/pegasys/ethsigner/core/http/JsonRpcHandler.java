@@ -16,11 +16,20 @@ import tech.pegasys.ethsigner.core.jsonrpc.JsonDecoder;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
 import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
 import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcErrorResponse;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics.RequestTimer;
 import tech.pegasys.ethsigner.core.requesthandler.JsonRpcRequestHandler;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.ForwardedMessageResponder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,34 +40,150 @@ public class JsonRpcHandler implements Handler<RoutingContext> {
 
   public static final String ID_ELEMENT_NAME = "JsonRpcId";
 
+  // methods passed through to the downstream node which are recorded under their own name; any
+  // other method a client sends is recorded as "other", so clients cannot create metric series
+  private static final Set<String> RECORDED_PASS_THROUGH_METHODS =
+      Set.of(
+          "eth_accounts",
+          "eth_blockNumber",
+          "eth_call",
+          "eth_chainId",
+          "eth_estimateGas",
+          "eth_feeHistory",
+          "eth_gasPrice",
+          "eth_getBalance",
+          "eth_getBlockByHash",
+          "eth_getBlockByNumber",
+          "eth_getBlockTransactionCountByHash",
+          "eth_getBlockTransactionCountByNumber",
+          "eth_getCode",
+          "eth_getFilterChanges",
+          "eth_getFilterLogs",
+          "eth_getLogs",
+          "eth_getProof",
+          "eth_getStorageAt",
+          "eth_getTransactionByBlockHashAndIndex",
+          "eth_getTransactionByBlockNumberAndIndex",
+          "eth_getTransactionByHash",
+          "eth_getTransactionCount",
+          "eth_getTransactionReceipt",
+          "eth_maxPriorityFeePerGas",
+          "eth_newBlockFilter",
+          "eth_newFilter",
+          "eth_newPendingTransactionFilter",
+          "eth_sendRawTransaction",
+          "eth_syncing",
+          "eth_uninstallFilter",
+          "net_listening",
+          "net_peerCount",
+          "net_version",
+          "priv_distributeRawTransaction",
+          "priv_getEeaTransactionCount",
+          "priv_getTransactionCount",
+          "priv_getTransactionReceipt",
+          "web3_clientVersion");
+
   private final RequestMapper requestHandlerMapper;
   private final HttpResponseFactory responseFactory;
   private final JsonDecoder jsonDecoder;
+  private final JsonRpcBatchHandler batchHandler;
+  private final Duration requestDeadline;
+  private final EthSignerMetrics metrics;
 
   public JsonRpcHandler(
       final HttpResponseFactory responseFactory,
       final RequestMapper requestHandlerMapper,
-      final JsonDecoder jsonDecoder) {
+      final JsonDecoder jsonDecoder,
+      final JsonRpcBatchHandler batchHandler,
+      final Duration requestDeadline,
+      final EthSignerMetrics metrics) {
     this.responseFactory = responseFactory;
     this.requestHandlerMapper = requestHandlerMapper;
     this.jsonDecoder = jsonDecoder;
+    this.batchHandler = batchHandler;
+    this.requestDeadline = requestDeadline;
+    this.metrics = metrics;
   }
 
   @Override
   public void handle(final RoutingContext context) {
+    LOG.trace("Request body = {}", context::getBodyAsString);
+    // every downstream request made on behalf of this one must complete within its deadline
+    RequestDeadline.start(context, requestDeadline);
+    if (isBatch(context.getBody())) {
+      recordRequest(context, "batch");
+      handleBatch(context);
+      return;
+    }
+
+    final Optional<JsonRpcRequest> envelope = jsonDecoder.decodeEnvelope(context.getBody());
+    if (envelope.isPresent() && !requestHandlerMapper.hasHandler(envelope.get().getMethod())) {
+      // nothing here acts on the params, so the body is forwarded exactly as it was received
+      dispatch(context, envelope.get());
+      return;
+    }
+
+    final JsonRpcRequest request;
+    try {
+      request = jsonDecoder.decodeValue(context.getBody(), JsonRpcRequest.class);
+    } catch (final DecodeException | IllegalArgumentException e) {
+      recordRequest(context, "invalid");
+      sendParseErrorResponse(context, e);
+      return;
+    }
+    dispatch(context, request);
+  }
+
+  private void dispatch(final RoutingContext context, final JsonRpcRequest request) {
+    recordRequest(context, methodLabel(request.getMethod()));
     try {
-      LOG.trace("Request body = {}", context.getBodyAsString());
-      final JsonRpcRequest request =
-          jsonDecoder.decodeValue(context.getBody(), JsonRpcRequest.class);
       context.put(ID_ELEMENT_NAME, request.getId());
       final JsonRpcRequestHandler handler =
           requestHandlerMapper.getMatchingHandler(request.getMethod());
-      handler.handle(context, request);
+      handler.handle(context, request, new ForwardedMessageResponder(context));
     } catch (final DecodeException | IllegalArgumentException e) {
       sendParseErrorResponse(context, e);
     }
   }
 
+  private void recordRequest(final RoutingContext context, final String label) {
+    final RequestTimer timer = metrics.startRequest(label);
+    context.addEndHandler(result -> timer.complete(context.response().getStatusCode()));
+  }
+
+  private String methodLabel(final String method) {
+    if (method == null) {
+      return "invalid";
+    }
+    return requestHandlerMapper.hasHandler(method) || RECORDED_PASS_THROUGH_METHODS.contains(method)
+        ? method
+        : "other";
+  }
+
+  private void handleBatch(final RoutingContext context) {
+    final JsonArray batch;
+    try {
+      batch = new JsonArray(context.getBody());
+    } catch (final DecodeException e) {
+      sendParseErrorResponse(context, e);
+      return;
+    }
+    batchHandler.handle(context, batch);
+  }
+
+  private static boolean isBatch(final Buffer body) {
+    if (body == null) {
+      return false;
+    }
+    for (int i = 0; i < body.length(); i++) {
+      final byte b = body.getByte(i);
+      if (!Character.isWhitespace(b)) {
+        return b == '[';
+      }
+    }
+    return false;
+  }
+
   private void sendParseErrorResponse(final RoutingContext context, final Throwable error) {
     LOG.info("Dropping request from {}", context.request().remoteAddress());
     LOG.debug("Parsing body as JSON failed for: {}", context.getBodyAsString(), error);
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.http;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Token bucket rate limits, one bucket per key, such as a client or sending account. Each bucket
+ * holds up to one second's worth of permits, so a key may briefly burst to its rate before being
+ * held to it.
+ *
+ * <p>A bucket which has been idle long enough to refill is discarded, as a new bucket is
+ * equivalent; the number of buckets is bounded, and a bucket evicted to make room for another is
+ * refilled if its key is seen again.
+ */
+public class RateLimiter {
+
+  private static final long MAX_KEYS = 100_000;
+
+  private final double permitsPerSecond;
+  private final double capacity;
+  private final LongSupplier nanoTime;
+  private final Cache<String, Bucket> buckets;
+
+  public RateLimiter(final double permitsPerSecond) {
+    this(permitsPerSecond, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  RateLimiter(final double permitsPerSecond, final LongSupplier nanoTime) {
+    this.permitsPerSecond = permitsPerSecond;
+    this.capacity = Math.max(1, permitsPerSecond);
+    this.nanoTime = nanoTime;
+    this.buckets =
+        CacheBuilder.newBuilder()
+            .maximumSize(MAX_KEYS)
+            .expireAfterAccess(Duration.ofNanos(nanosToFill()).plusSeconds(1))
+            .build();
+  }
+
+  /** Takes a permit from the key's bucket, returning false if it is empty. */
+  public boolean tryAcquire(final String key) {
+    try {
+      return buckets.get(key, Bucket::new).tryAcquire();
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Failed to create rate limit for " + key, e);
+    }
+  }
+
+  private long nanosToFill() {
+    return (long) (capacity / permitsPerSecond * Duration.ofSeconds(1).toNanos());
+  }
+
+  private class Bucket {
+
+    private double permits = capacity;
+    private long lastRefill = nanoTime.getAsLong();
+
+    synchronized boolean tryAcquire() {
+      final long now = nanoTime.getAsLong();
+      permits = Math.min(capacity, permits + (now - lastRefill) * permitsPerSecond / 1e9);
+      lastRefill = now;
+      if (permits < 1) {
+        return false;
+      }
+      permits--;
+      return true;
+    }
+  }
+}
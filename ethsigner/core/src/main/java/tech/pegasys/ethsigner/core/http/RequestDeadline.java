@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.http;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The time by which a JSON-RPC request must be answered. It is set when the request is received and
+ * bounds every downstream request made on its behalf, so a request which needs several of them,
+ * such as the nonce, storeraw and submission of a private transaction, still completes in time. A
+ * client may shorten it, but not extend it, with the {@link #REQUEST_TIMEOUT_HEADER} header.
+ */
+public class RequestDeadline {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Milliseconds the client will wait for its response. */
+  public static final String REQUEST_TIMEOUT_HEADER = "Request-Timeout";
+
+  private static final String CONTEXT_KEY = "RequestDeadline";
+
+  private final long deadlineNanos;
+  private final LongSupplier nanoTime;
+  private volatile boolean ended = false;
+
+  @VisibleForTesting
+  RequestDeadline(final Duration timeout, final LongSupplier nanoTime) {
+    this.deadlineNanos = nanoTime.getAsLong() + timeout.toNanos();
+    this.nanoTime = nanoTime;
+  }
+
+  /** Sets the deadline of the request, the given timeout from now unless the client asks less. */
+  public static void start(final RoutingContext context, final Duration timeout) {
+    final RequestDeadline deadline = forRequest(context.request(), timeout, System::nanoTime);
+    context.addEndHandler(ignored -> deadline.ended = true);
+    context.put(CONTEXT_KEY, deadline);
+  }
+
+  /** @return the deadline of the request, or empty if it has none */
+  public static Optional<RequestDeadline> of(final RoutingContext context) {
+    return Optional.ofNullable(context.get(CONTEXT_KEY));
+  }
+
+  @VisibleForTesting
+  static RequestDeadline forRequest(
+      final HttpServerRequest request, final Duration timeout, final LongSupplier nanoTime) {
+    final Duration requestTimeout =
+        clientTimeout(request)
+            .filter(requested -> requested.compareTo(timeout) < 0)
+            .orElse(timeout);
+    return new RequestDeadline(requestTimeout, nanoTime);
+  }
+
+  private static Optional<Duration> clientTimeout(final HttpServerRequest request) {
+    final String header = request.getHeader(REQUEST_TIMEOUT_HEADER);
+    if (header == null) {
+      return Optional.empty();
+    }
+    try {
+      final long millis = Long.parseLong(header.trim());
+      if (millis > 0) {
+        return Optional.of(Duration.ofMillis(millis));
+      }
+    } catch (final NumberFormatException e) {
+      // reported below
+    }
+    LOG.debug("Ignoring invalid {} header: {}", REQUEST_TIMEOUT_HEADER, header);
+    return Optional.empty();
+  }
+
+  public Duration remaining() {
+    return Duration.ofNanos(Math.max(0, deadlineNanos - nanoTime.getAsLong()));
+  }
+
+  public boolean isExpired() {
+    return deadlineNanos - nanoTime.getAsLong() <= 0;
+  }
+
+  /**
+   * @return true once the response has been sent or the client has disconnected, so nothing more
+   *     need be done for the request
+   */
+  public boolean hasEnded() {
+    return ended;
+  }
+
+  /** @return the given timeout, or the time remaining until the deadline if that is shorter */
+  public Duration bound(final Duration timeout) {
+    final Duration remaining = remaining();
+    return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+  }
+}
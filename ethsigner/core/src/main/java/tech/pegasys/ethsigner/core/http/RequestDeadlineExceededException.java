@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.http;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The deadline of a request passed before it could be answered. It is a TimeoutException, so is
+ * reported with the same status as a downstream request which timed out.
+ */
+public class RequestDeadlineExceededException extends TimeoutException {
+
+  public RequestDeadlineExceededException() {
+    super("Request deadline exceeded");
+  }
+}
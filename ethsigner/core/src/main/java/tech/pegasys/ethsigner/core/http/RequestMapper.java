@@ -30,6 +30,10 @@ public class RequestMapper {
     handlers.put(jsonMethod, requestHandler);
   }
 
+  public boolean hasHandler(final String method) {
+    return handlers.containsKey(method);
+  }
+
   public JsonRpcRequestHandler getMatchingHandler(final String method) {
     return handlers.getOrDefault(method, defaultHandler);
   }
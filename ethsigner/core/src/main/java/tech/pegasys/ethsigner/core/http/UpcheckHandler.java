@@ -12,13 +12,33 @@
  */
 package tech.pegasys.ethsigner.core.http;
 
+import tech.pegasys.ethsigner.core.downstream.CircuitBreaker;
+
+import java.util.Locale;
+import java.util.Optional;
+
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 
 public class UpcheckHandler implements Handler<RoutingContext> {
 
+  /** Reports the state of the downstream circuit breaker, when there is one. */
+  public static final String CIRCUIT_BREAKER_HEADER = "Downstream-Circuit-Breaker";
+
+  private final Optional<CircuitBreaker> circuitBreaker;
+
+  public UpcheckHandler(final Optional<CircuitBreaker> circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
   @Override
   public void handle(final RoutingContext routingContext) {
+    circuitBreaker.ifPresent(
+        breaker ->
+            routingContext
+                .response()
+                .putHeader(
+                    CIRCUIT_BREAKER_HEADER, breaker.getState().name().toLowerCase(Locale.ROOT)));
     routingContext.response().end("I'm up!");
   }
 }
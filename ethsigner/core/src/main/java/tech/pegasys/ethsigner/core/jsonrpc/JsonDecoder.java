@@ -14,8 +14,13 @@ package tech.pegasys.ethsigner.core.jsonrpc;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
@@ -35,4 +40,120 @@ public class JsonDecoder {
       throw new DecodeException("Failed to decode:" + e.getMessage(), e);
     }
   }
+
+  /** Binds an already parsed JSON value, such as the map of a JSON object, without encoding it. */
+  public <T> T convertValue(final Object value, final Class<T> clazz) {
+    return mapper.convertValue(value, clazz);
+  }
+
+  /**
+   * Reads only the envelope of a single JSON-RPC request, being its version, method and id, without
+   * building the params. The body is still scanned to its end so malformed JSON is not accepted.
+   * Empty is returned when the body is anything other than a well-formed request of the expected
+   * shape; a full decode of such a body reports the same error it always has.
+   */
+  public Optional<JsonRpcRequest> decodeEnvelope(final Buffer buf) {
+    if (buf == null) {
+      return Optional.empty();
+    }
+    try (final JsonParser parser =
+        mapper.getFactory().createParser((InputStream) new ByteBufInputStream(buf.getByteBuf()))) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      String version = null;
+      String method = null;
+      JsonRpcRequestId id = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String field = parser.getCurrentName();
+        parser.nextToken();
+        switch (field) {
+          case "jsonrpc":
+            version = parser.getValueAsString();
+            break;
+          case "method":
+            method = parser.getValueAsString();
+            break;
+          case "id":
+            id = mapper.readValue(parser, JsonRpcRequestId.class);
+            break;
+          case "params":
+            parser.skipChildren();
+            break;
+          default:
+            return Optional.empty();
+        }
+      }
+      if (version == null || method == null) {
+        return Optional.empty();
+      }
+      final JsonRpcRequest request = new JsonRpcRequest(version, method);
+      request.setId(id);
+      return Optional.of(request);
+    } catch (final IOException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Binds the single parameter of a JSON-RPC request, given either alone or as the only element of
+   * an array, to the given type. The parameter is read from the tokens recorded when the request
+   * was decoded, so it is parsed only once and never copied into an intermediate object tree.
+   */
+  public <T> T decodeParams(final JsonRpcRequest request, final Class<T> type)
+      throws DecodeException {
+    final TokenBuffer rawParams = request.getRawParams();
+    if (rawParams == null) {
+      // the request was created in code rather than decoded
+      final T value = mapper.convertValue(singleParam(request.getParams(), type), type);
+      return requireNonNull(value, type);
+    }
+
+    try (final JsonParser parser = rawParams.asParser(mapper)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        return requireNonNull(mapper.readValue(parser, type), type);
+      }
+      if (parser.nextToken() == JsonToken.END_ARRAY) {
+        throw paramCountException(type, 0);
+      }
+      final T value = mapper.readValue(parser, type);
+      int count = 1;
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        parser.skipChildren();
+        count++;
+      }
+      if (count != 1) {
+        throw paramCountException(type, count);
+      }
+      return requireNonNull(value, type);
+    } catch (final IOException e) {
+      throw new DecodeException("Failed to decode:" + e.getMessage(), e);
+    }
+  }
+
+  private static Object singleParam(final Object params, final Class<?> type) {
+    if (params instanceof List) {
+      final List<?> paramList = (List<?>) params;
+      if (paramList.size() != 1) {
+        throw paramCountException(type, paramList.size());
+      }
+      return paramList.get(0);
+    }
+    return params;
+  }
+
+  private static <T> T requireNonNull(final T value, final Class<T> type) {
+    if (value == null) {
+      throw new IllegalArgumentException(
+          type.getSimpleName()
+              + " json Rpc requires a valid parameter, request contained a null object");
+    }
+    return value;
+  }
+
+  private static IllegalArgumentException paramCountException(
+      final Class<?> type, final int count) {
+    return new IllegalArgumentException(
+        type.getSimpleName() + " json Rpc requires a single parameter, request contained " + count);
+  }
 }
@@ -14,6 +14,8 @@ package tech.pegasys.ethsigner.core.jsonrpc;
 
 import tech.pegasys.ethsigner.core.jsonrpc.exception.InvalidJsonRpcRequestException;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -23,15 +25,22 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.base.Objects;
 
 @JsonPropertyOrder({"jsonrpc", "method", "params", "id"})
 public class JsonRpcRequest {
 
+  private static final ObjectMapper UNTYPED_MAPPER = new ObjectMapper();
+
   private final String method;
   private final String version;
   private JsonRpcRequestId id;
   private Object params;
+  // the params tokens as decoded, so they can be bound to a type without parsing them again
+  private TokenBuffer rawParams;
 
   @JsonCreator
   public JsonRpcRequest(
@@ -61,17 +70,34 @@ public class JsonRpcRequest {
   @JsonInclude(Include.NON_NULL)
   @JsonGetter("params")
   public Object getParams() {
+    if (params == null && rawParams != null) {
+      try (final JsonParser parser = rawParams.asParser(UNTYPED_MAPPER)) {
+        params = parser.readValueAs(Object.class);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
     return params;
   }
 
+  TokenBuffer getRawParams() {
+    return rawParams;
+  }
+
   @JsonSetter("id")
   public void setId(final JsonRpcRequestId id) {
     this.id = id;
   }
 
-  @JsonSetter("params")
   public void setParams(final Object params) {
     this.params = params;
+    this.rawParams = null;
+  }
+
+  @JsonSetter("params")
+  void setRawParams(final TokenBuffer rawParams) {
+    this.params = null;
+    this.rawParams = rawParams;
   }
 
   @Override
@@ -84,13 +110,14 @@ public class JsonRpcRequest {
     }
     final JsonRpcRequest that = (JsonRpcRequest) o;
 
-    return isParamsEqual(that.params)
+    return isParamsEqual(that.getParams())
         && Objects.equal(id, that.id)
         && Objects.equal(method, that.method)
         && Objects.equal(version, that.version);
   }
 
   private boolean isParamsEqual(final Object otherParams) {
+    final Object params = getParams();
     if (params.getClass().isArray()) {
       if (!otherParams.getClass().isArray()) {
         return false;
@@ -107,6 +134,7 @@ public class JsonRpcRequest {
 
   @Override
   public int hashCode() {
+    final Object params = getParams();
     final int paramsHashCode;
     if (params.getClass().isArray()) {
       paramsHashCode = Arrays.hashCode((Object[]) params);
@@ -172,9 +172,19 @@ public enum JsonRpcError {
   // Gateway errors
   CONNECTION_TO_DOWNSTREAM_NODE_TIMED_OUT(-32000, "Connection to downstream node timed out"),
   FAILED_TO_CONNECT_TO_DOWNSTREAM_NODE(-32000, "Failed to connect to downstream node"),
+  DOWNSTREAM_NODE_OVERLOADED(-32000, "Downstream node is at its concurrency limit"),
+  REQUEST_DEADLINE_EXCEEDED(-32000, "Request deadline exceeded"),
 
   // Transaction signing errors
   SIGNING_FROM_IS_NOT_AN_UNLOCKED_ACCOUNT(-32000, "No unlocked account matches the Sender"),
+  TOO_MANY_PENDING_TRANSACTIONS(-32000, "Too many transactions pending for the Sender"),
+  IDEMPOTENCY_KEY_REUSED(-32000, "Idempotency key was used for a different request"),
+
+  // Admission control errors
+  TOO_MANY_REQUESTS_IN_PROGRESS(-32000, "Too many requests in progress"),
+  RATE_LIMIT_EXCEEDED(-32000, "Rate limit exceeded"),
+  REQUEST_BODY_TOO_LARGE(-32000, "Request body too large"),
+  BATCH_TOO_LARGE(-32000, "Batch request has too many elements"),
 
   // GoQuorum transaction validation
   ETHER_VALUE_NOT_SUPPORTED(-30200, "ether value is not supported for private transactions");
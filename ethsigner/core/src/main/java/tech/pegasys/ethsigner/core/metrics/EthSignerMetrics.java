@@ -0,0 +1,392 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.metrics;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import javax.net.ssl.SSLException;
+
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
+
+/**
+ * Instruments the request path: JSON-RPC requests received, signing operations and the requests
+ * EthSigner makes of the downstream node. A single instance is shared by all HTTP server instances,
+ * as metrics can only be registered once with the MetricsSystem.
+ */
+public class EthSignerMetrics {
+
+  private final MetricsSystem metricsSystem;
+  private final LabelledMetric<Counter> requests;
+  private final LabelledMetric<OperationTimer> requestLatency;
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+  private final LabelledMetric<OperationTimer> signingLatency;
+  private final OperationTimer downstreamLatency;
+  private final LabelledMetric<Counter> downstreamErrors;
+  private final AtomicInteger inFlightDownstreamRequests = new AtomicInteger();
+  private final AtomicInteger openDownstreamConnections = new AtomicInteger();
+  private final OperationTimer nonceFetchLatency;
+  private final Counter nonceTooLowRetries;
+  private final Counter retryBudgetExhaustions;
+  private final LabelledMetric<Counter> asyncDeliveries;
+  private final Counter idempotentReplays;
+  private final LabelledMetric<Counter> responseCacheRequests;
+  private final Counter responseCacheEvictions;
+  private final LabelledMetric<Counter> coalescedRequests;
+  private final LabelledMetric<Counter> admissionRejections;
+  private final LabelledMetric<Counter> downstreamRejections;
+  private final Counter circuitBreakerRejections;
+  private final LabelledMetric<Counter> hedgedRequests;
+
+  public EthSignerMetrics(final MetricsSystem metricsSystem) {
+    this.metricsSystem = metricsSystem;
+    requests =
+        metricsSystem.createLabelledCounter(
+            EthSignerMetricCategory.HTTP,
+            "jsonrpc_requests",
+            "Number of JSON-RPC requests handled, by method and HTTP response status",
+            "method",
+            "status");
+    requestLatency =
+        metricsSystem.createLabelledTimer(
+            EthSignerMetricCategory.HTTP,
+            "jsonrpc_request_latency_seconds",
+            "Time from receiving a JSON-RPC request to sending its response",
+            "method");
+    metricsSystem.createIntegerGauge(
+        EthSignerMetricCategory.HTTP,
+        "jsonrpc_requests_in_flight",
+        "Number of JSON-RPC requests currently being handled",
+        inFlightRequests::get);
+    downstreamLatency =
+        metricsSystem.createTimer(
+            EthSignerMetricCategory.HTTP,
+            "downstream_request_latency_seconds",
+            "Time taken for the downstream node to respond to a request");
+    downstreamErrors =
+        metricsSystem.createLabelledCounter(
+            EthSignerMetricCategory.HTTP,
+            "downstream_request_errors",
+            "Number of requests to the downstream node which failed without a response",
+            "reason");
+    metricsSystem.createIntegerGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_requests_in_flight",
+        "Number of requests awaiting a response from the downstream node",
+        inFlightDownstreamRequests::get);
+    metricsSystem.createIntegerGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_connections_open",
+        "Number of open connections to the downstream node",
+        openDownstreamConnections::get);
+    signingLatency =
+        metricsSystem.createLabelledTimer(
+            EthSignerMetricCategory.SIGNING,
+            "sign_latency_seconds",
+            "Time taken to sign data, by signing address",
+            "signer");
+    nonceFetchLatency =
+        metricsSystem.createTimer(
+            EthSignerMetricCategory.SIGNING,
+            "nonce_fetch_latency_seconds",
+            "Time taken to obtain a transaction nonce from the downstream node");
+    nonceTooLowRetries =
+        metricsSystem.createCounter(
+            EthSignerMetricCategory.SIGNING,
+            "nonce_too_low_retries",
+            "Number of transactions resubmitted after the downstream node reported nonce too low");
+    retryBudgetExhaustions =
+        metricsSystem.createCounter(
+            EthSignerMetricCategory.SIGNING,
+            "retry_budget_exhausted",
+            "Number of transaction resubmissions abandoned because the retry budget was spent");
+    asyncDeliveries =
+        metricsSystem.createLabelledCounter(
+            EthSignerMetricCategory.SIGNING,
+            "async_transaction_deliveries",
+            "Number of transactions delivered in the background after their hash was returned, "
+                + "by outcome",
+            "result");
+    idempotentReplays =
+        metricsSystem.createCounter(
+            EthSignerMetricCategory.SIGNING,
+            "idempotent_replays",
+            "Number of transaction submissions answered by an earlier one with the same "
+                + "idempotency key");
+    responseCacheRequests =
+        metricsSystem.createLabelledCounter(
+            EthSignerMetricCategory.HTTP,
+            "response_cache_requests",
+            "Number of cacheable passed through requests, by method and whether they were cached",
+            "method",
+            "result");
+    responseCacheEvictions =
+        metricsSystem.createCounter(
+            EthSignerMetricCategory.HTTP,
+            "response_cache_evictions",
+            "Number of responses evicted from the response cache to make room for others");
+    coalescedRequests =
+        metricsSystem.createLabelledCounter(
+            EthSignerMetricCategory.HTTP,
+            "coalesced_requests",
+            "Number of passed through requests answered by an identical request already in flight",
+            "method");
+    admissionRejections =
+        metricsSystem.createLabelledCounter(
+            EthSignerMetricCategory.HTTP,
+            "admission_rejections",
+            "Number of requests rejected by admission control, by reason",
+            "reason");
+    downstreamRejections =
+        metricsSystem.createLabelledCounter(
+            EthSignerMetricCategory.HTTP,
+            "downstream_concurrency_rejections",
+            "Number of requests not sent to the downstream node because it was at its concurrency "
+                + "limit, by reason",
+            "reason");
+    circuitBreakerRejections =
+        metricsSystem.createCounter(
+            EthSignerMetricCategory.HTTP,
+            "downstream_circuit_breaker_rejections",
+            "Number of requests failed without being sent because the downstream circuit breaker "
+                + "was open");
+    hedgedRequests =
+        metricsSystem.createLabelledCounter(
+            EthSignerMetricCategory.HTTP,
+            "downstream_hedged_requests",
+            "Number of passed through requests which were slow enough to hedge, by method and "
+                + "outcome (sent, won or budget_exhausted)",
+            "method",
+            "outcome");
+  }
+
+  /** Metrics which are discarded, for use where no MetricsSystem is available. */
+  public static EthSignerMetrics noop() {
+    return new EthSignerMetrics(new NoOpMetricsSystem());
+  }
+
+  /** Records a JSON-RPC request; the returned timer must be completed when it is responded to. */
+  public RequestTimer startRequest(final String method) {
+    inFlightRequests.incrementAndGet();
+    final TimingContext timer = requestLatency.labels(method).startTimer();
+    return statusCode -> {
+      timer.stopTimer();
+      inFlightRequests.decrementAndGet();
+      requests.labels(method, String.valueOf(statusCode)).inc();
+    };
+  }
+
+  /** Records a downstream request; the returned timer must be completed once it has concluded. */
+  public DownstreamRequestTimer startDownstreamRequest() {
+    inFlightDownstreamRequests.incrementAndGet();
+    final TimingContext timer = downstreamLatency.startTimer();
+    return new DownstreamRequestTimer() {
+      @Override
+      public void succeeded() {
+        stop();
+      }
+
+      @Override
+      public void failed(final Throwable error) {
+        stop();
+        downstreamErrors.labels(errorReason(error)).inc();
+      }
+
+      @Override
+      public void cancelled() {
+        // an abandoned request did not run its course, so its duration is not a latency
+        inFlightDownstreamRequests.decrementAndGet();
+      }
+
+      private void stop() {
+        timer.stopTimer();
+        inFlightDownstreamRequests.decrementAndGet();
+      }
+    };
+  }
+
+  /**
+   * Reports the maximum number of connections all downstream pools may open, and the proportion of
+   * them that are open. Must be called at most once.
+   */
+  public void registerDownstreamPoolCapacity(final int maxConnections) {
+    metricsSystem.createIntegerGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_connections_max",
+        "Maximum number of connections to the downstream node",
+        () -> maxConnections);
+    metricsSystem.createGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_connection_pool_utilisation",
+        "Ratio of open to maximum connections to the downstream node",
+        () -> openDownstreamConnections.get() / (double) maxConnections);
+  }
+
+  public void downstreamConnectionOpened() {
+    openDownstreamConnections.incrementAndGet();
+  }
+
+  public void downstreamConnectionClosed() {
+    openDownstreamConnections.decrementAndGet();
+  }
+
+  /**
+   * Reports the adaptive limit on requests outstanding at the downstream node, and the number of
+   * requests waiting to be sent. Must be called at most once.
+   */
+  public void registerDownstreamConcurrency(final IntSupplier limit, final IntSupplier queued) {
+    metricsSystem.createIntegerGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_concurrency_limit",
+        "Number of requests which may be outstanding at the downstream node",
+        limit);
+    metricsSystem.createIntegerGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_concurrency_queued",
+        "Number of requests waiting to be sent to the downstream node",
+        queued);
+  }
+
+  /** Reports the number of hedged requests which may currently be sent. Must be called once. */
+  public void registerHedgeBudget(final DoubleSupplier budget) {
+    metricsSystem.createGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_hedge_budget",
+        "Number of hedged requests which may be sent before the hedge budget is exhausted",
+        budget);
+  }
+
+  public void hedgedRequest(final String method, final String outcome) {
+    hedgedRequests.labels(method, outcome).inc();
+  }
+
+  public void downstreamRequestRejected(final String reason) {
+    downstreamRejections.labels(reason).inc();
+  }
+
+  /**
+   * Reports the state of the downstream circuit breaker: 0 closed, 1 open, 2 half open. Must be
+   * called at most once.
+   */
+  public void registerCircuitBreakerState(final IntSupplier state) {
+    metricsSystem.createIntegerGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_circuit_breaker_state",
+        "State of the downstream circuit breaker: 0 closed, 1 open, 2 half open",
+        state);
+  }
+
+  public void circuitBreakerRejection() {
+    circuitBreakerRejections.inc();
+  }
+
+  /** Reports the number of entries in the response cache. Must be called at most once. */
+  public void registerResponseCacheSize(final LongSupplier entries) {
+    metricsSystem.createGauge(
+        EthSignerMetricCategory.HTTP,
+        "response_cache_entries",
+        "Number of responses held in the response cache",
+        entries::getAsLong);
+  }
+
+  /** Reports the number of the head block of the downstream chain. Must be called at most once. */
+  public void registerChainHead(final LongSupplier blockNumber) {
+    metricsSystem.createGauge(
+        EthSignerMetricCategory.HTTP,
+        "downstream_chain_head",
+        "Number of the block at the head of the downstream chain",
+        blockNumber::getAsLong);
+  }
+
+  public void responseCacheHit(final String method) {
+    responseCacheRequests.labels(method, "hit").inc();
+  }
+
+  public void responseCacheMiss(final String method) {
+    responseCacheRequests.labels(method, "miss").inc();
+  }
+
+  public void responseCacheEviction() {
+    responseCacheEvictions.inc();
+  }
+
+  public void coalescedRequest(final String method) {
+    coalescedRequests.labels(method).inc();
+  }
+
+  public void admissionRejected(final String reason) {
+    admissionRejections.labels(reason).inc();
+  }
+
+  public TimingContext startSigning(final String signer) {
+    return signingLatency.labels(signer).startTimer();
+  }
+
+  public TimingContext startNonceFetch() {
+    return nonceFetchLatency.startTimer();
+  }
+
+  public void nonceTooLowRetry() {
+    nonceTooLowRetries.inc();
+  }
+
+  public void retryBudgetExhausted() {
+    retryBudgetExhaustions.inc();
+  }
+
+  public void asyncDelivery(final String result) {
+    asyncDeliveries.labels(result).inc();
+  }
+
+  public void registerAsyncDeliveriesPending(final IntSupplier pending) {
+    metricsSystem.createIntegerGauge(
+        EthSignerMetricCategory.SIGNING,
+        "async_transaction_deliveries_pending",
+        "Number of transactions whose hash was returned which are still being delivered",
+        pending);
+  }
+
+  public void idempotentReplay() {
+    idempotentReplays.inc();
+  }
+
+  private static String errorReason(final Throwable error) {
+    if (error instanceof TimeoutException) {
+      return "timeout";
+    } else if (error instanceof ConnectException || error instanceof SSLException) {
+      return "connection";
+    }
+    return "other";
+  }
+
+  @FunctionalInterface
+  public interface RequestTimer {
+    void complete(int statusCode);
+  }
+
+  public interface DownstreamRequestTimer {
+    void succeeded();
+
+    void failed(Throwable error);
+
+    void cancelled();
+  }
+}
@@ -13,10 +13,12 @@
 package tech.pegasys.ethsigner.core.requesthandler;
 
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.ForwardedMessageResponder;
 
 import io.vertx.ext.web.RoutingContext;
 
 public interface JsonRpcRequestHandler {
 
-  void handle(RoutingContext context, JsonRpcRequest rpcRequest);
+  void handle(
+      RoutingContext context, JsonRpcRequest rpcRequest, ForwardedMessageResponder responder);
 }
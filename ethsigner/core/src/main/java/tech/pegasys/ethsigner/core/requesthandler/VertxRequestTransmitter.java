@@ -12,18 +12,32 @@
  */
 package tech.pegasys.ethsigner.core.requesthandler;
 
+import tech.pegasys.ethsigner.core.downstream.CircuitBreaker;
+import tech.pegasys.ethsigner.core.downstream.CircuitOpenException;
+import tech.pegasys.ethsigner.core.downstream.ConcurrencyLimiter;
+import tech.pegasys.ethsigner.core.downstream.ConcurrencyLimiter.Permit;
+import tech.pegasys.ethsigner.core.downstream.DownstreamEndpoint;
+import tech.pegasys.ethsigner.core.downstream.DownstreamLoadBalancer;
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
+import tech.pegasys.ethsigner.core.http.RequestDeadlineExceededException;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics.DownstreamRequestTimer;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DownstreamPathCalculator;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
 import org.apache.logging.log4j.LogManager;
@@ -33,24 +47,43 @@ public class VertxRequestTransmitter implements RequestTransmitter {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  private final Vertx vertx;
   private final Duration httpRequestTimeout;
   private final DownstreamResponseHandler bodyHandler;
+  private final Optional<RequestDeadline> deadline;
   private final HttpClient downStreamConnection;
+  private final DownstreamLoadBalancer loadBalancer;
   private final DownstreamPathCalculator downstreamPathCalculator;
+  private final Optional<CircuitBreaker> circuitBreaker;
+  private final Optional<ConcurrencyLimiter> concurrencyLimiter;
+  private final EthSignerMetrics metrics;
   private final AtomicBoolean responseHandled = new AtomicBoolean(false);
+  private DownstreamRequestTimer downstreamTimer;
+  private Optional<CircuitBreaker.Call> circuitBreakerCall = Optional.empty();
+  private Optional<Permit> permit = Optional.empty();
+  private DownstreamEndpoint.Request endpointRequest;
+  private HttpClientRequest downstreamRequest;
+  // read by the concurrency limiter while the request waits for a permit
+  private volatile boolean cancelled = false;
 
   public VertxRequestTransmitter(
-      final Vertx vertx,
       final HttpClient downStreamConnection,
+      final DownstreamLoadBalancer loadBalancer,
       final Duration httpRequestTimeout,
       final DownstreamPathCalculator downstreamPathCalculator,
-      final DownstreamResponseHandler bodyHandler) {
-    this.vertx = vertx;
+      final DownstreamResponseHandler bodyHandler,
+      final Optional<RequestDeadline> deadline,
+      final Optional<CircuitBreaker> circuitBreaker,
+      final Optional<ConcurrencyLimiter> concurrencyLimiter,
+      final EthSignerMetrics metrics) {
     this.httpRequestTimeout = httpRequestTimeout;
     this.bodyHandler = bodyHandler;
+    this.deadline = deadline;
     this.downStreamConnection = downStreamConnection;
+    this.loadBalancer = loadBalancer;
     this.downstreamPathCalculator = downstreamPathCalculator;
+    this.circuitBreaker = circuitBreaker;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.metrics = metrics;
   }
 
   @Override
@@ -59,6 +92,49 @@ public class VertxRequestTransmitter implements RequestTransmitter {
       final Iterable<Entry<String, String>> headers,
       final String path,
       final String body) {
+    transmit(method, headers, path, body, Optional.empty());
+  }
+
+  /** Sends the request to the given endpoint, rather than one chosen by the load balancer. */
+  public void sendRequest(
+      final HttpMethod method,
+      final Iterable<Entry<String, String>> headers,
+      final String path,
+      final String body,
+      final DownstreamEndpoint endpoint) {
+    transmit(method, headers, path, body, Optional.of(endpoint));
+  }
+
+  /**
+   * Abandons the request if it has not concluded, without reporting to the response handler. A
+   * request which has been sent is reset, so its connection is not held waiting for the response.
+   */
+  public void cancel() {
+    if (responseHandled.getAndSet(true)) {
+      return;
+    }
+    cancelled = true;
+    circuitBreakerCall.ifPresent(CircuitBreaker.Call::cancelled);
+    if (downstreamTimer == null) {
+      // still waiting for a permit, the concurrency limiter drops the request from its queue
+      return;
+    }
+    downstreamTimer.cancelled();
+    permit.ifPresent(Permit::cancelled);
+    if (endpointRequest != null) {
+      endpointRequest.cancelled();
+    }
+    if (downstreamRequest != null) {
+      downstreamRequest.reset();
+    }
+  }
+
+  private void transmit(
+      final HttpMethod method,
+      final Iterable<Entry<String, String>> headers,
+      final String path,
+      final String body,
+      final Optional<DownstreamEndpoint> endpoint) {
     LOG.debug(
         "Sending headers {} and request {} to {} ",
         () ->
@@ -69,53 +145,200 @@ public class VertxRequestTransmitter implements RequestTransmitter {
         () -> path);
 
     final String fullPath = downstreamPathCalculator.calculateDownstreamPath(path);
+    if (isDeadlineExpired()) {
+      handleRejection(new RequestDeadlineExceededException());
+      return;
+    }
+    if (circuitBreaker.isPresent()) {
+      circuitBreakerCall = circuitBreaker.get().tryAcquire();
+      if (circuitBreakerCall.isEmpty()) {
+        handleRejection(new CircuitOpenException("Downstream circuit breaker is open"));
+        return;
+      }
+    }
+    if (concurrencyLimiter.isEmpty()) {
+      start(method, headers, fullPath, body, endpoint);
+      return;
+    }
+    concurrencyLimiter
+        .get()
+        .submit(
+            acquired -> {
+              permit = Optional.of(acquired);
+              start(method, headers, fullPath, body, endpoint);
+            },
+            this::handleQueueRejection,
+            this::isAbandoned);
+  }
+
+  private void start(
+      final HttpMethod method,
+      final Iterable<Entry<String, String>> headers,
+      final String fullPath,
+      final String body,
+      final Optional<DownstreamEndpoint> endpoint) {
+    if (cancelled) {
+      permit.ifPresent(Permit::cancelled);
+      return;
+    }
+    // the request may have waited for a permit until there is no time left to send it
+    if (isDeadlineExpired()) {
+      permit.ifPresent(Permit::cancelled);
+      handleRejection(new RequestDeadlineExceededException());
+      return;
+    }
+    downstreamTimer = metrics.startDownstreamRequest();
+    send(
+        endpoint.orElseGet(loadBalancer::select),
+        new ArrayList<>(),
+        method,
+        headers,
+        fullPath,
+        body);
+  }
+
+  private void send(
+      final DownstreamEndpoint endpoint,
+      final List<DownstreamEndpoint> attempted,
+      final HttpMethod method,
+      final Iterable<Entry<String, String>> headers,
+      final String fullPath,
+      final String body) {
+    final DownstreamEndpoint.Request endpointRequest = endpoint.startRequest();
+    this.endpointRequest = endpointRequest;
     downStreamConnection
-        .request(method, fullPath)
+        .request(method, endpoint.getPort(), endpoint.getHost(), fullPath)
         .onSuccess(
             request -> {
-              request.response().onSuccess(this::handleResponse).onFailure(this::handleException);
-              request.setTimeout(httpRequestTimeout.toMillis());
-              request.exceptionHandler(this::handleException);
+              if (cancelled) {
+                request.reset();
+                return;
+              }
+              downstreamRequest = request;
+              request
+                  .response()
+                  .onSuccess(
+                      response -> {
+                        endpointRequest.responded(response.statusCode());
+                        handleResponse(response);
+                      })
+                  .onFailure(
+                      thrown -> {
+                        endpointRequest.failed(thrown);
+                        handleException(thrown);
+                      });
+              request.setTimeout(timeoutMillis());
+              request.exceptionHandler(
+                  thrown -> {
+                    endpointRequest.failed(thrown);
+                    handleException(thrown);
+                  });
               headers.forEach(entry -> request.headers().add(entry.getKey(), entry.getValue()));
               request.setChunked(false);
               request.end(body);
             })
-        .onFailure(this::handleException);
+        .onFailure(
+            thrown -> {
+              endpointRequest.failed(thrown);
+              if (cancelled) {
+                return;
+              }
+              // nothing has been sent to the endpoint, so the request can be sent to another
+              attempted.add(endpoint);
+              final Optional<DownstreamEndpoint> alternative = loadBalancer.failover(attempted);
+              if (alternative.isPresent()) {
+                LOG.info("Request to {} failed, failing over to {}", endpoint, alternative.get());
+                send(alternative.get(), attempted, method, headers, fullPath, body);
+              } else {
+                handleException(thrown);
+              }
+            });
+  }
+
+  private boolean isDeadlineExpired() {
+    return deadline.map(RequestDeadline::isExpired).orElse(false);
+  }
+
+  private boolean isAbandoned() {
+    return cancelled || deadline.map(d -> d.hasEnded() || d.isExpired()).orElse(false);
+  }
+
+  private long timeoutMillis() {
+    // a timeout of zero would disable it altogether
+    return Math.max(
+        1, deadline.map(d -> d.bound(httpRequestTimeout)).orElse(httpRequestTimeout).toMillis());
   }
 
   private void handleException(final Throwable thrown) {
+    if (cancelled) {
+      return;
+    }
     LOG.error("Transmission failed", thrown);
     if (!responseHandled.getAndSet(true)) {
-      vertx.executeBlocking(
-          future -> bodyHandler.handleFailure(thrown),
-          false,
-          res -> {
-            if (res.failed()) {
-              LOG.error("Reporting failure, failed", res.cause());
-            }
-          });
+      // a timeout shortened by the request deadline says nothing of the downstream node
+      final boolean deadlineExceeded = thrown instanceof TimeoutException && isDeadlineExpired();
+      downstreamTimer.failed(thrown);
+      if (deadlineExceeded) {
+        circuitBreakerCall.ifPresent(CircuitBreaker.Call::cancelled);
+        permit.ifPresent(Permit::cancelled);
+      } else {
+        circuitBreakerCall.ifPresent(CircuitBreaker.Call::failed);
+        permit.ifPresent(Permit::dropped);
+      }
+      try {
+        bodyHandler.handleFailure(
+            deadlineExceeded ? new RequestDeadlineExceededException() : thrown);
+      } catch (final RuntimeException e) {
+        LOG.error("Reporting failure, failed", e);
+      }
+    }
+  }
+
+  private void handleQueueRejection(final Throwable rejection) {
+    if (cancelled) {
+      return;
+    }
+    if (deadline.map(RequestDeadline::hasEnded).orElse(false)) {
+      // there is no client left to report to
+      cancel();
+    } else if (isDeadlineExpired()) {
+      handleRejection(new RequestDeadlineExceededException());
+    } else {
+      handleRejection(rejection);
+    }
+  }
+
+  private void handleRejection(final Throwable rejection) {
+    circuitBreakerCall.ifPresent(CircuitBreaker.Call::cancelled);
+    if (!responseHandled.getAndSet(true)) {
+      try {
+        bodyHandler.handleFailure(rejection);
+      } catch (final RuntimeException e) {
+        LOG.error("Reporting failure, failed", e);
+      }
     }
   }
 
   private void handleResponse(final HttpClientResponse response) {
-    responseHandled.set(true);
+    if (cancelled) {
+      return;
+    }
+    if (!responseHandled.getAndSet(true)) {
+      downstreamTimer.succeeded();
+      circuitBreakerCall.ifPresent(call -> call.responded(response.statusCode()));
+      permit.ifPresent(Permit::succeeded);
+    }
     logResponse(response);
     response.bodyHandler(
-        body ->
-            vertx.executeBlocking(
-                future ->
-                    bodyHandler.handleResponse(
-                        response.headers(),
-                        response.statusCode(),
-                        body.toString(StandardCharsets.UTF_8)),
-                false,
-                res -> {
-                  if (res.failed()) {
-                    final Throwable t = res.cause();
-                    LOG.error("An unhandled error occurred while processing a response", t);
-                    bodyHandler.handleFailure(t);
-                  }
-                }));
+        body -> {
+          try {
+            bodyHandler.handleResponse(
+                response.headers(), response.statusCode(), body.toString(StandardCharsets.UTF_8));
+          } catch (final RuntimeException e) {
+            LOG.error("An unhandled error occurred while processing a response", e);
+            bodyHandler.handleFailure(e);
+          }
+        });
   }
 
   private void logResponse(final HttpClientResponse response) {
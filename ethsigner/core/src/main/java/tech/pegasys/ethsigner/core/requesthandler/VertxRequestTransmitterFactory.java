@@ -12,8 +12,17 @@
  */
 package tech.pegasys.ethsigner.core.requesthandler;
 
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
+
+import java.util.Optional;
+
 @FunctionalInterface
 public interface VertxRequestTransmitterFactory {
 
-  VertxRequestTransmitter create(DownstreamResponseHandler downstreamResponseHandler);
+  /**
+   * @param deadline the deadline of the request the transmitter acts for, which bounds the
+   *     downstream request; empty if it is bounded only by the downstream request timeout
+   */
+  VertxRequestTransmitter create(
+      DownstreamResponseHandler downstreamResponseHandler, Optional<RequestDeadline> deadline);
 }
@@ -27,10 +27,7 @@ import tech.pegasys.ethsigner.core.signing.GoQuorumPrivateTransactionSerializer;
 import tech.pegasys.ethsigner.core.signing.TransactionSerializer;
 import tech.pegasys.signers.secp256k1.api.Signer;
 
-import java.util.List;
-
 import io.vertx.core.json.DecodeException;
-import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -104,27 +101,6 @@ public class EthSignTransactionResultProvider implements ResultProvider<String>
   }
 
   public <T> T fromRpcRequestToJsonParam(final Class<T> type, final JsonRpcRequest request) {
-    final Object object;
-    final Object params = request.getParams();
-    if (params instanceof List) {
-      @SuppressWarnings("unchecked")
-      final List<Object> paramList = (List<Object>) params;
-      if (paramList.size() != 1) {
-        throw new IllegalArgumentException(
-            type.getSimpleName()
-                + " json Rpc requires one parameter, request contained "
-                + paramList.size());
-      }
-      object = paramList.get(0);
-    } else {
-      object = params;
-    }
-    if (object == null) {
-      throw new IllegalArgumentException(
-          type.getSimpleName()
-              + " json Rpc requires a valid parameter, request contained a null object");
-    }
-    final JsonObject receivedParams = JsonObject.mapFrom(object);
-    return decoder.decodeValue(receivedParams.toBuffer(), type);
+    return decoder.decodeParams(request, type);
   }
 }
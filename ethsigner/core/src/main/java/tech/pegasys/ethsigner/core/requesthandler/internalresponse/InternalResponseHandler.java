@@ -15,12 +15,12 @@ package tech.pegasys.ethsigner.core.requesthandler.internalresponse;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static tech.pegasys.ethsigner.core.util.ResponseCodeSelector.jsonRPCErrorCode;
 
-import tech.pegasys.ethsigner.core.http.HttpResponseFactory;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
 import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
 import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
 import tech.pegasys.ethsigner.core.requesthandler.JsonRpcRequestHandler;
 import tech.pegasys.ethsigner.core.requesthandler.ResultProvider;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.ForwardedMessageResponder;
 
 import io.vertx.ext.web.RoutingContext;
 import org.apache.logging.log4j.LogManager;
@@ -30,31 +30,38 @@ public class InternalResponseHandler<T> implements JsonRpcRequestHandler {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  private final HttpResponseFactory responder;
   private final ResultProvider<T> responseResultProvider;
 
-  public InternalResponseHandler(
-      final HttpResponseFactory responder, final ResultProvider<T> responseResultProvider) {
-    this.responder = responder;
+  public InternalResponseHandler(final ResultProvider<T> responseResultProvider) {
     this.responseResultProvider = responseResultProvider;
   }
 
   @Override
-  public void handle(final RoutingContext context, final JsonRpcRequest rpcRequest) {
+  public void handle(
+      final RoutingContext context,
+      final JsonRpcRequest rpcRequest,
+      final ForwardedMessageResponder responder) {
     LOG.debug("Internally responding to {}, id={}", rpcRequest.getMethod(), rpcRequest.getId());
-    try {
-      final T result = responseResultProvider.createResponseResult(rpcRequest);
-      responder.successResponse(context.response(), rpcRequest.getId(), result);
-    } catch (final JsonRpcException e) {
-      final JsonRpcError jsonRpcError = e.getJsonRpcError();
-      responder.failureResponse(
-          context.response(), rpcRequest.getId(), jsonRPCErrorCode(e), jsonRpcError);
-    } catch (final RuntimeException e) {
+    // result providers may sign, which can block, so must not be run on the event loop
+    context
+        .vertx()
+        .<T>executeBlocking(
+            promise -> promise.complete(responseResultProvider.createResponseResult(rpcRequest)),
+            false)
+        .onSuccess(result -> responder.successResponse(rpcRequest.getId(), result))
+        .onFailure(thrown -> handleFailure(responder, rpcRequest, thrown));
+  }
+
+  private void handleFailure(
+      final ForwardedMessageResponder responder,
+      final JsonRpcRequest rpcRequest,
+      final Throwable thrown) {
+    if (thrown instanceof JsonRpcException) {
+      final JsonRpcException e = (JsonRpcException) thrown;
+      responder.failureResponse(rpcRequest.getId(), jsonRPCErrorCode(e), e.getJsonRpcError());
+    } else {
       responder.failureResponse(
-          context.response(),
-          rpcRequest.getId(),
-          INTERNAL_SERVER_ERROR.code(),
-          JsonRpcError.INTERNAL_ERROR);
+          rpcRequest.getId(), INTERNAL_SERVER_ERROR.code(), JsonRpcError.INTERNAL_ERROR);
     }
   }
 }
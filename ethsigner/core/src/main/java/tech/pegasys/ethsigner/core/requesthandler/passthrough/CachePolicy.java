@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * How the responses to a JSON-RPC method may be cached: which requests have a response that can be
+ * reused, for how long, and which depend on the head of the chain so are reusable only until the
+ * next block. Head dependent responses are cached only when the chain head is being followed.
+ *
+ * <p>A block named by number can be replaced by a reorganisation, so a response at a numbered block
+ * is head dependent until the block is {@link #FINALITY_DEPTH} blocks below the head.
+ */
+public class CachePolicy {
+
+  public static final long FINALITY_DEPTH = 64;
+
+  private final Optional<Duration> timeToLive;
+  private final Predicate<Object> cacheableParams;
+  private final Predicate<Object> headDependentParams;
+  private final Function<Object, Optional<Long>> blockNumber;
+
+  private CachePolicy(
+      final Optional<Duration> timeToLive,
+      final Predicate<Object> cacheableParams,
+      final Predicate<Object> headDependentParams,
+      final Function<Object, Optional<Long>> blockNumber) {
+    this.timeToLive = timeToLive;
+    this.cacheableParams = cacheableParams;
+    this.headDependentParams = headDependentParams;
+    this.blockNumber = blockNumber;
+  }
+
+  /** Responses are kept until the cache evicts them to make room for others. */
+  public static CachePolicy untilEvicted() {
+    return new CachePolicy(
+        Optional.empty(), params -> true, params -> false, params -> Optional.empty());
+  }
+
+  public static CachePolicy expireAfter(final Duration timeToLive) {
+    return new CachePolicy(
+        Optional.of(timeToLive), params -> true, params -> false, params -> Optional.empty());
+  }
+
+  /** Responses are kept until the next block. */
+  public static CachePolicy untilNextHead() {
+    return new CachePolicy(
+        Optional.empty(), params -> true, params -> true, params -> Optional.empty());
+  }
+
+  /** Restricts caching to requests whose params satisfy the predicate. */
+  public CachePolicy forParams(final Predicate<Object> cacheableParams) {
+    return new CachePolicy(timeToLive, cacheableParams, headDependentParams, blockNumber);
+  }
+
+  /** Keeps responses to requests whose params satisfy the predicate only until the next block. */
+  public CachePolicy untilNextHeadFor(final Predicate<Object> headDependentParams) {
+    return new CachePolicy(timeToLive, cacheableParams, headDependentParams, blockNumber);
+  }
+
+  /**
+   * Keeps responses to requests at a numbered block, as found by the function, only until the next
+   * block while the block is not yet final.
+   */
+  public CachePolicy untilFinalFor(final Function<Object, Optional<Long>> blockNumber) {
+    return new CachePolicy(timeToLive, cacheableParams, headDependentParams, blockNumber);
+  }
+
+  public CachePolicy withTimeToLive(final Duration timeToLive) {
+    return new CachePolicy(
+        Optional.of(timeToLive), cacheableParams, headDependentParams, blockNumber);
+  }
+
+  public Optional<Duration> getTimeToLive() {
+    return timeToLive;
+  }
+
+  public boolean isCacheable(final Object params) {
+    return cacheableParams.test(params);
+  }
+
+  /**
+   * Whether the response to a request with the params is current only until the next block, given
+   * the number of the head block, which is zero when the head is not known.
+   */
+  public boolean isHeadDependent(final Object params, final long headBlockNumber) {
+    return headDependentParams.test(params)
+        || blockNumber
+            .apply(params)
+            .map(number -> headBlockNumber - number < FINALITY_DEPTH)
+            .orElse(false);
+  }
+
+  /**
+   * Matches params whose block, at the given index, is named by hash, so cannot change. Tags such
+   * as "latest" move with the chain, and an absent block defaults to "latest".
+   */
+  public static Predicate<Object> atBlockHash(final int blockIndex) {
+    return params -> {
+      final Object block = blockParam(params, blockIndex);
+      if (block instanceof Map) {
+        // an EIP-1898 block object names the block by hash or number
+        return ((Map<?, ?>) block).get("blockHash") instanceof String;
+      }
+      return "earliest".equals(block);
+    };
+  }
+
+  /** Matches params whose block, at the given index, is named by number. */
+  public static Predicate<Object> atBlockNumber(final int blockIndex) {
+    return params -> blockNumberAt(blockIndex).apply(params).isPresent();
+  }
+
+  /** Finds the number of the block, at the given index, when the params name it by number. */
+  public static Function<Object, Optional<Long>> blockNumberAt(final int blockIndex) {
+    return params -> {
+      Object block = blockParam(params, blockIndex);
+      if (block instanceof Map) {
+        block = ((Map<?, ?>) block).get("blockNumber");
+      }
+      if (!(block instanceof String) || !((String) block).startsWith("0x")) {
+        return Optional.empty();
+      }
+      try {
+        return Optional.of(Long.decode((String) block));
+      } catch (final NumberFormatException e) {
+        return Optional.empty();
+      }
+    };
+  }
+
+  /** Matches params whose block, at the given index, is "latest" or absent. */
+  public static Predicate<Object> atLatestBlock(final int blockIndex) {
+    return params -> {
+      if (!(params instanceof List)) {
+        return params == null;
+      }
+      final List<?> paramList = (List<?>) params;
+      return paramList.size() <= blockIndex || "latest".equals(paramList.get(blockIndex));
+    };
+  }
+
+  private static Object blockParam(final Object params, final int blockIndex) {
+    if (!(params instanceof List) || ((List<?>) params).size() <= blockIndex) {
+      return null;
+    }
+    return ((List<?>) params).get(blockIndex);
+  }
+}
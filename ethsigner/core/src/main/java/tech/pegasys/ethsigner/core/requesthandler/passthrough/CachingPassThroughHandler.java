@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+import tech.pegasys.ethsigner.core.requesthandler.JsonRpcRequestHandler;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.ForwardedMessageResponder;
+
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Answers passed through requests from the {@link ResponseCache} where it can, otherwise forwards
+ * them to the downstream node and caches the response.
+ */
+public class CachingPassThroughHandler implements JsonRpcRequestHandler {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final JsonRpcForwarder forwarder;
+  private final ResponseCache responseCache;
+
+  public CachingPassThroughHandler(
+      final JsonRpcForwarder forwarder, final ResponseCache responseCache) {
+    this.forwarder = forwarder;
+    this.responseCache = responseCache;
+  }
+
+  @Override
+  public void handle(
+      final RoutingContext context,
+      final JsonRpcRequest request,
+      final ForwardedMessageResponder responder) {
+    final Optional<String> cachedResponse = responseCache.getResponse(context.request(), request);
+    if (cachedResponse.isPresent()) {
+      LOG.debug("Answering {} from the response cache", request.getMethod());
+      responder.handleResponse(List.of(), HttpResponseStatus.OK.code(), cachedResponse.get());
+      return;
+    }
+
+    final long head = responseCache.getHead();
+    forwarder.forward(
+        context, request, new CachingResponseHandler(context, request, head, responder));
+  }
+
+  private class CachingResponseHandler implements DownstreamResponseHandler {
+    private final RoutingContext context;
+    private final JsonRpcRequest request;
+    private final long forwardedAtHead;
+    private final ForwardedMessageResponder responder;
+
+    private CachingResponseHandler(
+        final RoutingContext context,
+        final JsonRpcRequest request,
+        final long forwardedAtHead,
+        final ForwardedMessageResponder responder) {
+      this.context = context;
+      this.request = request;
+      this.forwardedAtHead = forwardedAtHead;
+      this.responder = responder;
+    }
+
+    @Override
+    public void handleResponse(
+        final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+      if (statusCode == HttpResponseStatus.OK.code()) {
+        responseCache.putResponse(context.request(), request, body, forwardedAtHead);
+      }
+      responder.handleResponse(headers, statusCode, body);
+    }
+
+    @Override
+    public void handleFailure(final Throwable t) {
+      responder.handleFailure(t);
+    }
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import tech.pegasys.ethsigner.core.downstream.DownstreamEndpoint;
+import tech.pegasys.ethsigner.core.downstream.DownstreamLoadBalancer;
+import tech.pegasys.ethsigner.core.downstream.HedgePolicy;
+import tech.pegasys.ethsigner.core.http.HeaderHelpers;
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitter;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Hedges requests of the methods allowed by the {@link HedgePolicy}: if the endpoint a request was
+ * sent to has not answered within the policy's delay, the request is also sent to another endpoint.
+ * The first successful response is used, and the request still outstanding is cancelled. An error
+ * response, from the node or in the JSON-RPC response, and a failure are only reported once no
+ * request is outstanding, as another endpoint may yet answer successfully.
+ *
+ * <p>An instance serves the handlers of one HTTP server instance, which all run on its event loop,
+ * so the state of each hedged request is never shared between threads.
+ */
+public class HedgingForwarder implements JsonRpcForwarder {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final JsonRpcForwarder forwarder;
+  private final VertxRequestTransmitterFactory transmitterFactory;
+  private final DownstreamLoadBalancer loadBalancer;
+  private final HedgePolicy policy;
+  private final EthSignerMetrics metrics;
+
+  public HedgingForwarder(
+      final JsonRpcForwarder forwarder,
+      final VertxRequestTransmitterFactory transmitterFactory,
+      final DownstreamLoadBalancer loadBalancer,
+      final HedgePolicy policy,
+      final EthSignerMetrics metrics) {
+    this.forwarder = forwarder;
+    this.transmitterFactory = transmitterFactory;
+    this.loadBalancer = loadBalancer;
+    this.policy = policy;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void forward(
+      final RoutingContext context,
+      final JsonRpcRequest request,
+      final DownstreamResponseHandler responseHandler) {
+    if (!policy.isHedged(request.getMethod())) {
+      forwarder.forward(context, request, responseHandler);
+      return;
+    }
+
+    final HttpServerRequest httpRequest = context.request();
+    final HedgedRequest hedged =
+        new HedgedRequest(
+            context.vertx(),
+            request.getMethod(),
+            httpRequest.method(),
+            HeaderHelpers.createHeaders(httpRequest.headers()),
+            httpRequest.path(),
+            Json.encode(request),
+            RequestDeadline.of(context),
+            responseHandler);
+    final Optional<Duration> delay = policy.requestStarted(request.getMethod());
+    hedged.send(loadBalancer.select(), false);
+    delay.ifPresent(hedged::hedgeAfter);
+  }
+
+  private class HedgedRequest {
+    private final Vertx vertx;
+    private final String rpcMethod;
+    private final HttpMethod method;
+    private final Iterable<Entry<String, String>> headers;
+    private final String path;
+    private final String body;
+    private final Optional<RequestDeadline> deadline;
+    private final DownstreamResponseHandler responseHandler;
+    private final List<Attempt> attempts = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+    private Optional<Long> timerId = Optional.empty();
+    // the first error response, reported if no attempt succeeds
+    private Optional<Runnable> errorResponse = Optional.empty();
+    private boolean completed = false;
+
+    private HedgedRequest(
+        final Vertx vertx,
+        final String rpcMethod,
+        final HttpMethod method,
+        final Iterable<Entry<String, String>> headers,
+        final String path,
+        final String body,
+        final Optional<RequestDeadline> deadline,
+        final DownstreamResponseHandler responseHandler) {
+      this.vertx = vertx;
+      this.rpcMethod = rpcMethod;
+      this.method = method;
+      this.headers = headers;
+      this.path = path;
+      this.body = body;
+      this.deadline = deadline;
+      this.responseHandler = responseHandler;
+    }
+
+    private void send(final DownstreamEndpoint endpoint, final boolean hedge) {
+      final Attempt attempt = new Attempt(endpoint, hedge);
+      attempts.add(attempt);
+      attempt.transmitter = transmitterFactory.create(attempt, deadline);
+      attempt.transmitter.sendRequest(method, headers, path, body, endpoint);
+    }
+
+    private void hedgeAfter(final Duration delay) {
+      if (!completed) {
+        timerId = Optional.of(vertx.setTimer(Math.max(1, delay.toMillis()), ignored -> hedge()));
+      }
+    }
+
+    private void hedge() {
+      timerId = Optional.empty();
+      if (completed || deadline.map(RequestDeadline::isExpired).orElse(false)) {
+        return;
+      }
+      final List<DownstreamEndpoint> attempted =
+          attempts.stream().map(attempt -> attempt.endpoint).collect(Collectors.toList());
+      final Optional<DownstreamEndpoint> alternative = loadBalancer.failover(attempted);
+      if (alternative.isEmpty() || !policy.tryHedge(rpcMethod)) {
+        return;
+      }
+      LOG.debug("Hedging {} to {}", rpcMethod, alternative.get());
+      send(alternative.get(), true);
+    }
+
+    private void complete(final Attempt winner) {
+      completed = true;
+      timerId.ifPresent(vertx::cancelTimer);
+      attempts.stream()
+          .filter(attempt -> attempt != winner && !attempt.concluded)
+          .forEach(attempt -> attempt.transmitter.cancel());
+    }
+
+    private boolean isOutstanding() {
+      return attempts.stream().anyMatch(attempt -> !attempt.concluded);
+    }
+
+    private class Attempt implements DownstreamResponseHandler {
+      private final DownstreamEndpoint endpoint;
+      private final boolean hedge;
+      private VertxRequestTransmitter transmitter;
+      private boolean concluded = false;
+
+      private Attempt(final DownstreamEndpoint endpoint, final boolean hedge) {
+        this.endpoint = endpoint;
+        this.hedge = hedge;
+      }
+
+      @Override
+      public void handleResponse(
+          final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+        concluded = true;
+        if (completed) {
+          return;
+        }
+        if (isError(statusCode, body)) {
+          if (errorResponse.isEmpty()) {
+            errorResponse =
+                Optional.of(() -> responseHandler.handleResponse(headers, statusCode, body));
+          }
+          if (!isOutstanding()) {
+            complete(this);
+            errorResponse.get().run();
+          }
+          return;
+        }
+        complete(this);
+        // a hedge which won was sent once the first attempt had been waiting, so the latency of the
+        // request, and at least that of the cancelled first attempt, is counted from the start
+        policy.recordLatency(rpcMethod, System.nanoTime() - startNanos);
+        if (hedge) {
+          metrics.hedgedRequest(rpcMethod, "won");
+        }
+        responseHandler.handleResponse(headers, statusCode, body);
+      }
+
+      @Override
+      public void handleFailure(final Throwable t) {
+        concluded = true;
+        if (completed || isOutstanding()) {
+          return;
+        }
+        complete(this);
+        if (t instanceof TimeoutException) {
+          // the request would have taken at least this long to answer
+          policy.recordLatency(rpcMethod, System.nanoTime() - startNanos);
+        }
+        if (errorResponse.isPresent()) {
+          errorResponse.get().run();
+        } else {
+          responseHandler.handleFailure(t);
+        }
+      }
+    }
+  }
+
+  private static boolean isError(final int statusCode, final String body) {
+    if (statusCode >= HttpResponseStatus.INTERNAL_SERVER_ERROR.code()) {
+      return true;
+    }
+    try {
+      return new JsonObject(body).containsKey("error");
+    } catch (final DecodeException e) {
+      return true;
+    }
+  }
+}
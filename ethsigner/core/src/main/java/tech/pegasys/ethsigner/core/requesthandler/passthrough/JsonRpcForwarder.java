@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import tech.pegasys.ethsigner.core.http.HeaderHelpers;
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Sends a decoded JSON-RPC request to the downstream node. The request is sent re-encoded rather
+ * than as the received body, as it may be one element of a batch.
+ */
+@FunctionalInterface
+public interface JsonRpcForwarder {
+
+  void forward(
+      RoutingContext context, JsonRpcRequest request, DownstreamResponseHandler responseHandler);
+
+  static JsonRpcForwarder direct(final VertxRequestTransmitterFactory transmitterFactory) {
+    return (context, request, responseHandler) -> {
+      final HttpServerRequest httpRequest = context.request();
+      transmitterFactory
+          .create(responseHandler, RequestDeadline.of(context))
+          .sendRequest(
+              httpRequest.method(),
+              HeaderHelpers.createHeaders(httpRequest.headers()),
+              httpRequest.path(),
+              Json.encode(request));
+    };
+  }
+}
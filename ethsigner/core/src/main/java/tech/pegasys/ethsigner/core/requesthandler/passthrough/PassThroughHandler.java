@@ -13,6 +13,7 @@
 package tech.pegasys.ethsigner.core.requesthandler.passthrough;
 
 import tech.pegasys.ethsigner.core.http.HeaderHelpers;
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
 import tech.pegasys.ethsigner.core.requesthandler.JsonRpcRequestHandler;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitter;
@@ -37,15 +38,22 @@ public class PassThroughHandler implements JsonRpcRequestHandler, Handler<Routin
   }
 
   @Override
-  public void handle(final RoutingContext context, final JsonRpcRequest request) {
-    handle(context);
+  public void handle(
+      final RoutingContext context,
+      final JsonRpcRequest request,
+      final ForwardedMessageResponder responder) {
+    forward(context, responder);
   }
 
   @Override
   public void handle(final RoutingContext context) {
+    forward(context, new ForwardedMessageResponder(context));
+  }
+
+  private void forward(final RoutingContext context, final ForwardedMessageResponder responder) {
     logRequest(context.request(), context.getBodyAsString());
     final VertxRequestTransmitter transmitter =
-        transmitterFactory.create(new ForwardedMessageResponder(context));
+        transmitterFactory.create(responder, RequestDeadline.of(context));
 
     final HttpServerRequest request = context.request();
     final MultiMap headersToSend = HeaderHelpers.createHeaders(request.headers());
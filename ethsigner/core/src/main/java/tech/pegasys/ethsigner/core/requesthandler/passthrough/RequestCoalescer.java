@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.google.common.base.Strings;
+import com.google.common.net.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Coalesces identical requests that are in flight at the same time, so they share one downstream
+ * request (single-flight). Requests are identical when they have the same method, params, path and
+ * authorization. The downstream response is fanned out to every waiting request with its own id.
+ *
+ * <p>An instance serves the handlers of one HTTP server instance, which all run on its event loop,
+ * so its state is never shared between threads.
+ */
+public class RequestCoalescer implements JsonRpcForwarder {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final JsonRpcForwarder forwarder;
+  private final Set<String> methods;
+  private final EthSignerMetrics metrics;
+  private final Map<String, List<Waiter>> inFlight = new HashMap<>();
+
+  public RequestCoalescer(
+      final JsonRpcForwarder forwarder, final Set<String> methods, final EthSignerMetrics metrics) {
+    this.forwarder = forwarder;
+    this.methods = methods;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void forward(
+      final RoutingContext context,
+      final JsonRpcRequest request,
+      final DownstreamResponseHandler responseHandler) {
+    if (!methods.contains(request.getMethod())) {
+      forwarder.forward(context, request, responseHandler);
+      return;
+    }
+
+    final String key = key(context.request(), request);
+    final List<Waiter> waiters = inFlight.get(key);
+    if (waiters != null) {
+      LOG.trace("Coalescing {} with an identical request in flight", request.getMethod());
+      metrics.coalescedRequest(request.getMethod());
+      waiters.add(new Waiter(request.getId(), responseHandler));
+      return;
+    }
+
+    final FanOutResponseHandler fanOut = new FanOutResponseHandler(key, responseHandler);
+    inFlight.put(key, fanOut.waiters);
+    try {
+      forwarder.forward(context, request, fanOut);
+    } catch (final RuntimeException e) {
+      fanOut.complete().forEach(waiter -> waiter.responseHandler.handleFailure(e));
+      throw e;
+    }
+  }
+
+  private static String key(final HttpServerRequest httpRequest, final JsonRpcRequest request) {
+    return String.join(
+        "\n",
+        httpRequest.path(),
+        Strings.nullToEmpty(httpRequest.getHeader(HttpHeaders.AUTHORIZATION)),
+        request.getMethod(),
+        Json.encode(request.getParams()));
+  }
+
+  private static String withId(final String body, final JsonRpcRequestId id) {
+    try {
+      return new JsonObject(body).put("id", id == null ? null : id.getValue()).encode();
+    } catch (final DecodeException e) {
+      return body;
+    }
+  }
+
+  private static class Waiter {
+    private final JsonRpcRequestId id;
+    private final DownstreamResponseHandler responseHandler;
+
+    private Waiter(final JsonRpcRequestId id, final DownstreamResponseHandler responseHandler) {
+      this.id = id;
+      this.responseHandler = responseHandler;
+    }
+  }
+
+  private class FanOutResponseHandler implements DownstreamResponseHandler {
+    private final String key;
+    private final DownstreamResponseHandler responseHandler;
+    private final List<Waiter> waiters = new ArrayList<>();
+    private boolean completed = false;
+
+    private FanOutResponseHandler(
+        final String key, final DownstreamResponseHandler responseHandler) {
+      this.key = key;
+      this.responseHandler = responseHandler;
+    }
+
+    /** Stops further requests waiting on this one, returning those that are to be answered. */
+    private List<Waiter> complete() {
+      if (completed) {
+        return List.of();
+      }
+      // a downstream request can fail after it has been responded to
+      completed = true;
+      inFlight.remove(key);
+      return waiters;
+    }
+
+    @Override
+    public void handleResponse(
+        final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+      final List<Waiter> toAnswer = complete();
+      responseHandler.handleResponse(headers, statusCode, body);
+      if (toAnswer.isEmpty()) {
+        return;
+      }
+
+      // the body of each waiter differs in its id, so the downstream length does not apply
+      final List<Entry<String, String>> sharedHeaders = new ArrayList<>();
+      headers.forEach(
+          header -> {
+            if (!header.getKey().equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH)) {
+              sharedHeaders.add(header);
+            }
+          });
+      toAnswer.forEach(
+          waiter ->
+              waiter.responseHandler.handleResponse(
+                  sharedHeaders, statusCode, withId(body, waiter.id)));
+    }
+
+    @Override
+    public void handleFailure(final Throwable t) {
+      final List<Waiter> toAnswer = complete();
+      responseHandler.handleFailure(t);
+      toAnswer.forEach(waiter -> waiter.responseHandler.handleFailure(t));
+    }
+  }
+}
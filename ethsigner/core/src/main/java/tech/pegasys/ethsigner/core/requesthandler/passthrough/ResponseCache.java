@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.net.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A size bounded cache of the results the downstream node returned for passed through requests,
+ * keyed by the path and authorization a request was received with, and its method and params.
+ * Each method has its own {@link CachePolicy}; only methods with a policy are cached. Results are
+ * stored encoded, and served with the id of the request being answered.
+ *
+ * <p>When the chain head is followed, results which depend on it are cached until {@link
+ * #newHead(long)} reports the next block, as are null results, since a missing block or receipt can
+ * only appear with a new block.
+ */
+public class ResponseCache {
+
+  private static final Logger LOG = LogManager.getLogger();
+  // bounds the staleness of head dependent results should following the head stall
+  private static final Duration MAX_HEAD_DEPENDENT_AGE = Duration.ofMinutes(1);
+
+  private final Map<String, CachePolicy> policies;
+  private final Cache<String, CachedResult> cache;
+  private final boolean headFollowed;
+  private final AtomicLong head = new AtomicLong();
+  private volatile long headBlockNumber;
+  private final Ticker ticker;
+  private final EthSignerMetrics metrics;
+
+  public ResponseCache(
+      final Map<String, CachePolicy> policies,
+      final long maxEntries,
+      final boolean headFollowed,
+      final EthSignerMetrics metrics) {
+    this(policies, maxEntries, headFollowed, metrics, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  ResponseCache(
+      final Map<String, CachePolicy> policies,
+      final long maxEntries,
+      final boolean headFollowed,
+      final EthSignerMetrics metrics,
+      final Ticker ticker) {
+    this.policies = Map.copyOf(policies);
+    this.headFollowed = headFollowed;
+    this.ticker = ticker;
+    this.metrics = metrics;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maxEntries)
+            .<String, CachedResult>removalListener(
+                notification -> {
+                  if (notification.getCause() == RemovalCause.SIZE) {
+                    metrics.responseCacheEviction();
+                  }
+                })
+            .build();
+    metrics.registerResponseCacheSize(cache::size);
+  }
+
+  /**
+   * The default policies, adjusted by the given times to live. A method without a default policy is
+   * cached for its time to live, and a time to live of zero stops a method being cached.
+   */
+  public static Map<String, CachePolicy> policies(final Map<String, Duration> timesToLive) {
+    final Map<String, CachePolicy> policies = new HashMap<>();
+    policies.put("eth_chainId", CachePolicy.untilEvicted());
+    policies.put("net_version", CachePolicy.untilEvicted());
+    policies.put("web3_clientVersion", CachePolicy.expireAfter(Duration.ofMinutes(1)));
+    policies.put("eth_getBlockByHash", CachePolicy.untilEvicted());
+    // a mined transaction can move to another block if the chain reorganises
+    policies.put("eth_getTransactionReceipt", CachePolicy.expireAfter(Duration.ofMinutes(5)));
+    policies.put("eth_blockNumber", CachePolicy.untilNextHead());
+    policies.put(
+        "eth_getBlockByNumber",
+        CachePolicy.untilEvicted()
+            .forParams(CachePolicy.atLatestBlock(0).or(CachePolicy.atBlockNumber(0)))
+            .untilNextHeadFor(CachePolicy.atLatestBlock(0))
+            .untilFinalFor(CachePolicy.blockNumberAt(0)));
+    // state is fixed at a block named by hash, changes with the head at the latest block, and may
+    // change with a reorganisation at a block named by number until that block is final
+    policies.put("eth_getBalance", stateQuery(1));
+    policies.put("eth_getCode", stateQuery(1));
+    policies.put("eth_getTransactionCount", stateQuery(1));
+    policies.put("eth_getStorageAt", stateQuery(2));
+    policies.put("eth_call", stateQuery(1));
+
+    timesToLive.forEach(
+        (method, timeToLive) -> {
+          if (timeToLive.isZero()) {
+            policies.remove(method);
+          } else {
+            policies.merge(
+                method,
+                CachePolicy.expireAfter(timeToLive),
+                (policy, ignored) -> policy.withTimeToLive(timeToLive));
+          }
+        });
+    return policies;
+  }
+
+  private static CachePolicy stateQuery(final int blockIndex) {
+    return CachePolicy.untilEvicted()
+        .forParams(
+            CachePolicy.atBlockHash(blockIndex)
+                .or(CachePolicy.atBlockNumber(blockIndex))
+                .or(CachePolicy.atLatestBlock(blockIndex)))
+        .untilNextHeadFor(CachePolicy.atLatestBlock(blockIndex))
+        .untilFinalFor(CachePolicy.blockNumberAt(blockIndex));
+  }
+
+  public Set<String> getMethods() {
+    return policies.keySet();
+  }
+
+  /** The current head, to be passed to {@link #putResponse} for a request forwarded now. */
+  public long getHead() {
+    return head.get();
+  }
+
+  /** Discards the results which depended on the previous head of the chain. */
+  public void newHead(final long blockNumber) {
+    headBlockNumber = blockNumber;
+    head.incrementAndGet();
+    cache.asMap().values().removeIf(cached -> cached.head.isPresent());
+  }
+
+  /** Returns the cached response to the request, carrying the id of the request. */
+  public Optional<String> getResponse(
+      final HttpServerRequest httpRequest, final JsonRpcRequest request) {
+    final Optional<String> key = key(httpRequest, request);
+    if (key.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final CachedResult cached = cache.getIfPresent(key.get());
+    if (cached == null || cached.hasExpired(ticker.read(), head.get())) {
+      if (cached != null) {
+        cache.asMap().remove(key.get(), cached);
+      }
+      metrics.responseCacheMiss(request.getMethod());
+      return Optional.empty();
+    }
+
+    metrics.responseCacheHit(request.getMethod());
+    return Optional.of(
+        "{\"jsonrpc\":\"2.0\",\"id\":"
+            + Json.encode(request.getId())
+            + ",\"result\":"
+            + cached.result
+            + "}");
+  }
+
+  /**
+   * Caches the result in a successful response to the request, if its policy allows. The head is as
+   * returned by {@link #getHead()} when the request was forwarded, so a result the downstream node
+   * produced before a new head was reported is not cached as current.
+   */
+  public void putResponse(
+      final HttpServerRequest httpRequest,
+      final JsonRpcRequest request,
+      final String responseBody,
+      final long forwardedAtHead) {
+    final Optional<String> key = key(httpRequest, request);
+    if (key.isEmpty()) {
+      return;
+    }
+
+    final JsonObject response;
+    try {
+      response = new JsonObject(responseBody);
+    } catch (final DecodeException e) {
+      LOG.debug("Not caching response to {} as it is not a JSON object", request.getMethod());
+      return;
+    }
+    if (!response.containsKey("result") || response.containsKey("error")) {
+      return;
+    }
+    final Object result = response.getValue("result");
+    final CachePolicy policy = policies.get(request.getMethod());
+    final boolean headDependent =
+        result == null || policy.isHeadDependent(request.getParams(), headBlockNumber);
+    if (headDependent && (!headFollowed || forwardedAtHead != head.get())) {
+      return;
+    }
+
+    final Optional<Duration> timeToLive =
+        headDependent
+            ? Optional.of(
+                policy
+                    .getTimeToLive()
+                    .filter(ttl -> ttl.compareTo(MAX_HEAD_DEPENDENT_AGE) < 0)
+                    .orElse(MAX_HEAD_DEPENDENT_AGE))
+            : policy.getTimeToLive();
+    final Optional<Long> expiresAt = timeToLive.map(ttl -> ticker.read() + ttl.toNanos());
+    cache.put(
+        key.get(),
+        new CachedResult(
+            Json.encode(result),
+            expiresAt,
+            headDependent ? Optional.of(forwardedAtHead) : Optional.empty()));
+  }
+
+  private Optional<String> key(final HttpServerRequest httpRequest, final JsonRpcRequest request) {
+    final CachePolicy policy = policies.get(request.getMethod());
+    final Object params = request.getParams();
+    if (policy == null
+        || !policy.isCacheable(params)
+        || (policy.isHeadDependent(params, headBlockNumber) && !headFollowed)) {
+      return Optional.empty();
+    }
+    // the downstream node may answer differently for another path or credentials
+    return Optional.of(
+        String.join(
+            "\n",
+            httpRequest.path(),
+            Strings.nullToEmpty(httpRequest.getHeader(HttpHeaders.AUTHORIZATION)),
+            request.getMethod(),
+            Json.encode(params)));
+  }
+
+  private static class CachedResult {
+    private final String result;
+    private final Optional<Long> expiresAt;
+    // the head a head dependent result is current for
+    private final Optional<Long> head;
+
+    private CachedResult(
+        final String result, final Optional<Long> expiresAt, final Optional<Long> head) {
+      this.result = result;
+      this.expiresAt = expiresAt;
+      this.head = head;
+    }
+
+    private boolean hasExpired(final long now, final long currentHead) {
+      return expiresAt.map(expiry -> expiry - now <= 0).orElse(false)
+          || head.map(resultHead -> resultHead != currentHead).orElse(false);
+    }
+  }
+}
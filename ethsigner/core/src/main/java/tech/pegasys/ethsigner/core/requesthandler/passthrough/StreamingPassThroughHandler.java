@@ -0,0 +1,343 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import tech.pegasys.ethsigner.core.downstream.CircuitBreaker;
+import tech.pegasys.ethsigner.core.downstream.CircuitOpenException;
+import tech.pegasys.ethsigner.core.downstream.ConcurrencyLimiter;
+import tech.pegasys.ethsigner.core.downstream.ConcurrencyLimiter.Permit;
+import tech.pegasys.ethsigner.core.downstream.DownstreamEndpoint;
+import tech.pegasys.ethsigner.core.downstream.DownstreamLoadBalancer;
+import tech.pegasys.ethsigner.core.http.HeaderHelpers;
+import tech.pegasys.ethsigner.core.http.RequestBodyTooLargeException;
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
+import tech.pegasys.ethsigner.core.http.RequestDeadlineExceededException;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics.DownstreamRequestTimer;
+import tech.pegasys.ethsigner.core.requesthandler.JsonRpcRequestHandler;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DownstreamPathCalculator;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.ForwardedMessageResponder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import com.google.common.net.HttpHeaders;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Forwards requests to the downstream node without buffering the bodies. The downstream response
+ * is piped back to the client as it arrives, subject to the back pressure of the client
+ * connection, so the memory used does not depend on the size of the response.
+ *
+ * <p>Requests outside of the JSON-RPC route are streamed in both directions. JSON-RPC requests
+ * have already been read to determine their method, so only their response is streamed. A
+ * streamed request body is counted as it is forwarded, and the downstream request reset once the
+ * body exceeds the maximum size, as a chunked body has no length to be checked in advance. The
+ * response is written straight to the routing context, hence this handler must not be used for
+ * the elements of a batch.
+ */
+public class StreamingPassThroughHandler implements JsonRpcRequestHandler, Handler<RoutingContext> {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final HttpClient downStreamConnection;
+  private final DownstreamLoadBalancer loadBalancer;
+  private final Duration httpRequestTimeout;
+  private final DownstreamPathCalculator downstreamPathCalculator;
+  private final Optional<CircuitBreaker> circuitBreaker;
+  private final Optional<ConcurrencyLimiter> concurrencyLimiter;
+  private final long maxRequestBodySize;
+  private final EthSignerMetrics metrics;
+
+  public StreamingPassThroughHandler(
+      final HttpClient downStreamConnection,
+      final DownstreamLoadBalancer loadBalancer,
+      final Duration httpRequestTimeout,
+      final DownstreamPathCalculator downstreamPathCalculator,
+      final Optional<CircuitBreaker> circuitBreaker,
+      final Optional<ConcurrencyLimiter> concurrencyLimiter,
+      final long maxRequestBodySize,
+      final EthSignerMetrics metrics) {
+    this.downStreamConnection = downStreamConnection;
+    this.loadBalancer = loadBalancer;
+    this.httpRequestTimeout = httpRequestTimeout;
+    this.downstreamPathCalculator = downstreamPathCalculator;
+    this.circuitBreaker = circuitBreaker;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.maxRequestBodySize = maxRequestBodySize;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void handle(
+      final RoutingContext context,
+      final JsonRpcRequest request,
+      final ForwardedMessageResponder responder) {
+    final MultiMap headers = HeaderHelpers.createHeaders(context.request().headers());
+    forward(
+        context,
+        headers,
+        responder,
+        downstreamRequest -> downstreamRequest.send(context.getBody()));
+  }
+
+  @Override
+  public void handle(final RoutingContext context) {
+    final HttpServerRequest request = context.request();
+    // the body must not be consumed before the downstream request is ready to receive it
+    request.pause();
+
+    final MultiMap headers = HeaderHelpers.createHeaders(request.headers());
+    final String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+    if (contentLength != null) {
+      headers.add(HttpHeaders.CONTENT_LENGTH, contentLength);
+    }
+    forward(
+        context,
+        headers,
+        new ForwardedMessageResponder(context),
+        downstreamRequest ->
+            downstreamRequest.send(
+                new SizeLimitedBody(
+                    request,
+                    maxRequestBodySize,
+                    () -> {
+                      LOG.debug("Rejected request from {}: body_size", request.remoteAddress());
+                      metrics.admissionRejected("body_size");
+                      downstreamRequest.reset(0, new RequestBodyTooLargeException());
+                    })));
+  }
+
+  private void forward(
+      final RoutingContext context,
+      final MultiMap headers,
+      final ForwardedMessageResponder responder,
+      final Function<HttpClientRequest, Future<HttpClientResponse>> sender) {
+    final HttpServerRequest request = context.request();
+    LOG.debug("Streaming method: {}, uri: {}", request::method, request::absoluteURI);
+
+    final Optional<CircuitBreaker.Call> circuitBreakerCall =
+        circuitBreaker.flatMap(CircuitBreaker::tryAcquire);
+    if (circuitBreaker.isPresent() && circuitBreakerCall.isEmpty()) {
+      responder.handleFailure(new CircuitOpenException("Downstream circuit breaker is open"));
+      return;
+    }
+
+    final Optional<RequestDeadline> deadline = RequestDeadline.of(context);
+    // the request is not sent if the client disconnects while it waits for a permit
+    final AtomicBoolean ended = new AtomicBoolean(false);
+    context.addEndHandler(ignored -> ended.set(true));
+    if (concurrencyLimiter.isEmpty()) {
+      send(context, headers, responder, sender, circuitBreakerCall, Optional.empty());
+      return;
+    }
+    concurrencyLimiter
+        .get()
+        .submit(
+            permit -> {
+              if (ended.get()) {
+                circuitBreakerCall.ifPresent(CircuitBreaker.Call::cancelled);
+                permit.cancelled();
+              } else {
+                send(context, headers, responder, sender, circuitBreakerCall, Optional.of(permit));
+              }
+            },
+            rejection -> {
+              circuitBreakerCall.ifPresent(CircuitBreaker.Call::cancelled);
+              if (!ended.get()) {
+                responder.handleFailure(
+                    isExpired(deadline) ? new RequestDeadlineExceededException() : rejection);
+              }
+            },
+            () -> ended.get() || isExpired(deadline));
+  }
+
+  private void send(
+      final RoutingContext context,
+      final MultiMap headers,
+      final ForwardedMessageResponder responder,
+      final Function<HttpClientRequest, Future<HttpClientResponse>> sender,
+      final Optional<CircuitBreaker.Call> circuitBreakerCall,
+      final Optional<Permit> permit) {
+    final HttpServerRequest request = context.request();
+    final Optional<RequestDeadline> deadline = RequestDeadline.of(context);
+    // the request may have waited for a permit until there is no time left to send it
+    if (isExpired(deadline)) {
+      circuitBreakerCall.ifPresent(CircuitBreaker.Call::cancelled);
+      permit.ifPresent(Permit::cancelled);
+      responder.handleFailure(new RequestDeadlineExceededException());
+      return;
+    }
+
+    final String fullPath = downstreamPathCalculator.calculateDownstreamPath(request.path());
+    final Duration timeout =
+        deadline.map(d -> d.bound(httpRequestTimeout)).orElse(httpRequestTimeout);
+    final DownstreamRequestTimer downstreamTimer = metrics.startDownstreamRequest();
+    final DownstreamEndpoint endpoint = loadBalancer.select();
+    final DownstreamEndpoint.Request endpointRequest = endpoint.startRequest();
+    downStreamConnection
+        .request(request.method(), endpoint.getPort(), endpoint.getHost(), fullPath)
+        .compose(
+            downstreamRequest -> {
+              // a timeout of zero would disable it altogether
+              downstreamRequest.setTimeout(Math.max(1, timeout.toMillis()));
+              downstreamRequest.headers().addAll(headers);
+              return sender.apply(downstreamRequest);
+            })
+        .onSuccess(
+            downstreamResponse -> {
+              downstreamTimer.succeeded();
+              endpointRequest.responded(downstreamResponse.statusCode());
+              circuitBreakerCall.ifPresent(
+                  call -> call.responded(downstreamResponse.statusCode()));
+              permit.ifPresent(Permit::succeeded);
+              pipeResponse(downstreamResponse, context.response());
+            })
+        .onFailure(
+            thrown -> {
+              if (thrown instanceof RequestBodyTooLargeException) {
+                // the client is at fault, not the downstream node
+                downstreamTimer.cancelled();
+                endpointRequest.cancelled();
+                circuitBreakerCall.ifPresent(CircuitBreaker.Call::cancelled);
+                permit.ifPresent(Permit::cancelled);
+                responder.handleFailure(thrown);
+                return;
+              }
+              LOG.error("Transmission failed", thrown);
+              downstreamTimer.failed(thrown);
+              endpointRequest.failed(thrown);
+              circuitBreakerCall.ifPresent(CircuitBreaker.Call::failed);
+              permit.ifPresent(Permit::dropped);
+              responder.handleFailure(thrown);
+            });
+  }
+
+  private static boolean isExpired(final Optional<RequestDeadline> deadline) {
+    return deadline.map(RequestDeadline::isExpired).orElse(false);
+  }
+
+  private void pipeResponse(
+      final HttpClientResponse downstreamResponse, final HttpServerResponse response) {
+    LOG.debug("Response status: {}", downstreamResponse.statusCode());
+    response.setStatusCode(downstreamResponse.statusCode());
+    response.headers().addAll(downstreamResponse.headers());
+    response.headers().remove(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN);
+    response.headers().remove(HttpHeaders.TRANSFER_ENCODING);
+    response.headers().remove(HttpHeaders.CONNECTION);
+    response.headers().remove("Keep-Alive");
+    if (!response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+      response.setChunked(true);
+    }
+
+    // a truncated body must not be reported to the client as a complete response
+    downstreamResponse
+        .pipe()
+        .endOnFailure(false)
+        .to(response)
+        .onFailure(
+            thrown -> {
+              LOG.warn("Streaming downstream response failed", thrown);
+              downstreamResponse.request().reset();
+              response.reset();
+            });
+  }
+
+  /** Passes on a request body until it exceeds the maximum size, then drops the remainder. */
+  private static class SizeLimitedBody implements ReadStream<Buffer> {
+
+    private final ReadStream<Buffer> body;
+    private final long maxSize;
+    private final Runnable onExceeded;
+    private long received = 0;
+
+    SizeLimitedBody(final ReadStream<Buffer> body, final long maxSize, final Runnable onExceeded) {
+      this.body = body;
+      this.maxSize = maxSize;
+      this.onExceeded = onExceeded;
+    }
+
+    @Override
+    public ReadStream<Buffer> handler(final Handler<Buffer> handler) {
+      if (handler == null) {
+        body.handler(null);
+        return this;
+      }
+      body.handler(
+          buffer -> {
+            if (received > maxSize) {
+              return;
+            }
+            received += buffer.length();
+            if (received > maxSize) {
+              onExceeded.run();
+            } else {
+              handler.handle(buffer);
+            }
+          });
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> exceptionHandler(final Handler<Throwable> handler) {
+      body.exceptionHandler(handler);
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> pause() {
+      body.pause();
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> resume() {
+      body.resume();
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> fetch(final long amount) {
+      body.fetch(amount);
+      return this;
+    }
+
+    @Override
+    public ReadStream<Buffer> endHandler(final Handler<Void> endHandler) {
+      body.endHandler(
+          endHandler == null
+              ? null
+              : ended -> {
+                if (received <= maxSize) {
+                  endHandler.handle(ended);
+                }
+              });
+      return this;
+    }
+  }
+}
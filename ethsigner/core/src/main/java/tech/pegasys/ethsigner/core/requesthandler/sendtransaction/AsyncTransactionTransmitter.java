@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
+import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.Transaction;
+import tech.pegasys.ethsigner.core.signing.TransactionSerializer;
+
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.web3j.crypto.Hash;
+
+/**
+ * Responds to the client with the hash of the signed transaction as soon as it has been signed,
+ * rather than once the downstream node has accepted it. The transaction is then delivered in the
+ * background: it is resubmitted as the {@link DeliveryRetryPolicy} allows while the downstream
+ * node cannot be reached or reports a server error, and the outcome of delivery is logged and
+ * recorded in metrics. Its journal entry is kept until it is delivered, rejected, or expires.
+ *
+ * <p>The transaction is not re-signed if the downstream node rejects it, as that would change the
+ * hash already returned to the client.
+ */
+public class AsyncTransactionTransmitter extends TransactionTransmitter {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Transaction transaction;
+  private final DeliveryRetryPolicy deliveryRetryPolicy;
+  private final Optional<NonceManager> nonceManager;
+  private final EthSignerMetrics metrics;
+
+  private String transactionHash;
+  private String bodyContent;
+  private DeliveryRetryPolicy.Delivery delivery;
+  private int deliveryAttempts = 0;
+
+  public AsyncTransactionTransmitter(
+      final Transaction transaction,
+      final TransactionSerializer transactionSerializer,
+      final VertxRequestTransmitterFactory transmitterFactory,
+      final DeliveryRetryPolicy deliveryRetryPolicy,
+      final RoutingContext routingContext,
+      final ForwardedMessageResponder responder,
+      final Optional<NonceManager> nonceManager,
+      final Optional<TransactionJournal> journal,
+      final EthSignerMetrics metrics) {
+    super(
+        transaction, transactionSerializer, transmitterFactory, routingContext, responder, journal);
+    this.transaction = transaction;
+    this.deliveryRetryPolicy = deliveryRetryPolicy;
+    this.nonceManager = nonceManager;
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected void sendSignedTransaction(final String signedTransactionHexString) {
+    transactionHash = Hash.sha3(signedTransactionHexString);
+    super.sendSignedTransaction(signedTransactionHexString);
+  }
+
+  @Override
+  protected void sendTransaction(final String bodyContent) {
+    this.bodyContent = bodyContent;
+    delivery = deliveryRetryPolicy.start();
+    responder().successResponse(transaction.getId(), transactionHash);
+    deliver();
+  }
+
+  @Override
+  protected Optional<RequestDeadline> submissionDeadline() {
+    // delivery continues after the client has been responded to, so is not bound by its deadline
+    return Optional.empty();
+  }
+
+  @Override
+  public void handleResponse(
+      final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+    if (statusCode >= HttpResponseStatus.INTERNAL_SERVER_ERROR.code()) {
+      retryDelivery("status " + statusCode);
+    } else if (isAccepted(statusCode, body)) {
+      acknowledgeJournalEntry();
+      delivery.finished();
+      LOG.debug("Transaction {} delivered", transactionHash);
+      metrics.asyncDelivery("delivered");
+    } else {
+      acknowledgeJournalEntry();
+      delivery.finished();
+      LOG.warn("Transaction {} rejected by downstream node: {}", transactionHash, body);
+      metrics.asyncDelivery("rejected");
+      resyncNonce();
+    }
+  }
+
+  @Override
+  public void handleFailure(final Throwable thrown) {
+    if (bodyContent == null) {
+      // the transaction could not be prepared, so the client has not yet been responded to
+      resyncNonce();
+      super.handleFailure(thrown);
+    } else {
+      retryDelivery(thrown.getMessage());
+    }
+  }
+
+  @Override
+  protected void failUnsent(final int statusCode, final JsonRpcException error) {
+    resyncNonce();
+    super.failUnsent(statusCode, error);
+  }
+
+  private void deliver() {
+    deliveryAttempts++;
+    super.sendTransaction(bodyContent);
+  }
+
+  private void retryDelivery(final String reason) {
+    if (delivery.retry(this::deliver)) {
+      LOG.debug("Resubmitting transaction {} after failed delivery: {}", transactionHash, reason);
+      return;
+    }
+    LOG.error(
+        "Transaction {} expired undelivered after {} attempts: {}",
+        transactionHash,
+        deliveryAttempts,
+        reason);
+    acknowledgeJournalEntry();
+    delivery.finished();
+    metrics.asyncDelivery("expired");
+    resyncNonce();
+  }
+
+  private void resyncNonce() {
+    nonceManager.ifPresent(manager -> manager.resync(transaction.sender()));
+  }
+
+  static boolean isAccepted(final int statusCode, final String body) {
+    if (statusCode != HttpResponseStatus.OK.code()) {
+      return false;
+    }
+    try {
+      return new JsonObject(body).containsKey("result");
+    } catch (final DecodeException e) {
+      return false;
+    }
+  }
+}
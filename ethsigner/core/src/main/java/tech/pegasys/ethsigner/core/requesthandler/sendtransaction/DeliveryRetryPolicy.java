@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Schedules the redelivery of transactions whose hash has already been returned to the client,
+ * while the downstream node cannot be reached or reports a server error. Such a transaction cannot
+ * be reported as failed, so unlike a nonce retry its redelivery does not draw on the {@link
+ * RetryScheduler} budget: it is retried on a Vert.x timer, waiting twice as long as for the
+ * previous attempt up to a maximum, until it expires.
+ *
+ * <p>The number of deliveries in progress is published as a metric.
+ */
+public class DeliveryRetryPolicy {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final long INITIAL_BACKOFF_MILLIS = 100;
+  private static final double JITTER = 0.5;
+
+  private final Vertx vertx;
+  private final long maxBackoffMillis;
+  private final long expiryNanos;
+  private final LongSupplier nanoTime;
+  private final DoubleSupplier random;
+  private final AtomicInteger pending = new AtomicInteger();
+
+  public DeliveryRetryPolicy(
+      final Vertx vertx,
+      final Duration maxBackoff,
+      final Duration expiry,
+      final EthSignerMetrics metrics) {
+    this(
+        vertx,
+        maxBackoff,
+        expiry,
+        metrics,
+        System::nanoTime,
+        () -> ThreadLocalRandom.current().nextDouble());
+  }
+
+  @VisibleForTesting
+  DeliveryRetryPolicy(
+      final Vertx vertx,
+      final Duration maxBackoff,
+      final Duration expiry,
+      final EthSignerMetrics metrics,
+      final LongSupplier nanoTime,
+      final DoubleSupplier random) {
+    this.vertx = vertx;
+    this.maxBackoffMillis = Math.max(INITIAL_BACKOFF_MILLIS, maxBackoff.toMillis());
+    this.expiryNanos = expiry.toNanos();
+    this.nanoTime = nanoTime;
+    this.random = random;
+    metrics.registerAsyncDeliveriesPending(pending::get);
+  }
+
+  /** Starts the delivery of a transaction, which expires once the expiry has elapsed from now. */
+  public Delivery start() {
+    pending.incrementAndGet();
+    return new Delivery(nanoTime.getAsLong());
+  }
+
+  /** The attempts to deliver one transaction. Its methods must be called on a single context. */
+  public class Delivery {
+
+    private final long startedNanos;
+    private int retriesPerformed = 0;
+    private boolean finished = false;
+
+    private Delivery(final long startedNanos) {
+      this.startedNanos = startedNanos;
+    }
+
+    /**
+     * Runs the retry on the current context once the backoff has elapsed, or at expiry if that is
+     * sooner.
+     *
+     * @return false, without scheduling the retry, once the delivery has expired
+     */
+    public boolean retry(final Runnable retry) {
+      final long remainingMillis =
+          Duration.ofNanos(expiryNanos - (nanoTime.getAsLong() - startedNanos)).toMillis();
+      if (finished || remainingMillis <= 0) {
+        return false;
+      }
+
+      final long delay = Math.min(remainingMillis, delayMillis(retriesPerformed++));
+      LOG.trace("Redelivering in {} ms", delay);
+      if (delay < 1) {
+        vertx.runOnContext(ignored -> retry.run());
+      } else {
+        vertx.setTimer(delay, ignored -> retry.run());
+      }
+      return true;
+    }
+
+    /** Records that the transaction was delivered, rejected, or has expired. */
+    public void finished() {
+      if (!finished) {
+        finished = true;
+        pending.decrementAndGet();
+      }
+    }
+  }
+
+  @VisibleForTesting
+  long delayMillis(final int retriesPerformed) {
+    final double backoff =
+        Math.min(maxBackoffMillis, INITIAL_BACKOFF_MILLIS * Math.pow(2, retriesPerformed));
+    return Math.round(backoff * (1 - JITTER * random.getAsDouble()));
+  }
+
+  @VisibleForTesting
+  int pending() {
+    return pending.get();
+  }
+}
@@ -12,8 +12,10 @@
  */
 package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
 
+import io.vertx.core.Future;
+
 @FunctionalInterface
 public interface EnclaveLookupIdProvider {
 
-  String getLookupId(final String payload);
+  Future<String> getLookupId(final String payload);
 }
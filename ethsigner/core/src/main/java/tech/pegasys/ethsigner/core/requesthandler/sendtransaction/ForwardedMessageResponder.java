@@ -15,20 +15,35 @@ package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_GATEWAY;
 import static io.netty.handler.codec.http.HttpResponseStatus.GATEWAY_TIMEOUT;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
+import static io.netty.handler.codec.http.HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 
+import tech.pegasys.ethsigner.core.downstream.CircuitOpenException;
+import tech.pegasys.ethsigner.core.downstream.DownstreamOverloadedException;
+import tech.pegasys.ethsigner.core.http.HttpResponseFactory;
+import tech.pegasys.ethsigner.core.http.RequestBodyTooLargeException;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
 import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
 
 import java.net.ConnectException;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 import javax.net.ssl.SSLHandshakeException;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.vertx.ext.web.RoutingContext;
 
+/**
+ * Writes the outcome of a JSON-RPC request to the HTTP response of the routing context. Request
+ * handlers report their results through a responder so the same handler can serve both single
+ * requests and elements of a batch.
+ */
 public class ForwardedMessageResponder implements DownstreamResponseHandler {
 
   private final RoutingContext context;
+  private final HttpResponseFactory responseFactory = new HttpResponseFactory();
 
   public ForwardedMessageResponder(final RoutingContext context) {
     this.context = context;
@@ -50,15 +65,37 @@ public class ForwardedMessageResponder implements DownstreamResponseHandler {
 
   @Override
   public void handleFailure(final Throwable thrown) {
-    if (thrown instanceof TimeoutException || thrown instanceof ConnectException) {
-      context.fail(GATEWAY_TIMEOUT.code(), thrown);
+    if (thrown instanceof DownstreamOverloadedException || thrown instanceof CircuitOpenException) {
+      fail(SERVICE_UNAVAILABLE.code(), thrown);
+    } else if (thrown instanceof TimeoutException || thrown instanceof ConnectException) {
+      fail(GATEWAY_TIMEOUT.code(), thrown);
     } else if (thrown instanceof SSLHandshakeException) {
-      context.fail(BAD_GATEWAY.code(), thrown);
+      fail(BAD_GATEWAY.code(), thrown);
+    } else if (thrown instanceof RequestBodyTooLargeException) {
+      fail(REQUEST_ENTITY_TOO_LARGE.code(), thrown);
     } else {
-      context.fail(INTERNAL_SERVER_ERROR.code(), thrown);
+      fail(INTERNAL_SERVER_ERROR.code(), thrown);
     }
   }
 
+  public void successResponse(final JsonRpcRequestId id, final Object result) {
+    responseFactory.successResponse(context.response(), id, result);
+  }
+
+  public void failureResponse(
+      final JsonRpcRequestId id, final int statusCode, final JsonRpcError error) {
+    responseFactory.failureResponse(context.response(), id, statusCode, error);
+  }
+
+  public void fail(final int statusCode, final Throwable failure) {
+    context.fail(statusCode, failure);
+  }
+
+  /** The position of the request in its batch, when it is an element of one. */
+  public Optional<Integer> batchIndex() {
+    return Optional.empty();
+  }
+
   protected RoutingContext context() {
     return context;
   }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.UNPROCESSABLE_ENTITY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.IDEMPOTENCY_KEY_REUSED;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.common.net.HttpHeaders;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Deduplicates submissions which a client has labelled with the same idempotency key, so a client
+ * retrying a request it did not receive a response to is given the original outcome rather than
+ * having a second transaction signed and sent. A duplicate of a submission still in progress waits
+ * for, and receives, its outcome. Reusing a key for a request with another method or params is
+ * rejected, as the original outcome would not be the outcome of that request. An outcome is
+ * replayed with the id of the request it answers, as a retry carries a new request id.
+ *
+ * <p>Successful outcomes are retained until they expire, or are evicted to bound the number held;
+ * a failed submission is forgotten once its outcome has been delivered, so a retry is attempted
+ * afresh.
+ */
+public class IdempotencyCache {
+
+  public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Cache<String, Submission> submissions;
+  private final EthSignerMetrics metrics;
+
+  public IdempotencyCache(
+      final long maxEntries, final Duration expiry, final EthSignerMetrics metrics) {
+    this.submissions =
+        CacheBuilder.newBuilder().maximumSize(maxEntries).expireAfterWrite(expiry).build();
+    this.metrics = metrics;
+  }
+
+  /**
+   * Performs the submission of the request, reporting its outcome to the responder, unless a
+   * submission with the same key is in progress or has succeeded; in which case its outcome is
+   * reported instead.
+   */
+  public void submit(
+      final String key,
+      final JsonRpcRequest request,
+      final ForwardedMessageResponder responder,
+      final Consumer<ForwardedMessageResponder> submission) {
+    final Submission created = new Submission(fingerprint(request));
+    final Submission existing = submissions.asMap().putIfAbsent(key, created);
+    if (existing != null) {
+      if (!existing.fingerprint.equals(created.fingerprint)) {
+        LOG.debug("Idempotency key {} reused for a different request", key);
+        responder.fail(UNPROCESSABLE_ENTITY.code(), new JsonRpcException(IDEMPOTENCY_KEY_REUSED));
+        return;
+      }
+      LOG.debug("Duplicate submission with idempotency key {}", key);
+      metrics.idempotentReplay();
+      existing.attach(responder, request.getId());
+      return;
+    }
+
+    submission.accept(
+        new RecordingResponder(
+            responder,
+            (outcome, succeeded) -> {
+              created.complete(outcome);
+              if (!succeeded) {
+                submissions.asMap().remove(key, created);
+              }
+            }));
+  }
+
+  private static HashCode fingerprint(final JsonRpcRequest request) {
+    return Hashing.sha256()
+        .newHasher()
+        .putString(request.getMethod(), UTF_8)
+        .putString(Json.encode(request.getParams()), UTF_8)
+        .hash();
+  }
+
+  private static class Submission {
+
+    private final HashCode fingerprint;
+    private Optional<Outcome> outcome = Optional.empty();
+    private final List<Waiter> waiting = new ArrayList<>();
+
+    Submission(final HashCode fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+
+    void attach(final ForwardedMessageResponder responder, final JsonRpcRequestId id) {
+      final Outcome completed;
+      synchronized (this) {
+        if (outcome.isEmpty()) {
+          waiting.add(new Waiter(responder, id));
+          return;
+        }
+        completed = outcome.get();
+      }
+      completed.accept(responder, id);
+    }
+
+    void complete(final Outcome outcome) {
+      final List<Waiter> waiters;
+      synchronized (this) {
+        this.outcome = Optional.of(outcome);
+        waiters = List.copyOf(waiting);
+        waiting.clear();
+      }
+      waiters.forEach(waiter -> outcome.accept(waiter.responder, waiter.id));
+    }
+  }
+
+  private static class Waiter {
+    private final ForwardedMessageResponder responder;
+    private final JsonRpcRequestId id;
+
+    Waiter(final ForwardedMessageResponder responder, final JsonRpcRequestId id) {
+      this.responder = responder;
+      this.id = id;
+    }
+  }
+
+  /** Reports an outcome to a responder, answering the request with the given id. */
+  @FunctionalInterface
+  private interface Outcome extends BiConsumer<ForwardedMessageResponder, JsonRpcRequestId> {}
+
+  @FunctionalInterface
+  private interface OutcomeListener {
+    void completed(Outcome outcome, boolean succeeded);
+  }
+
+  /** Passes the outcome of the original submission to its responder, and records it for replay. */
+  private static class RecordingResponder extends ForwardedMessageResponder {
+
+    private final ForwardedMessageResponder delegate;
+    private final OutcomeListener listener;
+
+    RecordingResponder(final ForwardedMessageResponder delegate, final OutcomeListener listener) {
+      super(delegate.context());
+      this.delegate = delegate;
+      this.listener = listener;
+    }
+
+    @Override
+    public void handleResponse(
+        final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+      delegate.handleResponse(headers, statusCode, body);
+      listener.completed(
+          (responder, id) ->
+              responder.handleResponse(withoutContentLength(headers), statusCode, withId(body, id)),
+          isSuccess(statusCode, body));
+    }
+
+    @Override
+    public void handleFailure(final Throwable thrown) {
+      delegate.handleFailure(thrown);
+      listener.completed((responder, id) -> responder.handleFailure(thrown), false);
+    }
+
+    @Override
+    public void successResponse(final JsonRpcRequestId id, final Object result) {
+      delegate.successResponse(id, result);
+      listener.completed(
+          (responder, replayId) -> responder.successResponse(replayId, result), true);
+    }
+
+    @Override
+    public void failureResponse(
+        final JsonRpcRequestId id, final int statusCode, final JsonRpcError error) {
+      delegate.failureResponse(id, statusCode, error);
+      listener.completed(
+          (responder, replayId) -> responder.failureResponse(replayId, statusCode, error), false);
+    }
+
+    @Override
+    public void fail(final int statusCode, final Throwable failure) {
+      delegate.fail(statusCode, failure);
+      // the error handler answers with the id of the request being responded to
+      listener.completed((responder, id) -> responder.fail(statusCode, failure), false);
+    }
+
+    private static String withId(final String body, final JsonRpcRequestId id) {
+      try {
+        return new JsonObject(body).put("id", id == null ? null : id.getValue()).encode();
+      } catch (final DecodeException e) {
+        return body;
+      }
+    }
+
+    private static List<Entry<String, String>> withoutContentLength(
+        final Iterable<Entry<String, String>> headers) {
+      // the body replayed carries another id, so may differ in length
+      return StreamSupport.stream(headers.spliterator(), false)
+          .filter(header -> !header.getKey().equalsIgnoreCase(HttpHeaders.CONTENT_LENGTH))
+          .collect(Collectors.toList());
+    }
+
+    private static boolean isSuccess(final int statusCode, final String body) {
+      if (statusCode != 200) {
+        return false;
+      }
+      try {
+        return new JsonObject(body).containsKey("result");
+      } catch (final DecodeException e) {
+        return false;
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import tech.pegasys.ethsigner.core.Eth1AddressSignerIdentifier;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Hands out nonces for sending accounts from a local counter. The downstream node is only queried
+ * for an account's transaction count the first time the account is used, after it has been idle
+ * for longer than the expiry period, or after a resync has been requested.
+ *
+ * <p>An instance is shared by all HTTP server instances. A lookup of the downstream node is
+ * started on the event loop of the request which needed it, so every nonce is delivered on the
+ * context of the request it was allocated for rather than where the lookup completed.
+ */
+public class NonceManager {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Cache<String, Future<AtomicReference<BigInteger>>> nextNonces;
+
+  public NonceManager(final Duration idleExpiry) {
+    this.nextNonces = CacheBuilder.newBuilder().expireAfterAccess(idleExpiry).build();
+  }
+
+  /**
+   * Creates a NonceProvider which serves nonces for the account from the local counter, using the
+   * supplied provider to (re)initialise the counter from the downstream node.
+   */
+  public NonceProvider nonceProvider(final String account, final NonceProvider downstreamProvider) {
+    return () -> nextNonce(account, downstreamProvider);
+  }
+
+  public Future<BigInteger> nextNonce(
+      final String account, final NonceProvider downstreamProvider) {
+    final Context context = Vertx.currentContext();
+    final Promise<BigInteger> result = Promise.promise();
+    allocate(account, downstreamProvider)
+        .onComplete(
+            allocated -> {
+              if (context == null || context == Vertx.currentContext()) {
+                result.handle(allocated);
+              } else {
+                context.runOnContext(ignored -> result.handle(allocated));
+              }
+            });
+    return result.future();
+  }
+
+  private Future<BigInteger> allocate(
+      final String account, final NonceProvider downstreamProvider) {
+    final String key = key(account);
+    final Future<AtomicReference<BigInteger>> nextNonce;
+    try {
+      nextNonce =
+          nextNonces.get(key, () -> downstreamProvider.getNonce().map(AtomicReference::new));
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      return Future.failedFuture(e.getCause());
+    }
+
+    // a failed lookup must not be cached, so the next request retries the downstream node
+    nextNonce.onFailure(error -> nextNonces.asMap().remove(key, nextNonce));
+
+    return nextNonce.map(
+        counter -> {
+          final BigInteger nonce = counter.getAndUpdate(current -> current.add(BigInteger.ONE));
+          LOG.debug("Allocated nonce {} for {}", nonce, account);
+          return nonce;
+        });
+  }
+
+  /** Discards the local counter, the next nonce for the account is fetched from downstream. */
+  public void resync(final String account) {
+    LOG.debug("Resynchronising nonce for {}", account);
+    nextNonces.invalidate(key(account));
+  }
+
+  private static String key(final String account) {
+    return new Eth1AddressSignerIdentifier(account).toStringIdentifier();
+  }
+}
@@ -14,8 +14,10 @@ package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
 
 import java.math.BigInteger;
 
+import io.vertx.core.Future;
+
 @FunctionalInterface
 public interface NonceProvider {
 
-  BigInteger getNonce();
+  Future<BigInteger> getNonce();
 }
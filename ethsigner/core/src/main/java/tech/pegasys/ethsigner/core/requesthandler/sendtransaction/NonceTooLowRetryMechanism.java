@@ -17,6 +17,7 @@ import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.ETH_SEND
 import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.NONCE_TOO_LOW;
 
 import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcErrorResponse;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.json.DecodeException;
@@ -28,8 +29,21 @@ public class NonceTooLowRetryMechanism extends RetryMechanism {
 
   private static final Logger LOG = LogManager.getLogger();
 
+  private final EthSignerMetrics metrics;
+
   public NonceTooLowRetryMechanism(final int maxRetries) {
+    this(maxRetries, EthSignerMetrics.noop());
+  }
+
+  public NonceTooLowRetryMechanism(final int maxRetries, final EthSignerMetrics metrics) {
     super(maxRetries);
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void incrementRetries() {
+    super.incrementRetries();
+    metrics.nonceTooLowRetry();
   }
 
   @Override
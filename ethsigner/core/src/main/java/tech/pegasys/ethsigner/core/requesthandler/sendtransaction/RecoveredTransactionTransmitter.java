@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
+
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import com.google.common.net.HttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Resubmits a transaction recovered from the {@link TransactionJournal}, which was recorded before
+ * EthSigner last stopped but had not been responded to by the downstream node. Its hash may already
+ * have been returned to the client, so it is redelivered as an asynchronously submitted transaction
+ * is, under the {@link DeliveryRetryPolicy}, and its journal entry is kept until the node accepts
+ * or rejects it, or its delivery expires. It must be sent on a Vert.x context.
+ */
+public class RecoveredTransactionTransmitter implements DownstreamResponseHandler {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final TransactionJournal journal;
+  private final TransactionJournal.Entry entry;
+  private final VertxRequestTransmitterFactory transmitterFactory;
+  private final DeliveryRetryPolicy.Delivery delivery;
+  private final EthSignerMetrics metrics;
+  private int deliveryAttempts = 0;
+
+  public RecoveredTransactionTransmitter(
+      final TransactionJournal journal,
+      final TransactionJournal.Entry entry,
+      final VertxRequestTransmitterFactory transmitterFactory,
+      final DeliveryRetryPolicy deliveryRetryPolicy,
+      final EthSignerMetrics metrics) {
+    this.journal = journal;
+    this.entry = entry;
+    this.transmitterFactory = transmitterFactory;
+    this.delivery = deliveryRetryPolicy.start();
+    this.metrics = metrics;
+  }
+
+  public void send() {
+    deliveryAttempts++;
+    final JsonObject request =
+        new JsonObject()
+            .put("jsonrpc", "2.0")
+            .put("method", entry.getMethod())
+            .put("params", new JsonArray(entry.getParams()))
+            .put("id", entry.getSequence());
+    transmitterFactory
+        .create(this, Optional.empty())
+        .sendRequest(
+            HttpMethod.POST,
+            MultiMap.caseInsensitiveMultiMap()
+                .add(HttpHeaders.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON.toString()),
+            entry.getPath(),
+            request.encode());
+  }
+
+  @Override
+  public void handleResponse(
+      final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+    if (statusCode >= HttpResponseStatus.INTERNAL_SERVER_ERROR.code()) {
+      retry("status " + statusCode);
+      return;
+    }
+    journal.acknowledge(entry.getSequence());
+    delivery.finished();
+    if (AsyncTransactionTransmitter.isAccepted(statusCode, body)) {
+      LOG.info("Resubmitted recovered transaction {}", entry);
+      metrics.asyncDelivery("delivered");
+    } else {
+      LOG.warn("Recovered transaction {} rejected by downstream node: {}", entry, body);
+      metrics.asyncDelivery("rejected");
+    }
+  }
+
+  @Override
+  public void handleFailure(final Throwable thrown) {
+    retry(thrown.getMessage());
+  }
+
+  private void retry(final String reason) {
+    if (delivery.retry(this::send)) {
+      LOG.debug("Resubmitting recovered transaction {} after failed delivery: {}", entry, reason);
+      return;
+    }
+    LOG.error(
+        "Recovered transaction {} expired undelivered after {} attempts: {}",
+        entry,
+        deliveryAttempts,
+        reason);
+    journal.acknowledge(entry.getSequence());
+    delivery.finished();
+    metrics.asyncDelivery("expired");
+  }
+}
@@ -27,6 +27,10 @@ public abstract class RetryMechanism {
     return retriesPerformed < maxRetries;
   }
 
+  public int getRetriesPerformed() {
+    return retriesPerformed;
+  }
+
   public void incrementRetries() {
     retriesPerformed++;
   }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Schedules the resubmission of transactions the downstream node rejected, so that senders which
+ * collided on a nonce do not all fetch a new one and collide again at the same moment. Each retry
+ * of a transaction waits on a Vert.x timer for twice as long as the previous one, up to a maximum,
+ * with a random part of the delay removed.
+ *
+ * <p>Retries are limited by a budget shared by all transactions. Every transaction adds a fraction
+ * of a retry to the budget, every retry takes a whole one, and no retry is scheduled once the
+ * budget is spent; so under sustained contention retries are capped at that fraction of
+ * transactions. The budget starts full, and never holds more than {@link #BUDGET_CAPACITY}
+ * retries, so a burst after a quiet period is not amplified.
+ */
+public class RetryScheduler {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final double BUDGET_CAPACITY = 100;
+
+  private final Vertx vertx;
+  private final long initialBackoffMillis;
+  private final long maxBackoffMillis;
+  private final double jitter;
+  private final double budgetRatio;
+  private final EthSignerMetrics metrics;
+  private final DoubleSupplier random;
+
+  private double budget = BUDGET_CAPACITY;
+
+  /**
+   * @param jitter the proportion of each delay which is randomised, from 0 (none) to 1 (a delay
+   *     anywhere between zero and the backoff)
+   * @param budgetRatio the number of retries each transaction adds to the budget
+   */
+  public RetryScheduler(
+      final Vertx vertx,
+      final Duration initialBackoff,
+      final Duration maxBackoff,
+      final double jitter,
+      final double budgetRatio,
+      final EthSignerMetrics metrics) {
+    this(
+        vertx,
+        initialBackoff,
+        maxBackoff,
+        jitter,
+        budgetRatio,
+        metrics,
+        () -> ThreadLocalRandom.current().nextDouble());
+  }
+
+  @VisibleForTesting
+  RetryScheduler(
+      final Vertx vertx,
+      final Duration initialBackoff,
+      final Duration maxBackoff,
+      final double jitter,
+      final double budgetRatio,
+      final EthSignerMetrics metrics,
+      final DoubleSupplier random) {
+    this.vertx = vertx;
+    this.initialBackoffMillis = initialBackoff.toMillis();
+    this.maxBackoffMillis = maxBackoff.toMillis();
+    this.jitter = jitter;
+    this.budgetRatio = budgetRatio;
+    this.metrics = metrics;
+    this.random = random;
+  }
+
+  /** Records a transaction which may need to be retried, adding to the retry budget. */
+  public synchronized void transactionStarted() {
+    budget = Math.min(BUDGET_CAPACITY, budget + budgetRatio);
+  }
+
+  /**
+   * Runs the retry on the current context once the backoff for the given number of retries already
+   * performed has elapsed.
+   *
+   * @return false, without scheduling the retry, if the retry budget is spent
+   */
+  public boolean schedule(final int retriesPerformed, final Runnable retry) {
+    if (!withdraw()) {
+      LOG.debug("Retry budget exhausted");
+      metrics.retryBudgetExhausted();
+      return false;
+    }
+
+    final long delay = delayMillis(retriesPerformed);
+    LOG.trace("Retrying in {} ms", delay);
+    if (delay < 1) {
+      vertx.runOnContext(ignored -> retry.run());
+    } else {
+      vertx.setTimer(delay, ignored -> retry.run());
+    }
+    return true;
+  }
+
+  @VisibleForTesting
+  long delayMillis(final int retriesPerformed) {
+    final double backoff =
+        Math.min(maxBackoffMillis, initialBackoffMillis * Math.pow(2, retriesPerformed));
+    return Math.round(backoff * (1 - jitter * random.getAsDouble()));
+  }
+
+  private synchronized boolean withdraw() {
+    if (budget < 1) {
+      return false;
+    }
+    budget -= 1;
+    return true;
+  }
+}
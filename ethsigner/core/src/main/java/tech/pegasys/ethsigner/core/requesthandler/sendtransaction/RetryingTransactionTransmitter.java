@@ -21,36 +21,85 @@ import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.Tr
 import tech.pegasys.ethsigner.core.signing.TransactionSerializer;
 
 import java.util.Map.Entry;
+import java.util.Optional;
 
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
 public class RetryingTransactionTransmitter extends TransactionTransmitter {
 
   private final RetryMechanism retryMechanism;
+  private final RetryScheduler retryScheduler;
+  private final Transaction transaction;
+  private final Optional<NonceManager> nonceManager;
 
   public RetryingTransactionTransmitter(
       final Transaction transaction,
       final TransactionSerializer transactionSerializer,
       final VertxRequestTransmitterFactory transmitterFactory,
       final RetryMechanism retryMechanism,
-      final RoutingContext routingContext) {
-    super(transaction, transactionSerializer, transmitterFactory, routingContext);
+      final RetryScheduler retryScheduler,
+      final RoutingContext routingContext,
+      final ForwardedMessageResponder responder,
+      final Optional<NonceManager> nonceManager,
+      final Optional<TransactionJournal> journal) {
+    super(
+        transaction, transactionSerializer, transmitterFactory, routingContext, responder, journal);
     this.retryMechanism = retryMechanism;
+    this.retryScheduler = retryScheduler;
+    this.transaction = transaction;
+    this.nonceManager = nonceManager;
   }
 
   @Override
   public void handleResponse(
       final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
     if (retryMechanism.responseRequiresRetry(statusCode, body)) {
-      if (retryMechanism.retriesAvailable()) {
+      // the rejected transaction is superseded by one signed with a new nonce
+      acknowledgeJournalEntry();
+      resyncNonce();
+      if (retryMechanism.retriesAvailable()
+          && retryScheduler.schedule(retryMechanism.getRetriesPerformed(), this::send)) {
         retryMechanism.incrementRetries();
-        send();
       } else {
-        context().fail(BAD_REQUEST.code(), new JsonRpcException(INTERNAL_ERROR));
+        responder().fail(BAD_REQUEST.code(), new JsonRpcException(INTERNAL_ERROR));
       }
       return;
     }
 
+    if (!isSuccessResponse(statusCode, body)) {
+      // the allocated nonce may not have been consumed, leaving a gap for subsequent transactions
+      resyncNonce();
+    }
     super.handleResponse(headers, statusCode, body);
   }
+
+  @Override
+  public void handleFailure(final Throwable t) {
+    resyncNonce();
+    super.handleFailure(t);
+  }
+
+  @Override
+  protected void failUnsent(final int statusCode, final JsonRpcException error) {
+    resyncNonce();
+    super.failUnsent(statusCode, error);
+  }
+
+  private void resyncNonce() {
+    nonceManager.ifPresent(manager -> manager.resync(transaction.sender()));
+  }
+
+  private static boolean isSuccessResponse(final int statusCode, final String body) {
+    if (statusCode != HttpResponseStatus.OK.code()) {
+      return false;
+    }
+    try {
+      return new JsonObject(body).containsKey("result");
+    } catch (final DecodeException e) {
+      return false;
+    }
+  }
 }
@@ -13,24 +13,37 @@
 package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.TOO_MANY_REQUESTS;
 import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.INVALID_PARAMS;
+import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.RATE_LIMIT_EXCEEDED;
 import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.SIGNING_FROM_IS_NOT_AN_UNLOCKED_ACCOUNT;
+import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.TOO_MANY_PENDING_TRANSACTIONS;
 import static tech.pegasys.ethsigner.core.util.ResponseCodeSelector.jsonRPCErrorCode;
 
+import tech.pegasys.ethsigner.core.Eth1AddressSignerIdentifier;
 import tech.pegasys.ethsigner.core.Eth1AddressSignerProvider;
+import tech.pegasys.ethsigner.core.http.RateLimiter;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
 import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
 import tech.pegasys.ethsigner.core.requesthandler.JsonRpcRequestHandler;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.EthTransaction;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.GoQuorumPrivateTransaction;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.PrivateTransaction;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.Transaction;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.TransactionFactory;
 import tech.pegasys.ethsigner.core.signing.GoQuorumPrivateTransactionSerializer;
 import tech.pegasys.ethsigner.core.signing.TransactionSerializer;
 import tech.pegasys.signers.secp256k1.api.Signer;
 
+import java.util.Locale;
+import java.util.Map.Entry;
 import java.util.Optional;
 
+import io.vertx.core.Context;
 import io.vertx.core.json.DecodeException;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.logging.log4j.LogManager;
@@ -44,6 +57,14 @@ public class SendTransactionHandler implements JsonRpcRequestHandler {
   private final Eth1AddressSignerProvider signerProvider;
   private final TransactionFactory transactionFactory;
   private final VertxRequestTransmitterFactory vertxTransmitterFactory;
+  private final Optional<NonceManager> nonceManager;
+  private final Optional<SenderQueues> senderQueues;
+  private final RetryScheduler retryScheduler;
+  private final Optional<DeliveryRetryPolicy> asyncDelivery;
+  private final Optional<TransactionJournal> journal;
+  private final Optional<IdempotencyCache> idempotencyCache;
+  private final Optional<RateLimiter> senderRateLimiter;
+  private final EthSignerMetrics metrics;
 
   private static final int MAX_NONCE_RETRIES = 10;
 
@@ -51,15 +72,34 @@ public class SendTransactionHandler implements JsonRpcRequestHandler {
       final long chainId,
       final Eth1AddressSignerProvider signerProvider,
       final TransactionFactory transactionFactory,
-      final VertxRequestTransmitterFactory vertxTransmitterFactory) {
+      final VertxRequestTransmitterFactory vertxTransmitterFactory,
+      final Optional<NonceManager> nonceManager,
+      final Optional<SenderQueues> senderQueues,
+      final RetryScheduler retryScheduler,
+      final Optional<DeliveryRetryPolicy> asyncDelivery,
+      final Optional<TransactionJournal> journal,
+      final Optional<IdempotencyCache> idempotencyCache,
+      final Optional<RateLimiter> senderRateLimiter,
+      final EthSignerMetrics metrics) {
     this.chainId = chainId;
     this.signerProvider = signerProvider;
     this.transactionFactory = transactionFactory;
     this.vertxTransmitterFactory = vertxTransmitterFactory;
+    this.nonceManager = nonceManager;
+    this.senderQueues = senderQueues;
+    this.retryScheduler = retryScheduler;
+    this.asyncDelivery = asyncDelivery;
+    this.journal = journal;
+    this.idempotencyCache = idempotencyCache;
+    this.senderRateLimiter = senderRateLimiter;
+    this.metrics = metrics;
   }
 
   @Override
-  public void handle(final RoutingContext context, final JsonRpcRequest request) {
+  public void handle(
+      final RoutingContext context,
+      final JsonRpcRequest request,
+      final ForwardedMessageResponder responder) {
     LOG.debug("Transforming request {}, {}", request.getId(), request.getMethod());
     final Transaction transaction;
     try {
@@ -67,15 +107,15 @@ public class SendTransactionHandler implements JsonRpcRequestHandler {
     } catch (final NumberFormatException e) {
       LOG.debug("Parsing values failed for request: {}", request.getParams(), e);
       final JsonRpcException jsonRpcException = new JsonRpcException(INVALID_PARAMS);
-      context.fail(jsonRPCErrorCode(jsonRpcException), jsonRpcException);
+      responder.fail(jsonRPCErrorCode(jsonRpcException), jsonRpcException);
       return;
     } catch (final JsonRpcException e) {
-      context.fail(jsonRPCErrorCode(e), e);
+      responder.fail(jsonRPCErrorCode(e), e);
       return;
     } catch (final IllegalArgumentException | DecodeException e) {
       LOG.debug("JSON Deserialization failed for request: {}", request.getParams(), e);
       final JsonRpcException jsonRpcException = new JsonRpcException(INVALID_PARAMS);
-      context.fail(jsonRPCErrorCode(jsonRpcException), jsonRpcException);
+      responder.fail(jsonRPCErrorCode(jsonRpcException), jsonRpcException);
       return;
     }
 
@@ -83,17 +123,94 @@ public class SendTransactionHandler implements JsonRpcRequestHandler {
 
     if (signer.isEmpty()) {
       LOG.info("From address ({}) does not match any available account", transaction.sender());
-      context.fail(
+      responder.fail(
           BAD_REQUEST.code(), new JsonRpcException(SIGNING_FROM_IS_NOT_AN_UNLOCKED_ACCOUNT));
       return;
     }
 
-    sendTransaction(transaction, context, signer.get(), request);
+    final Optional<String> idempotencyKey =
+        Optional.ofNullable(context.request().getHeader(IdempotencyCache.IDEMPOTENCY_KEY_HEADER));
+    if (idempotencyCache.isPresent() && idempotencyKey.isPresent()) {
+      // a retry carries a new request id, so the key is scoped by sender, and by position for the
+      // elements of a batch submitted under a single key
+      final String key =
+          String.join(
+              "/",
+              idempotencyKey.get(),
+              transaction.sender().toLowerCase(Locale.ROOT),
+              responder.batchIndex().map(String::valueOf).orElse(""));
+      idempotencyCache
+          .get()
+          .submit(
+              key,
+              request,
+              responder,
+              keyedResponder ->
+                  submit(transaction, context, keyedResponder, signer.get(), request));
+    } else {
+      submit(transaction, context, responder, signer.get(), request);
+    }
+  }
+
+  private void submit(
+      final Transaction transaction,
+      final RoutingContext context,
+      final ForwardedMessageResponder responder,
+      final Signer signer,
+      final JsonRpcRequest request) {
+    if (isRateLimited(transaction.sender())) {
+      LOG.debug("Rate limit exceeded for {}", transaction.sender());
+      metrics.admissionRejected("sender_rate");
+      responder.fail(TOO_MANY_REQUESTS.code(), new JsonRpcException(RATE_LIMIT_EXCEEDED));
+      return;
+    }
+
+    // a client supplied nonce cannot collide with one allocated for a concurrent transaction
+    if (senderQueues.isPresent() && !transaction.isNonceUserSpecified()) {
+      enqueueTransaction(senderQueues.get(), transaction, context, responder, signer, request);
+    } else {
+      sendTransaction(transaction, context, responder, signer, request);
+    }
+  }
+
+  private boolean isRateLimited(final String sender) {
+    final String account = new Eth1AddressSignerIdentifier(sender).toStringIdentifier();
+    return senderRateLimiter.map(limiter -> !limiter.tryAcquire(account)).orElse(false);
+  }
+
+  private void enqueueTransaction(
+      final SenderQueues queues,
+      final Transaction transaction,
+      final RoutingContext routingContext,
+      final ForwardedMessageResponder responder,
+      final Signer signer,
+      final JsonRpcRequest request) {
+    // the preceding transaction may complete on another event loop
+    final Context vertxContext = routingContext.vertx().getOrCreateContext();
+    final boolean queued =
+        queues.enqueue(
+            transaction.sender(),
+            release ->
+                vertxContext.runOnContext(
+                    ignored ->
+                        sendTransaction(
+                            transaction,
+                            routingContext,
+                            new ReleasingResponder(responder, release),
+                            signer,
+                            request)));
+    if (!queued) {
+      LOG.info("Too many transactions pending for {}", transaction.sender());
+      final JsonRpcException jsonRpcException =
+          new JsonRpcException(TOO_MANY_PENDING_TRANSACTIONS);
+      responder.fail(jsonRPCErrorCode(jsonRpcException), jsonRpcException);
+    }
   }
 
   private void sendTransaction(
       final Transaction transaction,
       final RoutingContext routingContext,
+      final ForwardedMessageResponder responder,
       final Signer signer,
       final JsonRpcRequest request) {
 
@@ -103,7 +220,8 @@ public class SendTransactionHandler implements JsonRpcRequestHandler {
             : new TransactionSerializer(signer, chainId);
 
     final TransactionTransmitter transmitter =
-        createTransactionTransmitter(transaction, transactionSerializer, routingContext, request);
+        createTransactionTransmitter(
+            transaction, transactionSerializer, routingContext, responder, request);
     transmitter.send();
   }
 
@@ -111,20 +229,101 @@ public class SendTransactionHandler implements JsonRpcRequestHandler {
       final Transaction transaction,
       final TransactionSerializer transactionSerializer,
       final RoutingContext routingContext,
+      final ForwardedMessageResponder responder,
       final JsonRpcRequest request) {
 
-    if (!transaction.isNonceUserSpecified()) {
+    if (asyncDelivery.isPresent() && isHashKnownOnceSigned(transaction)) {
+      LOG.debug("Submitting request {} asynchronously", request.getId());
+      return new AsyncTransactionTransmitter(
+          transaction,
+          transactionSerializer,
+          vertxTransmitterFactory,
+          asyncDelivery.get(),
+          routingContext,
+          responder,
+          nonceManager.filter(manager -> !transaction.isNonceUserSpecified()),
+          journal,
+          metrics);
+    } else if (!transaction.isNonceUserSpecified()) {
       LOG.debug("Nonce not present in request {}", request.getId());
+      retryScheduler.transactionStarted();
       return new RetryingTransactionTransmitter(
           transaction,
           transactionSerializer,
           vertxTransmitterFactory,
-          new NonceTooLowRetryMechanism(MAX_NONCE_RETRIES),
-          routingContext);
+          new NonceTooLowRetryMechanism(MAX_NONCE_RETRIES, metrics),
+          retryScheduler,
+          routingContext,
+          responder,
+          // private nonces are always obtained from the downstream node
+          nonceManager.filter(manager -> !(transaction instanceof PrivateTransaction)),
+          journal);
     } else {
       LOG.debug("Nonce supplied by client, forwarding request");
       return new TransactionTransmitter(
-          transaction, transactionSerializer, vertxTransmitterFactory, routingContext);
+          transaction,
+          transactionSerializer,
+          vertxTransmitterFactory,
+          routingContext,
+          responder,
+          journal);
+    }
+  }
+
+  /**
+   * The hash of a public transaction is that of its signed encoding, whereas the downstream node
+   * responds to a private transaction with the hash of a marker transaction it creates. The nonce
+   * of a transaction submitted in the background must not depend on the downstream node having
+   * received the sender's previous transaction.
+   */
+  private boolean isHashKnownOnceSigned(final Transaction transaction) {
+    return transaction instanceof EthTransaction
+        && !(transaction instanceof GoQuorumPrivateTransaction)
+        && (transaction.isNonceUserSpecified() || nonceManager.isPresent());
+  }
+
+  /** Releases the sender's queue once the outcome of the transaction has been reported. */
+  private static class ReleasingResponder extends ForwardedMessageResponder {
+
+    private final ForwardedMessageResponder delegate;
+    private final Runnable release;
+
+    ReleasingResponder(final ForwardedMessageResponder delegate, final Runnable release) {
+      super(delegate.context());
+      this.delegate = delegate;
+      this.release = release;
+    }
+
+    @Override
+    public void handleResponse(
+        final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+      release.run();
+      delegate.handleResponse(headers, statusCode, body);
+    }
+
+    @Override
+    public void handleFailure(final Throwable thrown) {
+      release.run();
+      delegate.handleFailure(thrown);
+    }
+
+    @Override
+    public void successResponse(final JsonRpcRequestId id, final Object result) {
+      release.run();
+      delegate.successResponse(id, result);
+    }
+
+    @Override
+    public void failureResponse(
+        final JsonRpcRequestId id, final int statusCode, final JsonRpcError error) {
+      release.run();
+      delegate.failureResponse(id, statusCode, error);
+    }
+
+    @Override
+    public void fail(final int statusCode, final Throwable failure) {
+      release.run();
+      delegate.fail(statusCode, failure);
     }
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import tech.pegasys.ethsigner.core.Eth1AddressSignerIdentifier;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Serialises work for each sending account, so the nonce allocation, signing and submission of a
+ * transaction complete before the next transaction from the same account is started. Work for
+ * different accounts is independent and proceeds concurrently.
+ *
+ * <p>A queue only exists while its account has work outstanding and is discarded as soon as it
+ * drains, so idle accounts hold no memory. Both the depth of each queue and the number of accounts
+ * with outstanding work are bounded; work beyond either limit is rejected rather than buffered.
+ */
+public class SenderQueues {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final int maxDepth;
+  private final int maxSenders;
+
+  // an account is present while it has a running task, the deque holds the tasks waiting behind it
+  private final Map<String, Deque<Consumer<Runnable>>> queues = new HashMap<>();
+
+  public SenderQueues(final int maxDepth, final int maxSenders) {
+    this.maxDepth = maxDepth;
+    this.maxSenders = maxSenders;
+  }
+
+  /**
+   * Runs the task once all tasks previously enqueued for the sender have completed. The task is
+   * passed a callback which it must invoke when its work has finished, releasing the next task for
+   * the sender; the task is run immediately, on the calling thread, if the sender is idle.
+   *
+   * @return false, without running the task, if the sender's queue or the number of active senders
+   *     is at capacity
+   */
+  public boolean enqueue(final String sender, final Consumer<Runnable> task) {
+    final String key = key(sender);
+    synchronized (this) {
+      final Deque<Consumer<Runnable>> waiting = queues.get(key);
+      if (waiting != null) {
+        if (waiting.size() + 1 >= maxDepth) {
+          LOG.debug("Queue for {} is full", sender);
+          return false;
+        }
+        waiting.add(task);
+        return true;
+      }
+      if (queues.size() >= maxSenders) {
+        LOG.debug("Unable to queue work for {}, too many senders are active", sender);
+        return false;
+      }
+      queues.put(key, new ArrayDeque<>());
+    }
+    run(key, task);
+    return true;
+  }
+
+  @VisibleForTesting
+  synchronized int activeSenders() {
+    return queues.size();
+  }
+
+  private void run(final String key, final Consumer<Runnable> task) {
+    final AtomicBoolean completed = new AtomicBoolean();
+    final Runnable completion =
+        () -> {
+          if (completed.compareAndSet(false, true)) {
+            runNext(key);
+          }
+        };
+    try {
+      task.accept(completion);
+    } catch (final RuntimeException e) {
+      completion.run();
+      throw e;
+    }
+  }
+
+  private void runNext(final String key) {
+    final Consumer<Runnable> task;
+    synchronized (this) {
+      task = queues.get(key).poll();
+      if (task == null) {
+        queues.remove(key);
+        return;
+      }
+    }
+    run(key, task);
+  }
+
+  private static String key(final String sender) {
+    return new Eth1AddressSignerIdentifier(sender).toStringIdentifier();
+  }
+}
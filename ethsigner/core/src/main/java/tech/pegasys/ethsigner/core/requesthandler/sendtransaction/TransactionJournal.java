@@ -0,0 +1,439 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * An append only journal of signed transactions, recording each transaction before it is sent to
+ * the downstream node and its acknowledgement once the node has responded, so transactions whose
+ * delivery was interrupted can be resubmitted when EthSigner restarts.
+ *
+ * <p>The journal is written to memory mapped segment files. An appended transaction is only
+ * reported as recorded once it has been forced to disk; appends made while the journal is being
+ * forced are committed together by the next force, so a burst of transactions shares one sync.
+ * Acknowledgements are not forced, as losing one only causes a transaction to be resubmitted, which
+ * the downstream node rejects as already known. Transactions whose append fails to be forced are
+ * acknowledged, as the caller is told they were not recorded so will not send them.
+ *
+ * <p>Segments are deleted, oldest first, once every transaction recorded in them has been
+ * acknowledged. When the journal is opened the transactions which were never acknowledged are
+ * copied to a new segment, and the old segments deleted.
+ */
+public class TransactionJournal {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  private static final Pattern SEGMENT_NAME = Pattern.compile("journal-(\\d+)\\.log");
+  private static final byte TRANSACTION = 1;
+  private static final byte ACKNOWLEDGEMENT = 2;
+  private static final int RECORD_HEADER_SIZE = 1 + Integer.BYTES + Integer.BYTES;
+
+  private final Vertx vertx;
+  private final Path directory;
+  private final int segmentSize;
+
+  // all fields below are guarded by this
+  private final Deque<Segment> segments = new ArrayDeque<>();
+  private final Map<Long, Segment> unacknowledged = new HashMap<>();
+  private final Set<Segment> unforced = new LinkedHashSet<>();
+  private List<PendingAppend> uncommitted = new ArrayList<>();
+  private boolean forcing = false;
+  private long nextSequence;
+  private List<Entry> recovered = List.of();
+
+  private TransactionJournal(final Vertx vertx, final Path directory, final int segmentSize) {
+    this.vertx = vertx;
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+  }
+
+  /** Opens the journal in the directory, recovering any transactions which were unacknowledged. */
+  public static TransactionJournal open(final Vertx vertx, final Path directory)
+      throws IOException {
+    return open(vertx, directory, DEFAULT_SEGMENT_SIZE);
+  }
+
+  @VisibleForTesting
+  static TransactionJournal open(final Vertx vertx, final Path directory, final int segmentSize)
+      throws IOException {
+    final TransactionJournal journal = new TransactionJournal(vertx, directory, segmentSize);
+    journal.recover();
+    return journal;
+  }
+
+  /**
+   * Transactions which had not been acknowledged when the journal was last closed. They have been
+   * recorded again under new sequence numbers, which must be acknowledged once resubmitted.
+   */
+  public synchronized List<Entry> getRecovered() {
+    return recovered;
+  }
+
+  /**
+   * Records a transaction about to be sent to the downstream node.
+   *
+   * @param method the JSON-RPC method which submits the transaction
+   * @param path the path of the request the transaction was received on
+   * @param params the encoded JSON-RPC params, containing the signed transaction
+   * @return the sequence number of the entry, once it has been forced to disk
+   */
+  public Future<Long> append(final String method, final String path, final String params) {
+    final Promise<Void> committed = Promise.promise();
+    final long sequence;
+    final boolean startForce;
+    synchronized (this) {
+      sequence = nextSequence++;
+      final Segment segment;
+      try {
+        segment = write(TRANSACTION, transactionPayload(sequence, method, path, params));
+      } catch (final IOException | IllegalArgumentException e) {
+        return Future.failedFuture(e);
+      }
+      segment.unacknowledged++;
+      unacknowledged.put(sequence, segment);
+      uncommitted.add(new PendingAppend(sequence, committed));
+      startForce = !forcing;
+      forcing = true;
+    }
+    if (startForce) {
+      force();
+    }
+    return committed.future().map(sequence);
+  }
+
+  /** Records that the downstream node has responded to the transaction. */
+  public synchronized void acknowledge(final long sequence) {
+    final Segment segment = unacknowledged.remove(sequence);
+    if (segment == null) {
+      return;
+    }
+    try {
+      write(ACKNOWLEDGEMENT, ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+    } catch (final IOException e) {
+      LOG.warn("Failed to record acknowledgement of journal entry {}", sequence, e);
+    }
+    segment.unacknowledged--;
+    deleteAcknowledgedSegments();
+  }
+
+  @VisibleForTesting
+  synchronized int segmentCount() {
+    return segments.size();
+  }
+
+  private void force() {
+    final List<PendingAppend> committing;
+    final List<Segment> toForce;
+    synchronized (this) {
+      committing = uncommitted;
+      uncommitted = new ArrayList<>();
+      toForce = List.copyOf(unforced);
+      unforced.clear();
+    }
+    vertx
+        .<Void>executeBlocking(
+            promise -> {
+              toForce.forEach(Segment::force);
+              promise.complete();
+            },
+            false)
+        .onComplete(
+            result -> {
+              if (result.failed()) {
+                // the entries may have reached the mapped pages, so must not be recovered
+                committing.forEach(append -> acknowledge(append.sequence));
+              }
+              committing.forEach(append -> append.committed.handle(result));
+              final boolean forceAgain;
+              synchronized (this) {
+                forceAgain = !uncommitted.isEmpty();
+                forcing = forceAgain;
+              }
+              if (forceAgain) {
+                force();
+              }
+            });
+  }
+
+  private Segment write(final byte type, final ByteBuffer payload) throws IOException {
+    final int recordSize = RECORD_HEADER_SIZE + payload.capacity();
+    if (recordSize > segmentSize) {
+      throw new IllegalArgumentException("Journal entry exceeds the segment size");
+    }
+    Segment segment = segments.peekLast();
+    if (segment.buffer.remaining() < recordSize) {
+      segment = createSegment(segment.index + 1);
+    }
+
+    final CRC32 checksum = new CRC32();
+    checksum.update(payload.duplicate());
+    final MappedByteBuffer buffer = segment.buffer;
+    buffer.put(type);
+    buffer.putInt(payload.capacity());
+    buffer.putInt((int) checksum.getValue());
+    buffer.put(payload.duplicate());
+    unforced.add(segment);
+    return segment;
+  }
+
+  private Segment createSegment(final long index) throws IOException {
+    final Path file = directory.resolve(String.format("journal-%020d.log", index));
+    try (final FileChannel channel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      final Segment segment =
+          new Segment(index, file, channel.map(MapMode.READ_WRITE, 0, segmentSize));
+      segments.add(segment);
+      return segment;
+    }
+  }
+
+  private void deleteAcknowledgedSegments() {
+    while (segments.size() > 1 && segments.peekFirst().unacknowledged == 0) {
+      final Segment segment = segments.removeFirst();
+      unforced.remove(segment);
+      try {
+        Files.deleteIfExists(segment.file);
+        LOG.debug("Deleted journal segment {}", segment.file);
+      } catch (final IOException e) {
+        LOG.warn("Failed to delete journal segment {}", segment.file, e);
+      }
+    }
+  }
+
+  private synchronized void recover() throws IOException {
+    Files.createDirectories(directory);
+    final List<Path> existingSegments = existingSegments();
+
+    final Map<Long, Entry> entries = new LinkedHashMap<>();
+    long lastIndex = -1;
+    for (final Path file : existingSegments) {
+      lastIndex = segmentIndex(file);
+      readSegment(file, entries);
+    }
+
+    // entries are recorded again, and forced, before the segments holding them are deleted
+    createSegment(lastIndex + 1);
+    final List<Entry> rerecorded = new ArrayList<>();
+    for (final Entry entry : entries.values()) {
+      final long sequence = nextSequence++;
+      final Segment segment =
+          write(TRANSACTION, transactionPayload(sequence, entry.method, entry.path, entry.params));
+      segment.unacknowledged++;
+      unacknowledged.put(sequence, segment);
+      rerecorded.add(new Entry(sequence, entry.method, entry.path, entry.params));
+    }
+    unforced.forEach(Segment::force);
+    unforced.clear();
+    for (final Path file : existingSegments) {
+      Files.delete(file);
+    }
+
+    recovered = List.copyOf(rerecorded);
+    if (!recovered.isEmpty()) {
+      LOG.info("Recovered {} unacknowledged transactions from journal", recovered.size());
+    }
+  }
+
+  private List<Path> existingSegments() throws IOException {
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(file -> SEGMENT_NAME.matcher(file.getFileName().toString()).matches())
+          .sorted()
+          .collect(Collectors.toList());
+    }
+  }
+
+  private void readSegment(final Path file, final Map<Long, Entry> entries) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+    try {
+      while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+        final byte type = buffer.get();
+        final int length = buffer.getInt();
+        final int expectedChecksum = buffer.getInt();
+        if ((type != TRANSACTION && type != ACKNOWLEDGEMENT)
+            || length < Long.BYTES
+            || length > buffer.remaining()) {
+          break;
+        }
+        final ByteBuffer payload = buffer.slice().limit(length);
+        buffer.position(buffer.position() + length);
+        final CRC32 checksum = new CRC32();
+        checksum.update(payload.duplicate());
+        if ((int) checksum.getValue() != expectedChecksum) {
+          LOG.warn("Discarding corrupt record at the end of journal segment {}", file);
+          break;
+        }
+
+        final long sequence = payload.getLong();
+        nextSequence = Math.max(nextSequence, sequence + 1);
+        if (type == TRANSACTION) {
+          entries.put(
+              sequence,
+              new Entry(sequence, readString(payload), readString(payload), readString(payload)));
+        } else {
+          entries.remove(sequence);
+        }
+      }
+    } catch (final BufferUnderflowException | IllegalArgumentException e) {
+      LOG.warn("Discarding malformed record at the end of journal segment {}", file);
+    }
+  }
+
+  private static long segmentIndex(final Path file) {
+    final Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+    if (!matcher.matches()) {
+      throw new IllegalStateException("Not a journal segment: " + file);
+    }
+    return Long.parseLong(matcher.group(1));
+  }
+
+  private static ByteBuffer transactionPayload(
+      final long sequence, final String method, final String path, final String params) {
+    final byte[] methodBytes = method.getBytes(UTF_8);
+    final byte[] pathBytes = path.getBytes(UTF_8);
+    final byte[] paramsBytes = params.getBytes(UTF_8);
+    final ByteBuffer payload =
+        ByteBuffer.allocate(
+            Long.BYTES
+                + 3 * Integer.BYTES
+                + methodBytes.length
+                + pathBytes.length
+                + paramsBytes.length);
+    payload.putLong(sequence);
+    payload.putInt(methodBytes.length).put(methodBytes);
+    payload.putInt(pathBytes.length).put(pathBytes);
+    payload.putInt(paramsBytes.length).put(paramsBytes);
+    return payload.flip();
+  }
+
+  private static String readString(final ByteBuffer payload) {
+    final byte[] bytes = new byte[payload.getInt()];
+    payload.get(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  private static class Segment {
+
+    private final long index;
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private int unacknowledged = 0;
+
+    Segment(final long index, final Path file, final MappedByteBuffer buffer) {
+      this.index = index;
+      this.file = file;
+      this.buffer = buffer;
+    }
+
+    void force() {
+      try {
+        buffer.force();
+      } catch (final UncheckedIOException e) {
+        LOG.error("Failed to force journal segment {} to disk", file, e);
+        throw e;
+      }
+    }
+  }
+
+  private static class PendingAppend {
+
+    private final long sequence;
+    private final Promise<Void> committed;
+
+    PendingAppend(final long sequence, final Promise<Void> committed) {
+      this.sequence = sequence;
+      this.committed = committed;
+    }
+  }
+
+  /** A transaction recorded in the journal. */
+  public static class Entry {
+
+    private final long sequence;
+    private final String method;
+    private final String path;
+    private final String params;
+
+    public Entry(final long sequence, final String method, final String path, final String params) {
+      this.sequence = sequence;
+      this.method = method;
+      this.path = path;
+      this.params = params;
+    }
+
+    public long getSequence() {
+      return sequence;
+    }
+
+    public String getMethod() {
+      return method;
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    public String getParams() {
+      return params;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("sequence", sequence)
+          .add("method", method)
+          .add("path", path)
+          .toString();
+    }
+  }
+}
@@ -13,18 +13,23 @@
 package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
 
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError.INTERNAL_ERROR;
 import static tech.pegasys.ethsigner.core.util.ResponseCodeSelector.jsonRPCErrorCode;
 
 import tech.pegasys.ethsigner.core.http.HeaderHelpers;
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
+import tech.pegasys.ethsigner.core.http.RequestDeadlineExceededException;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
 import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
 import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitter;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.Transaction;
 import tech.pegasys.ethsigner.core.signing.TransactionSerializer;
 
+import java.util.Map.Entry;
 import java.util.Optional;
 
 import io.vertx.core.MultiMap;
@@ -35,83 +40,149 @@ import io.vertx.ext.web.RoutingContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-public class TransactionTransmitter extends ForwardedMessageResponder {
+public class TransactionTransmitter implements DownstreamResponseHandler {
 
   private static final Logger LOG = LogManager.getLogger();
 
   private final TransactionSerializer transactionSerializer;
   private final Transaction transaction;
   private final VertxRequestTransmitterFactory transmitterFactory;
+  private final RoutingContext context;
+  private final ForwardedMessageResponder responder;
+  private final Optional<TransactionJournal> journal;
+  private Optional<Long> journalEntry = Optional.empty();
 
   public TransactionTransmitter(
       final Transaction transaction,
       final TransactionSerializer transactionSerializer,
       final VertxRequestTransmitterFactory transmitterFactory,
-      final RoutingContext context) {
-    super(context);
+      final RoutingContext context,
+      final ForwardedMessageResponder responder,
+      final Optional<TransactionJournal> journal) {
+    this.context = context;
+    this.responder = responder;
     this.transmitterFactory = transmitterFactory;
     this.transaction = transaction;
     this.transactionSerializer = transactionSerializer;
+    this.journal = journal;
   }
 
   public void send() {
-    final Optional<JsonRpcRequest> request = createSignedTransactionPayload();
+    // a retry, or a transaction queued behind others of its sender, may start too late
+    if (isDeadlineExpired()) {
+      handleFailure(new RequestDeadlineExceededException());
+      return;
+    }
+    transaction
+        .updateFieldsIfRequired()
+        .onSuccess(ignored -> signAndSend())
+        .onFailure(
+            thrown -> {
+              LOG.warn("Unable to get nonce (or enclave lookup id) from web3j provider.", thrown);
+              handleFailure(thrown);
+            });
+  }
 
-    if (request.isEmpty()) {
+  private void signAndSend() {
+    if (isDeadlineExpired()) {
+      handleFailure(new RequestDeadlineExceededException());
       return;
     }
+    // signing may involve a remote signer, so must not be performed on the event loop
+    context
+        .vertx()
+        .<String>executeBlocking(
+            promise -> promise.complete(transactionSerializer.serialize(transaction)), false)
+        .onSuccess(this::sendSignedTransaction)
+        .onFailure(this::handleSigningFailure);
+  }
 
+  protected void sendSignedTransaction(final String signedTransactionHexString) {
+    final JsonRpcRequest request =
+        transaction.jsonRpcRequest(signedTransactionHexString, transaction.getId());
+    final String body;
     try {
-      sendTransaction(Json.encode(request.get()));
+      body = Json.encode(request);
     } catch (final IllegalArgumentException | EncodeException e) {
       LOG.debug("JSON Serialization failed for: {}", request, e);
-      context().fail(BAD_REQUEST.code(), new JsonRpcException(INTERNAL_ERROR));
+      failUnsent(BAD_REQUEST.code(), new JsonRpcException(INTERNAL_ERROR));
+      return;
     }
-  }
 
-  private Optional<JsonRpcRequest> createSignedTransactionPayload() {
-
-    if (!populateNonce()) {
-      return Optional.empty();
+    if (journal.isEmpty()) {
+      sendTransaction(body);
+      return;
     }
+    // the transaction must be recoverable before the downstream node can act on it
+    journal
+        .get()
+        .append(request.getMethod(), context.request().path(), Json.encode(request.getParams()))
+        .onSuccess(
+            sequence -> {
+              journalEntry = Optional.of(sequence);
+              sendTransaction(body);
+            })
+        .onFailure(
+            error -> {
+              LOG.error("Failed to record transaction {} in journal", transaction.getId(), error);
+              failUnsent(INTERNAL_SERVER_ERROR.code(), new JsonRpcException(INTERNAL_ERROR));
+            });
+  }
 
-    final String signedTransactionHexString;
-    try {
-      signedTransactionHexString = transactionSerializer.serialize(transaction);
-    } catch (final IllegalArgumentException e) {
-      LOG.debug("Failed to encode transaction: {}", transaction, e);
+  private void handleSigningFailure(final Throwable thrown) {
+    LOG.debug("Failed to encode transaction: {}", transaction, thrown);
+    if (thrown instanceof IllegalArgumentException) {
       final JsonRpcException jsonRpcException = new JsonRpcException(JsonRpcError.INVALID_PARAMS);
-      context().fail(jsonRPCErrorCode(jsonRpcException), jsonRpcException);
-      return Optional.empty();
-    } catch (final Throwable thrown) {
-      LOG.debug("Failed to encode transaction: {}", transaction, thrown);
-      context().fail(BAD_REQUEST.code(), new JsonRpcException(INTERNAL_ERROR));
-      return Optional.empty();
+      failUnsent(jsonRPCErrorCode(jsonRpcException), jsonRpcException);
+    } else {
+      failUnsent(BAD_REQUEST.code(), new JsonRpcException(INTERNAL_ERROR));
     }
+  }
 
-    return Optional.of(transaction.jsonRpcRequest(signedTransactionHexString, transaction.getId()));
+  /**
+   * Fails the request before the transaction has been sent to the downstream node, so any nonce
+   * allocated to it has not been used.
+   */
+  protected void failUnsent(final int statusCode, final JsonRpcException error) {
+    responder.fail(statusCode, error);
   }
 
-  private boolean populateNonce() {
-    try {
-      transaction.updateFieldsIfRequired();
-      return true;
-    } catch (final RuntimeException e) {
-      // It is currently recognised that the underlying nonce provider will wrap a transmission
-      // exception in a Runtime exception.
-      LOG.warn("Unable to get nonce (or enclave lookup id) from web3j provider.", e);
-      this.handleFailure(e.getCause());
-    } catch (final Throwable thrown) {
-      LOG.debug("Failed to encode/serialize transaction: {}", transaction, thrown);
-      context().fail(BAD_REQUEST.code(), new JsonRpcException(INTERNAL_ERROR));
-    }
-    return false;
+  @Override
+  public void handleResponse(
+      final Iterable<Entry<String, String>> headers, final int statusCode, final String body) {
+    acknowledgeJournalEntry();
+    responder.handleResponse(headers, statusCode, body);
+  }
+
+  @Override
+  public void handleFailure(final Throwable thrown) {
+    responder.handleFailure(thrown);
+  }
+
+  /** Records that the downstream node has responded to the last transaction sent. */
+  protected void acknowledgeJournalEntry() {
+    journal.ifPresent(entries -> journalEntry.ifPresent(entries::acknowledge));
+    journalEntry = Optional.empty();
+  }
+
+  protected ForwardedMessageResponder responder() {
+    return responder;
+  }
+
+  /** @return the deadline which bounds the submission of the signed transaction */
+  protected Optional<RequestDeadline> submissionDeadline() {
+    return RequestDeadline.of(context);
+  }
+
+  private boolean isDeadlineExpired() {
+    return RequestDeadline.of(context).map(RequestDeadline::isExpired).orElse(false);
   }
 
   protected void sendTransaction(final String bodyContent) {
-    final HttpServerRequest request = context().request();
+    final HttpServerRequest request = context.request();
     final MultiMap headersToSend = HeaderHelpers.createHeaders(request.headers());
-    final VertxRequestTransmitter transmitter = transmitterFactory.create(this);
+    final VertxRequestTransmitter transmitter =
+        transmitterFactory.create(this, submissionDeadline());
     transmitter.sendRequest(request.method(), headersToSend, request.path(), bodyContent);
   }
 }
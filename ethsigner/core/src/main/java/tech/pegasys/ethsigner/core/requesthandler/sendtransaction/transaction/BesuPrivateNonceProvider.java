@@ -17,6 +17,7 @@ import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.NonceProvider;
 
 import java.math.BigInteger;
 
+import io.vertx.core.Future;
 import org.web3j.utils.Base64String;
 
 public class BesuPrivateNonceProvider implements NonceProvider {
@@ -35,7 +36,7 @@ public class BesuPrivateNonceProvider implements NonceProvider {
   }
 
   @Override
-  public BigInteger getNonce() {
+  public Future<BigInteger> getNonce() {
     final JsonRpcRequest request = generateRequest();
     return vertxNonceRequestTransmitter.requestNonce(request);
   }
@@ -18,6 +18,7 @@ import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.NonceProvider;
 import java.math.BigInteger;
 import java.util.List;
 
+import io.vertx.core.Future;
 import org.web3j.utils.Base64String;
 
 public class EeaPrivateNonceProvider implements NonceProvider {
@@ -39,7 +40,7 @@ public class EeaPrivateNonceProvider implements NonceProvider {
   }
 
   @Override
-  public BigInteger getNonce() {
+  public Future<BigInteger> getNonce() {
     final JsonRpcRequest request = generateRequest();
     return vertxNonceRequestTransmitter.requestNonce(request);
   }
@@ -26,6 +26,7 @@ import java.math.BigInteger;
 import java.util.List;
 
 import com.google.common.base.MoreObjects;
+import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 import org.jetbrains.annotations.NotNull;
 import org.web3j.crypto.RawTransaction;
@@ -83,19 +84,22 @@ public class GoQuorumPrivateTransaction extends EthTransaction {
   }
 
   @Override
-  public void updateFieldsIfRequired() {
-
-    if (!this.isNonceUserSpecified()) {
-      this.nonce = nonceProvider.getNonce();
+  public Future<Void> updateFieldsIfRequired() {
+    if (this.transactionJsonParameters.data().isEmpty()) {
+      return Future.failedFuture(
+          new IllegalArgumentException("GoQuorum private transaction must contain data"));
     }
+    final String data = this.transactionJsonParameters.data().get();
+
+    final Future<Void> nonceUpdated =
+        this.isNonceUserSpecified()
+            ? Future.succeededFuture()
+            : nonceProvider.getNonce().onSuccess(nonce -> this.nonce = nonce).mapEmpty();
 
-    final String data =
-        this.transactionJsonParameters
-            .data()
-            .orElseThrow(
-                () ->
-                    new IllegalArgumentException("GoQuorum private transaction must contain data"));
-    this.lookupId = enclaveLookupIdProvider.getLookupId(data);
+    return nonceUpdated
+        .compose(ignored -> enclaveLookupIdProvider.getLookupId(data))
+        .onSuccess(lookupId -> this.lookupId = lookupId)
+        .mapEmpty();
   }
 
   @Override
@@ -21,6 +21,7 @@ import java.math.BigInteger;
 import java.util.List;
 
 import com.google.common.base.MoreObjects;
+import io.vertx.core.Future;
 import org.jetbrains.annotations.NotNull;
 import org.web3j.crypto.Sign.SignatureData;
 import org.web3j.protocol.eea.crypto.PrivateTransactionEncoder;
@@ -48,10 +49,11 @@ public abstract class PrivateTransaction implements Transaction {
   }
 
   @Override
-  public void updateFieldsIfRequired() {
-    if (!this.isNonceUserSpecified()) {
-      this.nonce = nonceProvider.getNonce();
+  public Future<Void> updateFieldsIfRequired() {
+    if (this.isNonceUserSpecified()) {
+      return Future.succeededFuture();
     }
+    return nonceProvider.getNonce().onSuccess(nonce -> this.nonce = nonce).mapEmpty();
   }
 
   @Override
@@ -21,6 +21,7 @@ import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 
+import io.vertx.core.Future;
 import org.jetbrains.annotations.NotNull;
 import org.web3j.crypto.Sign.SignatureData;
 
@@ -31,7 +32,7 @@ public interface Transaction {
   String DEFAULT_DATA = "";
   String DEFAULT_TO = "";
 
-  void updateFieldsIfRequired();
+  Future<Void> updateFieldsIfRequired();
 
   byte[] rlpEncode(SignatureData signatureData);
 
@@ -12,16 +12,18 @@
  */
 package tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction;
 
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
 import tech.pegasys.ethsigner.core.jsonrpc.EeaSendTransactionJsonParameters;
 import tech.pegasys.ethsigner.core.jsonrpc.EthSendTransactionJsonParameters;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonDecoder;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.NonceManager;
 import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.NonceProvider;
 
-import java.util.List;
+import java.util.Optional;
 
-import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,20 +34,34 @@ public class TransactionFactory {
 
   private final VertxRequestTransmitterFactory transmitterFactory;
   private final JsonDecoder decoder;
+  private final Optional<NonceManager> nonceManager;
+  private final EthSignerMetrics metrics;
 
   public TransactionFactory(
       final JsonDecoder decoder, final VertxRequestTransmitterFactory transmitterFactory) {
+    this(decoder, transmitterFactory, Optional.empty(), EthSignerMetrics.noop());
+  }
+
+  public TransactionFactory(
+      final JsonDecoder decoder,
+      final VertxRequestTransmitterFactory transmitterFactory,
+      final Optional<NonceManager> nonceManager,
+      final EthSignerMetrics metrics) {
     this.transmitterFactory = transmitterFactory;
     this.decoder = decoder;
+    this.nonceManager = nonceManager;
+    this.metrics = metrics;
   }
 
   public Transaction createTransaction(final RoutingContext context, final JsonRpcRequest request) {
     final String method = request.getMethod().toLowerCase();
+    final Optional<RequestDeadline> deadline = RequestDeadline.of(context);
     final VertxNonceRequestTransmitter nonceRequestTransmitter =
-        new VertxNonceRequestTransmitter(context.request().headers(), decoder, transmitterFactory);
+        new VertxNonceRequestTransmitter(
+            context.request().headers(), deadline, decoder, transmitterFactory, metrics);
     final VertxStoreRawRequestTransmitter storeRawRequestTransmitter =
         new VertxStoreRawRequestTransmitter(
-            context.request().headers(), decoder, transmitterFactory);
+            context.request().headers(), deadline, decoder, transmitterFactory);
 
     switch (method) {
       case "eth_sendtransaction":
@@ -64,8 +80,12 @@ public class TransactionFactory {
     final EthSendTransactionJsonParameters params =
         fromRpcRequestToJsonParam(EthSendTransactionJsonParameters.class, request);
 
-    final NonceProvider ethNonceProvider =
+    final NonceProvider downstreamNonceProvider =
         new EthNonceProvider(params.sender(), nonceRequestTransmitter);
+    final NonceProvider ethNonceProvider =
+        nonceManager
+            .map(manager -> manager.nonceProvider(params.sender(), downstreamNonceProvider))
+            .orElse(downstreamNonceProvider);
     final StoreRawEnclaveLookupIdProvider lookupIdProvider =
         new StoreRawEnclaveLookupIdProvider(storeRawRequestTransmitter);
 
@@ -105,25 +125,6 @@ public class TransactionFactory {
   }
 
   public <T> T fromRpcRequestToJsonParam(final Class<T> type, final JsonRpcRequest request) {
-
-    final Object object;
-    final Object params = request.getParams();
-    if (params instanceof List) {
-      @SuppressWarnings("unchecked")
-      final List<Object> paramList = (List<Object>) params;
-      if (paramList.size() != 1) {
-        throw new IllegalArgumentException(
-            type.getSimpleName()
-                + " json Rpc requires a single parameter, request contained "
-                + paramList.size());
-      }
-      object = paramList.get(0);
-    } else {
-      object = params;
-    }
-
-    final JsonObject receivedParams = JsonObject.mapFrom(object);
-
-    return decoder.decodeValue(receivedParams.toBuffer(), type);
+    return decoder.decodeParams(request, type);
   }
 }
@@ -15,28 +15,32 @@ package tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction;
 import static tech.pegasys.ethsigner.core.jsonrpc.RpcUtil.determineErrorCode;
 
 import tech.pegasys.ethsigner.core.http.HeaderHelpers;
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonDecoder;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
 import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
 import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcSuccessResponse;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
 import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
 import tech.pegasys.ethsigner.core.requesthandler.RequestTransmitter;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
 
 import java.math.BigInteger;
 import java.util.Map.Entry;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.Json;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer.TimingContext;
 import org.web3j.exceptions.MessageDecodingException;
 import org.web3j.utils.Numeric;
 
@@ -45,38 +49,40 @@ public class VertxNonceRequestTransmitter {
   private static final Logger LOG = LogManager.getLogger();
 
   private final MultiMap headers;
+  private final Optional<RequestDeadline> deadline;
   private final JsonDecoder decoder;
   private final VertxRequestTransmitterFactory transmitterFactory;
+  private final EthSignerMetrics metrics;
 
   private static final AtomicInteger nextId = new AtomicInteger(0);
 
   public VertxNonceRequestTransmitter(
       final MultiMap headers,
+      final Optional<RequestDeadline> deadline,
       final JsonDecoder decoder,
-      final VertxRequestTransmitterFactory transmitterFactory) {
+      final VertxRequestTransmitterFactory transmitterFactory,
+      final EthSignerMetrics metrics) {
     this.headers = headers;
+    this.deadline = deadline;
     this.transmitterFactory = transmitterFactory;
     this.decoder = decoder;
+    this.metrics = metrics;
   }
 
-  public BigInteger requestNonce(final JsonRpcRequest request) {
-    final CompletableFuture<BigInteger> result = getNonceFromWeb3Provider(request, headers);
-
-    try {
-      final BigInteger nonce = result.get();
-      LOG.debug("Supplying nonce of {}", nonce.toString());
-      return nonce;
-    } catch (final InterruptedException | ExecutionException e) {
-      throw new RuntimeException("Failed to retrieve nonce:" + e.getMessage(), e.getCause());
-    }
+  public Future<BigInteger> requestNonce(final JsonRpcRequest request) {
+    final TimingContext timer = metrics.startNonceFetch();
+    return getNonceFromWeb3Provider(request, headers)
+        .onComplete(result -> timer.stopTimer())
+        .onSuccess(nonce -> LOG.debug("Supplying nonce of {}", nonce.toString()));
   }
 
-  private CompletableFuture<BigInteger> getNonceFromWeb3Provider(
+  private Future<BigInteger> getNonceFromWeb3Provider(
       final JsonRpcRequest requestBody, final MultiMap headers) {
 
-    final CompletableFuture<BigInteger> result = new CompletableFuture<>();
+    final Promise<BigInteger> result = Promise.promise();
 
-    final RequestTransmitter transmitter = transmitterFactory.create(new ResponseCallback(result));
+    final RequestTransmitter transmitter =
+        transmitterFactory.create(new ResponseCallback(result), deadline);
 
     final MultiMap headersToSend = HeaderHelpers.createHeaders(headers);
     requestBody.setId(new JsonRpcRequestId(nextId.getAndIncrement()));
@@ -84,10 +90,10 @@ public class VertxNonceRequestTransmitter {
 
     LOG.info("Transmitted {}", Json.encode(requestBody));
 
-    return result;
+    return result.future();
   }
 
-  private void handleResponse(final String body, final CompletableFuture<BigInteger> result) {
+  private void handleResponse(final String body, final Promise<BigInteger> result) {
     try {
 
       final JsonRpcSuccessResponse response =
@@ -98,20 +104,20 @@ public class VertxNonceRequestTransmitter {
           result.complete(Numeric.decodeQuantity((String) suppliedNonce));
           return;
         } catch (final MessageDecodingException ex) {
-          result.completeExceptionally(ex);
+          result.fail(ex);
           return;
         }
       }
-      result.completeExceptionally(new RuntimeException("Web3 did not provide a string response."));
+      result.fail(new RuntimeException("Web3 did not provide a string response."));
     } catch (final DecodeException e) {
-      result.completeExceptionally(new JsonRpcException(determineErrorCode(body, decoder)));
+      result.fail(new JsonRpcException(determineErrorCode(body, decoder)));
     }
   }
 
   private class ResponseCallback implements DownstreamResponseHandler {
-    private final CompletableFuture<BigInteger> result;
+    private final Promise<BigInteger> result;
 
-    private ResponseCallback(final CompletableFuture<BigInteger> result) {
+    private ResponseCallback(final Promise<BigInteger> result) {
       this.result = result;
     }
 
@@ -123,7 +129,7 @@ public class VertxNonceRequestTransmitter {
 
     @Override
     public void handleFailure(Throwable t) {
-      result.completeExceptionally(t);
+      result.fail(t);
     }
   }
 }
@@ -15,6 +15,7 @@ package tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction;
 import static tech.pegasys.ethsigner.core.jsonrpc.RpcUtil.determineErrorCode;
 
 import tech.pegasys.ethsigner.core.http.HeaderHelpers;
+import tech.pegasys.ethsigner.core.http.RequestDeadline;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonDecoder;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
 import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
@@ -25,11 +26,12 @@ import tech.pegasys.ethsigner.core.requesthandler.RequestTransmitter;
 import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitterFactory;
 
 import java.util.Map.Entry;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.DecodeException;
@@ -43,6 +45,7 @@ public class VertxStoreRawRequestTransmitter {
   private static final Logger LOG = LogManager.getLogger();
 
   private final MultiMap headers;
+  private final Optional<RequestDeadline> deadline;
   private final JsonDecoder decoder;
   private final VertxRequestTransmitterFactory transmitterFactory;
 
@@ -50,32 +53,27 @@ public class VertxStoreRawRequestTransmitter {
 
   public VertxStoreRawRequestTransmitter(
       final MultiMap headers,
+      final Optional<RequestDeadline> deadline,
       final JsonDecoder decoder,
       final VertxRequestTransmitterFactory transmitterFactory) {
     this.headers = headers;
+    this.deadline = deadline;
     this.transmitterFactory = transmitterFactory;
     this.decoder = decoder;
   }
 
-  public String storeRaw(final JsonRpcRequest request) {
-    final CompletableFuture<String> result = storePayloadAndGetLookupId(request, headers);
-
-    try {
-      final String lookupId = result.get();
-      LOG.debug("storeRaw response of {}", lookupId);
-      return lookupId;
-    } catch (final InterruptedException | ExecutionException e) {
-      throw new RuntimeException(
-          "Failed to retrieve storeRaw result (enclave lookup id):" + e.getMessage(), e.getCause());
-    }
+  public Future<String> storeRaw(final JsonRpcRequest request) {
+    return storePayloadAndGetLookupId(request, headers)
+        .onSuccess(lookupId -> LOG.debug("storeRaw response of {}", lookupId));
   }
 
-  private CompletableFuture<String> storePayloadAndGetLookupId(
+  private Future<String> storePayloadAndGetLookupId(
       final JsonRpcRequest requestBody, final MultiMap headers) {
 
-    final CompletableFuture<String> result = new CompletableFuture<>();
+    final Promise<String> result = Promise.promise();
 
-    final RequestTransmitter transmitter = transmitterFactory.create(new ResponseCallback(result));
+    final RequestTransmitter transmitter =
+        transmitterFactory.create(new ResponseCallback(result), deadline);
 
     final MultiMap headersToSend = HeaderHelpers.createHeaders(headers);
     requestBody.setId(new JsonRpcRequestId(nextId.getAndIncrement()));
@@ -83,10 +81,10 @@ public class VertxStoreRawRequestTransmitter {
 
     LOG.info("Transmitted {}", Json.encode(requestBody));
 
-    return result;
+    return result.future();
   }
 
-  private void handleResponse(final String body, final CompletableFuture<String> result) {
+  private void handleResponse(final String body, final Promise<String> result) {
     try {
 
       final JsonRpcSuccessResponse response =
@@ -97,20 +95,20 @@ public class VertxStoreRawRequestTransmitter {
           result.complete((String) suppliedLookupId);
           return;
         } catch (final MessageDecodingException ex) {
-          result.completeExceptionally(ex);
+          result.fail(ex);
           return;
         }
       }
-      result.completeExceptionally(new RuntimeException("Web3 did not provide a string response."));
+      result.fail(new RuntimeException("Web3 did not provide a string response."));
     } catch (final DecodeException e) {
-      result.completeExceptionally(new JsonRpcException(determineErrorCode(body, decoder)));
+      result.fail(new JsonRpcException(determineErrorCode(body, decoder)));
     }
   }
 
   private class ResponseCallback implements DownstreamResponseHandler {
-    private final CompletableFuture<String> result;
+    private final Promise<String> result;
 
-    private ResponseCallback(final CompletableFuture<String> result) {
+    private ResponseCallback(final Promise<String> result) {
       this.result = result;
     }
 
@@ -122,7 +120,7 @@ public class VertxStoreRawRequestTransmitter {
 
     @Override
     public void handleFailure(Throwable t) {
-      result.completeExceptionally(t);
+      result.fail(t);
     }
   }
 }
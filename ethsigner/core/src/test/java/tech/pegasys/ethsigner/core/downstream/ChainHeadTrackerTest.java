@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ChainHeadTrackerTest {
+
+  private final ChainHeadTracker tracker =
+      new ChainHeadTracker(
+          mock(Vertx.class),
+          mock(HttpClient.class),
+          DownstreamLoadBalancer.singleEndpoint("127.0.0.1", 8545),
+          "/",
+          Duration.ofSeconds(1),
+          Duration.ofSeconds(1));
+  private final List<ChainHead> published = new ArrayList<>();
+
+  @BeforeEach
+  public void setup() {
+    tracker.addListener(published::add);
+  }
+
+  @Test
+  public void higherBlockIsPublished() {
+    tracker.update(new ChainHead(10, "0xa"));
+    tracker.update(new ChainHead(11, "0xb"));
+
+    assertThat(published).containsExactly(new ChainHead(10, "0xa"), new ChainHead(11, "0xb"));
+    assertThat(tracker.getHead()).contains(new ChainHead(11, "0xb"));
+  }
+
+  @Test
+  public void sameBlockIsNotPublishedAgain() {
+    tracker.update(new ChainHead(10, "0xa"));
+    tracker.update(new ChainHead(10, "0xa"));
+
+    assertThat(published).containsExactly(new ChainHead(10, "0xa"));
+  }
+
+  @Test
+  public void lowerBlockIsIgnored() {
+    tracker.update(new ChainHead(11, "0xb"));
+    tracker.update(new ChainHead(10, "0xa"));
+
+    assertThat(published).containsExactly(new ChainHead(11, "0xb"));
+    assertThat(tracker.getHead()).contains(new ChainHead(11, "0xb"));
+  }
+
+  @Test
+  public void reorganisationAtSameHeightIsPublished() {
+    tracker.update(new ChainHead(10, "0xa"));
+    tracker.update(new ChainHead(10, "0xc"));
+
+    assertThat(published).containsExactly(new ChainHead(10, "0xa"), new ChainHead(10, "0xc"));
+  }
+}
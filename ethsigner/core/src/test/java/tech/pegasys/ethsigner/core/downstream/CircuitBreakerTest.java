@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.ethsigner.core.downstream.CircuitBreaker.Call;
+import tech.pegasys.ethsigner.core.downstream.CircuitBreaker.State;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class CircuitBreakerTest {
+
+  private static final int WINDOW = 4;
+  private static final Duration OPEN_DURATION = Duration.ofSeconds(5);
+
+  private final AtomicLong now = new AtomicLong();
+  private final CircuitBreaker breaker =
+      new CircuitBreaker(0.5, WINDOW, OPEN_DURATION, EthSignerMetrics.noop(), now::get);
+
+  private Call acquire() {
+    return breaker.tryAcquire().orElseThrow();
+  }
+
+  private void open() {
+    for (int i = 0; i < WINDOW; i++) {
+      acquire().failed();
+    }
+  }
+
+  @Test
+  public void remainsClosedWhileFailureRateIsBelowThreshold() {
+    acquire().failed();
+    for (int i = 0; i < WINDOW * 2; i++) {
+      acquire().succeeded();
+    }
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  public void opensWhenFailureRateReachesThreshold() {
+    acquire().succeeded();
+    acquire().failed();
+    acquire().succeeded();
+    acquire().failed();
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.tryAcquire()).isEmpty();
+  }
+
+  @Test
+  public void unavailableResponsesAreFailures() {
+    acquire().responded(200);
+    acquire().responded(503);
+    acquire().responded(500);
+    acquire().responded(502);
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  public void onlyMostRecentRequestsAreConsidered() {
+    acquire().failed();
+    for (int i = 0; i < WINDOW; i++) {
+      acquire().succeeded();
+    }
+    acquire().failed();
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  public void admitsLimitedTrialsOnceOpenDurationHasPassed() {
+    open();
+
+    now.addAndGet(OPEN_DURATION.toNanos());
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(breaker.tryAcquire()).isPresent();
+    }
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(breaker.tryAcquire()).isEmpty();
+  }
+
+  @Test
+  public void closesWhenAllTrialsSucceed() {
+    open();
+    now.addAndGet(OPEN_DURATION.toNanos());
+
+    acquire().succeeded();
+    acquire().succeeded();
+    acquire().succeeded();
+
+    assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  public void reopensWhenATrialFails() {
+    open();
+    now.addAndGet(OPEN_DURATION.toNanos());
+
+    acquire().succeeded();
+    acquire().failed();
+
+    assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    assertThat(breaker.tryAcquire()).isEmpty();
+  }
+
+  @Test
+  public void cancelledTrialIsAvailableToAnotherRequest() {
+    open();
+    now.addAndGet(OPEN_DURATION.toNanos());
+    final Call cancelled = acquire();
+    acquire();
+    acquire();
+
+    cancelled.cancelled();
+
+    assertThat(breaker.tryAcquire()).isPresent();
+  }
+
+  @Test
+  public void outcomesOfRequestsStartedBeforeOpeningAreIgnored() {
+    final Call late = acquire();
+    open();
+    now.addAndGet(OPEN_DURATION.toNanos());
+    acquire().succeeded();
+
+    late.failed();
+
+    assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.ethsigner.core.downstream.ConcurrencyLimiter.Permit;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimiterTest {
+
+  private static final int INITIAL_LIMIT = 20;
+
+  private final AtomicLong now = new AtomicLong();
+  private final List<Permit> permits = new ArrayList<>();
+  private final List<Throwable> rejections = new ArrayList<>();
+
+  private ConcurrencyLimiter limiter(final int maxQueued) {
+    return new ConcurrencyLimiter(
+        100, maxQueued, Duration.ofSeconds(1), EthSignerMetrics.noop(), now::get);
+  }
+
+  private void submit(final ConcurrencyLimiter limiter, final int requests) {
+    for (int i = 0; i < requests; i++) {
+      limiter.submit(permits::add, rejections::add, () -> false);
+    }
+  }
+
+  @Test
+  public void requestsBeyondLimitAreQueuedUntilAPermitIsReleased() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT + 1);
+
+    assertThat(permits).hasSize(INITIAL_LIMIT);
+    assertThat(limiter.getQueued()).isEqualTo(1);
+
+    permits.get(0).succeeded();
+
+    assertThat(permits).hasSize(INITIAL_LIMIT + 1);
+    assertThat(limiter.getQueued()).isZero();
+    assertThat(rejections).isEmpty();
+  }
+
+  @Test
+  public void requestsAreRejectedWhenQueueIsFull() {
+    final ConcurrencyLimiter limiter = limiter(1);
+    submit(limiter, INITIAL_LIMIT + 2);
+
+    assertThat(permits).hasSize(INITIAL_LIMIT);
+    assertThat(rejections).hasSize(1);
+    assertThat(rejections.get(0)).isInstanceOf(DownstreamOverloadedException.class);
+  }
+
+  @Test
+  public void requestsQueuedTooLongAreRejected() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT + 1);
+
+    now.addAndGet(Duration.ofSeconds(2).toNanos());
+    permits.get(0).succeeded();
+
+    assertThat(permits).hasSize(INITIAL_LIMIT);
+    assertThat(rejections).hasSize(1);
+    assertThat(limiter.getQueued()).isZero();
+  }
+
+  @Test
+  public void requestsQueuedTooLongAreRejectedWithoutAPermitBeingReleased() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT + 1);
+
+    limiter.sweepQueue();
+    assertThat(rejections).isEmpty();
+
+    now.addAndGet(Duration.ofSeconds(2).toNanos());
+    limiter.sweepQueue();
+
+    assertThat(rejections).hasSize(1);
+    assertThat(limiter.getQueued()).isZero();
+  }
+
+  @Test
+  public void abandonedRequestsAreDroppedFromTheQueue() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT);
+    final AtomicBoolean abandoned = new AtomicBoolean(false);
+    limiter.submit(permits::add, rejections::add, abandoned::get);
+    submit(limiter, 1);
+
+    abandoned.set(true);
+    limiter.sweepQueue();
+
+    assertThat(rejections).hasSize(1);
+    assertThat(limiter.getQueued()).isEqualTo(1);
+  }
+
+  @Test
+  public void abandonedRequestIsNotStartedWhenAPermitIsReleased() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT);
+    limiter.submit(permits::add, rejections::add, () -> true);
+    submit(limiter, 1);
+
+    permits.get(0).succeeded();
+
+    assertThat(rejections).hasSize(1);
+    assertThat(permits).hasSize(INITIAL_LIMIT + 1);
+    assertThat(limiter.getQueued()).isZero();
+  }
+
+  @Test
+  public void droppedRequestLowersLimit() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, 1);
+
+    permits.get(0).dropped();
+
+    assertThat(limiter.getLimit()).isEqualTo(18);
+  }
+
+  @Test
+  public void cancelledPermitIsReleasedWithoutChangingLimit() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT + 1);
+
+    permits.get(0).cancelled();
+
+    assertThat(permits).hasSize(INITIAL_LIMIT + 1);
+    assertThat(limiter.getLimit()).isEqualTo(INITIAL_LIMIT);
+  }
+
+  @Test
+  public void permitIsReleasedOnlyOnce() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT + 2);
+
+    permits.get(0).succeeded();
+    permits.get(0).succeeded();
+
+    assertThat(permits).hasSize(INITIAL_LIMIT + 1);
+    assertThat(limiter.getQueued()).isEqualTo(1);
+  }
+
+  @Test
+  public void limitRisesWhileLatencyStaysAtItsMinimum() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT);
+
+    now.addAndGet(Duration.ofMillis(10).toNanos());
+    permits.get(INITIAL_LIMIT - 1).succeeded();
+
+    assertThat(limiter.getLimit()).isGreaterThan(INITIAL_LIMIT);
+  }
+
+  @Test
+  public void limitFallsWhenLatencyRisesAboveItsMinimum() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, INITIAL_LIMIT);
+    now.addAndGet(Duration.ofMillis(10).toNanos());
+    permits.get(INITIAL_LIMIT - 1).succeeded();
+    final int raisedLimit = limiter.getLimit();
+
+    now.addAndGet(Duration.ofMillis(90).toNanos());
+    permits.get(INITIAL_LIMIT - 2).succeeded();
+
+    assertThat(limiter.getLimit()).isLessThan(raisedLimit);
+  }
+
+  @Test
+  public void limitIsUnchangedByRequestsWhenNodeWasNotBusy() {
+    final ConcurrencyLimiter limiter = limiter(10);
+    submit(limiter, 1);
+
+    now.addAndGet(Duration.ofMillis(10).toNanos());
+    permits.get(0).succeeded();
+
+    assertThat(limiter.getLimit()).isEqualTo(INITIAL_LIMIT);
+  }
+}
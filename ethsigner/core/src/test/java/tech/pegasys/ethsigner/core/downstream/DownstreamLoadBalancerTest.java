@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.ConnectException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+public class DownstreamLoadBalancerTest {
+
+  private final DownstreamEndpoint first = new DownstreamEndpoint("10.0.0.1", 8545);
+  private final DownstreamEndpoint second = new DownstreamEndpoint("10.0.0.2", 8545);
+  private final DownstreamLoadBalancer loadBalancer =
+      new DownstreamLoadBalancer(List.of(first, second));
+
+  @Test
+  public void idleEndpointsAreSelectedInTurn() {
+    final Set<DownstreamEndpoint> selected = new HashSet<>();
+    selected.add(loadBalancer.select());
+    selected.add(loadBalancer.select());
+
+    assertThat(selected).containsExactlyInAnyOrder(first, second);
+  }
+
+  @Test
+  public void endpointWithFewerOutstandingRequestsIsSelected() {
+    first.startRequest();
+    first.startRequest();
+    second.startRequest();
+
+    assertThat(loadBalancer.select()).isEqualTo(second);
+  }
+
+  @Test
+  public void endpointWithLowerLatencyIsSelected() {
+    first.recordLatency(50_000_000);
+    second.recordLatency(5_000_000);
+
+    assertThat(loadBalancer.select()).isEqualTo(second);
+    assertThat(loadBalancer.select()).isEqualTo(second);
+  }
+
+  @Test
+  public void latencyAverageFollowsRecentSamples() {
+    first.recordLatency(10_000_000);
+    first.recordLatency(20_000_000);
+
+    assertThat(first.getLatencyEwmaNanos()).isBetween(10_000_000d, 20_000_000d);
+  }
+
+  @Test
+  public void completingRequestReleasesItOnce() {
+    final DownstreamEndpoint.Request request = first.startRequest();
+    assertThat(first.getOutstandingRequests()).isEqualTo(1);
+
+    request.succeeded();
+    request.succeeded();
+
+    assertThat(first.getOutstandingRequests()).isZero();
+  }
+
+  @Test
+  public void connectionFailureMarksEndpointUnhealthyAndSuccessRestoresIt() {
+    first.startRequest().failed(new ConnectException("Connection refused"));
+    assertThat(first.isHealthy()).isFalse();
+
+    first.startRequest().succeeded();
+    assertThat(first.isHealthy()).isTrue();
+  }
+
+  @Test
+  public void serverErrorDoesNotRestoreHealthOrRecordLatency() {
+    first.markUnhealthy();
+
+    first.startRequest().responded(503);
+
+    assertThat(first.isHealthy()).isFalse();
+    assertThat(first.getLatencyEwmaNanos()).isZero();
+    assertThat(first.getOutstandingRequests()).isZero();
+  }
+
+  @Test
+  public void failedOrCancelledRequestDoesNotRecordLatency() {
+    first.startRequest().failed(new ConnectException("Connection refused"));
+    first.startRequest().cancelled();
+
+    assertThat(first.getLatencyEwmaNanos()).isZero();
+  }
+
+  @Test
+  public void successfulResponseRestoresHealth() {
+    first.markUnhealthy();
+
+    first.startRequest().responded(200);
+
+    assertThat(first.isHealthy()).isTrue();
+  }
+
+  @Test
+  public void timeoutDoesNotMarkEndpointUnhealthy() {
+    first.startRequest().failed(new TimeoutException());
+
+    assertThat(first.isHealthy()).isTrue();
+  }
+
+  @Test
+  public void unhealthyEndpointIsNotSelected() {
+    first.markUnhealthy();
+
+    assertThat(loadBalancer.select()).isEqualTo(second);
+    assertThat(loadBalancer.select()).isEqualTo(second);
+  }
+
+  @Test
+  public void endpointIsSelectedWhenNoneAreHealthy() {
+    first.markUnhealthy();
+    second.markUnhealthy();
+
+    assertThat(loadBalancer.select()).isIn(first, second);
+  }
+
+  @Test
+  public void failoverSelectsHealthyEndpointNotYetAttempted() {
+    assertThat(loadBalancer.failover(List.of(first))).contains(second);
+  }
+
+  @Test
+  public void failoverIsEmptyWhenAllHealthyEndpointsWereAttempted() {
+    first.markUnhealthy();
+
+    assertThat(loadBalancer.failover(List.of(second))).isEmpty();
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.downstream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class HedgePolicyTest {
+
+  private static final String METHOD = "eth_call";
+
+  private HedgePolicy policy(final double percentile, final double budgetRatio) {
+    return new HedgePolicy(Set.of(METHOD), percentile, budgetRatio, EthSignerMetrics.noop());
+  }
+
+  private void recordLatencies(final HedgePolicy policy, final int count) {
+    // latencies of 1 to count milliseconds
+    for (int i = 1; i <= count; i++) {
+      policy.recordLatency(METHOD, Duration.ofMillis(i).toNanos());
+    }
+  }
+
+  @Test
+  public void onlyAllowedMethodsAreHedged() {
+    final HedgePolicy policy = policy(95, 0.1);
+
+    assertThat(policy.isHedged(METHOD)).isTrue();
+    assertThat(policy.isHedged("eth_sendRawTransaction")).isFalse();
+  }
+
+  @Test
+  public void requestsAreNotHedgedUntilEnoughLatenciesAreKnown() {
+    final HedgePolicy policy = policy(95, 0.1);
+    recordLatencies(policy, HedgePolicy.MIN_LATENCY_SAMPLES - 1);
+
+    assertThat(policy.requestStarted(METHOD)).isEmpty();
+  }
+
+  @Test
+  public void delayIsSeededWithPercentileOfFirstLatencies() {
+    final HedgePolicy policy = policy(95, 0.1);
+    recordLatencies(policy, HedgePolicy.MIN_LATENCY_SAMPLES);
+
+    assertThat(policy.requestStarted(METHOD)).contains(Duration.ofMillis(19));
+  }
+
+  @Test
+  public void delaySettlesAtPercentileOfLatencies() {
+    final HedgePolicy policy = policy(95, 0.1);
+    final Random random = new Random(1);
+    for (int round = 0; round < 20; round++) {
+      final List<Integer> latencies = new ArrayList<>();
+      for (int i = 1; i <= 100; i++) {
+        latencies.add(i);
+      }
+      Collections.shuffle(latencies, random);
+      latencies.forEach(
+          millis -> policy.recordLatency(METHOD, Duration.ofMillis(millis).toNanos()));
+    }
+
+    assertThat(policy.requestStarted(METHOD).orElseThrow().toMillis()).isCloseTo(95, within(5L));
+  }
+
+  @Test
+  public void delayFollowsRecentLatencies() {
+    final HedgePolicy policy = policy(50, 0.1);
+    recordLatencies(policy, 200);
+    for (int i = 0; i < 500; i++) {
+      policy.recordLatency(METHOD, Duration.ofMillis(5).toNanos());
+    }
+
+    assertThat(policy.requestStarted(METHOD).orElseThrow().toMillis()).isCloseTo(5, within(1L));
+  }
+
+  @Test
+  public void hedgesAreRefusedOnceBudgetIsSpent() {
+    final HedgePolicy policy = policy(95, 0.5);
+    for (int i = 0; i < HedgePolicy.BUDGET_CAPACITY; i++) {
+      assertThat(policy.tryHedge(METHOD)).isTrue();
+    }
+
+    assertThat(policy.tryHedge(METHOD)).isFalse();
+
+    policy.requestStarted(METHOD);
+    assertThat(policy.tryHedge(METHOD)).isFalse();
+    policy.requestStarted(METHOD);
+    assertThat(policy.tryHedge(METHOD)).isTrue();
+  }
+
+  @Test
+  public void budgetNeverExceedsCapacity() {
+    final HedgePolicy policy = policy(95, 1);
+    for (int i = 0; i < 10; i++) {
+      policy.requestStarted(METHOD);
+    }
+
+    assertThat(policy.getBudget()).isEqualTo(HedgePolicy.BUDGET_CAPACITY);
+  }
+
+  @Test
+  public void percentileMustBeWithinRange() {
+    assertThatThrownBy(() -> policy(0, 0.1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> policy(101, 0.1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class RateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong();
+
+  @Test
+  public void permitsBurstOfOneSecondOfRateThenRejects() {
+    final RateLimiter limiter = new RateLimiter(5, now::get);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(limiter.tryAcquire("client")).isTrue();
+    }
+    assertThat(limiter.tryAcquire("client")).isFalse();
+  }
+
+  @Test
+  public void permitsAreReplenishedAtRate() {
+    final RateLimiter limiter = new RateLimiter(5, now::get);
+    for (int i = 0; i < 5; i++) {
+      limiter.tryAcquire("client");
+    }
+
+    now.addAndGet(Duration.ofMillis(200).toNanos());
+    assertThat(limiter.tryAcquire("client")).isTrue();
+    assertThat(limiter.tryAcquire("client")).isFalse();
+  }
+
+  @Test
+  public void permitsDoNotAccumulateBeyondOneSecond() {
+    final RateLimiter limiter = new RateLimiter(2, now::get);
+
+    now.addAndGet(Duration.ofMinutes(1).toNanos());
+    assertThat(limiter.tryAcquire("client")).isTrue();
+    assertThat(limiter.tryAcquire("client")).isTrue();
+    assertThat(limiter.tryAcquire("client")).isFalse();
+  }
+
+  @Test
+  public void rateBelowOnePerSecondPermitsSingleRequest() {
+    final RateLimiter limiter = new RateLimiter(0.5, now::get);
+
+    assertThat(limiter.tryAcquire("client")).isTrue();
+    assertThat(limiter.tryAcquire("client")).isFalse();
+
+    now.addAndGet(Duration.ofSeconds(2).toNanos());
+    assertThat(limiter.tryAcquire("client")).isTrue();
+  }
+
+  @Test
+  public void keysAreLimitedIndependently() {
+    final RateLimiter limiter = new RateLimiter(1, now::get);
+
+    assertThat(limiter.tryAcquire("first")).isTrue();
+    assertThat(limiter.tryAcquire("first")).isFalse();
+    assertThat(limiter.tryAcquire("second")).isTrue();
+  }
+}
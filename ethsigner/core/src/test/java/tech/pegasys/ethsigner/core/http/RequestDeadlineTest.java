@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.http.HttpServerRequest;
+import org.junit.jupiter.api.Test;
+
+public class RequestDeadlineTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+  private final AtomicLong now = new AtomicLong();
+  private final HttpServerRequest request = mock(HttpServerRequest.class);
+
+  private RequestDeadline deadlineWithHeader(final String header) {
+    when(request.getHeader(RequestDeadline.REQUEST_TIMEOUT_HEADER)).thenReturn(header);
+    return RequestDeadline.forRequest(request, TIMEOUT, now::get);
+  }
+
+  @Test
+  public void remainingTimeCountsDownToExpiry() {
+    final RequestDeadline deadline = deadlineWithHeader(null);
+    assertThat(deadline.remaining()).isEqualTo(TIMEOUT);
+    assertThat(deadline.isExpired()).isFalse();
+
+    now.addAndGet(Duration.ofSeconds(4).toNanos());
+    assertThat(deadline.remaining()).isEqualTo(Duration.ofSeconds(6));
+
+    now.addAndGet(Duration.ofSeconds(7).toNanos());
+    assertThat(deadline.remaining()).isEqualTo(Duration.ZERO);
+    assertThat(deadline.isExpired()).isTrue();
+  }
+
+  @Test
+  public void downstreamTimeoutIsBoundedByRemainingTime() {
+    final RequestDeadline deadline = deadlineWithHeader(null);
+    final Duration downstreamTimeout = Duration.ofSeconds(5);
+    assertThat(deadline.bound(downstreamTimeout)).isEqualTo(downstreamTimeout);
+
+    now.addAndGet(Duration.ofSeconds(8).toNanos());
+    assertThat(deadline.bound(downstreamTimeout)).isEqualTo(Duration.ofSeconds(2));
+  }
+
+  @Test
+  public void clientMayShortenDeadline() {
+    assertThat(deadlineWithHeader("2500").remaining()).isEqualTo(Duration.ofMillis(2500));
+  }
+
+  @Test
+  public void clientCannotExtendDeadline() {
+    assertThat(deadlineWithHeader("60000").remaining()).isEqualTo(TIMEOUT);
+  }
+
+  @Test
+  public void invalidClientTimeoutIsIgnored() {
+    assertThat(deadlineWithHeader("soon").remaining()).isEqualTo(TIMEOUT);
+    assertThat(deadlineWithHeader("0").remaining()).isEqualTo(TIMEOUT);
+    assertThat(deadlineWithHeader("-5").remaining()).isEqualTo(TIMEOUT);
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.jsonrpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.ethsigner.core.EthSigner;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import org.junit.jupiter.api.Test;
+
+public class JsonDecoderTest {
+
+  private static final String TRANSACTION =
+      "{\"from\":\"0xb60e8dd61c5d32be8058bb8eb970870f07233155\","
+          + "\"to\":\"0xd46e8dd67c5d32be8058bb8eb970870f07244567\","
+          + "\"nonce\":\"0x1\",\"gas\":\"0x76c0\"}";
+
+  private final JsonDecoder decoder = EthSigner.createJsonDecoder();
+
+  @Test
+  public void paramInArrayIsBoundToType() {
+    final JsonRpcRequest request = decodeRequest("[" + TRANSACTION + "]");
+
+    final EthSendTransactionJsonParameters params =
+        decoder.decodeParams(request, EthSendTransactionJsonParameters.class);
+
+    assertThat(params.sender()).isEqualTo("0xb60e8dd61c5d32be8058bb8eb970870f07233155");
+    assertThat(params.receiver()).contains("0xd46e8dd67c5d32be8058bb8eb970870f07244567");
+    assertThat(params.nonce()).contains(BigInteger.ONE);
+    assertThat(params.gas()).contains(BigInteger.valueOf(0x76c0));
+  }
+
+  @Test
+  public void paramNotInArrayIsBoundToType() {
+    final JsonRpcRequest request = decodeRequest(TRANSACTION);
+
+    final EthSendTransactionJsonParameters params =
+        decoder.decodeParams(request, EthSendTransactionJsonParameters.class);
+
+    assertThat(params.sender()).isEqualTo("0xb60e8dd61c5d32be8058bb8eb970870f07233155");
+  }
+
+  @Test
+  public void decodedParamsAreStillAvailableAsObjectTree() {
+    final JsonRpcRequest request = decodeRequest("[" + TRANSACTION + "]");
+
+    assertThat(request.getParams()).isInstanceOf(List.class);
+    final Object param = ((List<?>) request.getParams()).get(0);
+    assertThat(param).isInstanceOf(Map.class);
+    assertThat(((Map<?, ?>) param).get("from"))
+        .isEqualTo("0xb60e8dd61c5d32be8058bb8eb970870f07233155");
+    assertThat(((Map<?, ?>) param).get("nonce")).isEqualTo("0x1");
+  }
+
+  @Test
+  public void paramsOfRequestCreatedInCodeAreBoundToType() {
+    final JsonRpcRequest request = new JsonRpcRequest("2.0", "eth_sendTransaction");
+    request.setParams(List.of(Map.of("from", "0xb60e8dd61c5d32be8058bb8eb970870f07233155")));
+
+    final EthSendTransactionJsonParameters params =
+        decoder.decodeParams(request, EthSendTransactionJsonParameters.class);
+
+    assertThat(params.sender()).isEqualTo("0xb60e8dd61c5d32be8058bb8eb970870f07233155");
+    assertThat(params.receiver()).isEmpty();
+  }
+
+  @Test
+  public void moreThanOneParamIsRejected() {
+    final JsonRpcRequest request = decodeRequest("[" + TRANSACTION + "," + TRANSACTION + "]");
+
+    assertThatThrownBy(() -> decoder.decodeParams(request, EthSendTransactionJsonParameters.class))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("request contained 2");
+  }
+
+  @Test
+  public void emptyParamsAreRejected() {
+    final JsonRpcRequest request = decodeRequest("[]");
+
+    assertThatThrownBy(() -> decoder.decodeParams(request, EthSendTransactionJsonParameters.class))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("request contained 0");
+  }
+
+  @Test
+  public void nullParamIsRejected() {
+    final JsonRpcRequest request = decodeRequest("[null]");
+
+    assertThatThrownBy(() -> decoder.decodeParams(request, EthSendTransactionJsonParameters.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void missingCreatorPropertyIsRejected() {
+    final JsonRpcRequest request = decodeRequest("[{\"to\":\"0x1\"}]");
+
+    assertThatThrownBy(() -> decoder.decodeParams(request, EthSendTransactionJsonParameters.class))
+        .isInstanceOf(DecodeException.class);
+  }
+
+  @Test
+  public void envelopeIsReadWithoutParams() {
+    final Buffer body =
+        Buffer.buffer(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"eth_getBalance\","
+                + "\"params\":[{\"a\":[1,2]},\"latest\"],\"id\":\"abc\"}");
+
+    assertThat(decoder.decodeEnvelope(body))
+        .hasValueSatisfying(
+            request -> {
+              assertThat(request.getVersion()).isEqualTo("2.0");
+              assertThat(request.getMethod()).isEqualTo("eth_getBalance");
+              assertThat(request.getId()).isEqualTo(new JsonRpcRequestId("abc"));
+              assertThat(request.getParams()).isNull();
+            });
+  }
+
+  @Test
+  public void envelopeIsNotReadFromMalformedBody() {
+    assertThat(
+            decoder.decodeEnvelope(
+                Buffer.buffer("{\"jsonrpc\":\"2.0\",\"method\":\"eth_chainId\",\"params\":[")))
+        .isEmpty();
+  }
+
+  @Test
+  public void envelopeIsNotReadWhenFullDecodeWouldFail() {
+    assertThat(decoder.decodeEnvelope(Buffer.buffer("{\"jsonrpc\":\"2.0\",\"id\":1}"))).isEmpty();
+    assertThat(decoder.decodeEnvelope(Buffer.buffer("{\"method\":\"eth_chainId\",\"id\":1}")))
+        .isEmpty();
+    assertThat(
+            decoder.decodeEnvelope(
+                Buffer.buffer(
+                    "{\"jsonrpc\":\"2.0\",\"method\":\"eth_chainId\",\"id\":{}}")))
+        .isEmpty();
+    assertThat(
+            decoder.decodeEnvelope(
+                Buffer.buffer("{\"jsonrpc\":\"2.0\",\"method\":\"eth_chainId\",\"unknown\":1}")))
+        .isEmpty();
+  }
+
+  private JsonRpcRequest decodeRequest(final String params) {
+    return decoder.decodeValue(
+        Buffer.buffer(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"eth_sendTransaction\",\"params\":"
+                + params
+                + ",\"id\":1}"),
+        JsonRpcRequest.class);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics.RequestTimer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+import com.google.common.collect.ImmutableSet;
+import org.hyperledger.besu.metrics.Observation;
+import org.hyperledger.besu.metrics.prometheus.PrometheusMetricsSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EthSignerMetricsTest {
+
+  private PrometheusMetricsSystem metricsSystem;
+  private EthSignerMetrics metrics;
+
+  @BeforeEach
+  void setup() {
+    metricsSystem =
+        new PrometheusMetricsSystem(
+            ImmutableSet.of(EthSignerMetricCategory.HTTP, EthSignerMetricCategory.SIGNING), true);
+    metrics = new EthSignerMetrics(metricsSystem);
+  }
+
+  @Test
+  void inFlightRequestsAreTrackedUntilCompleted() {
+    final RequestTimer first = metrics.startRequest("eth_call");
+    final RequestTimer second = metrics.startRequest("eth_sendTransaction");
+    assertThat(observedValue("jsonrpc_requests_in_flight", List.of())).contains(2.0);
+
+    first.complete(200);
+    second.complete(400);
+    assertThat(observedValue("jsonrpc_requests_in_flight", List.of())).contains(0.0);
+  }
+
+  @Test
+  void completedRequestsAreCountedByMethodAndStatus() {
+    metrics.startRequest("eth_call").complete(200);
+    metrics.startRequest("eth_call").complete(200);
+    metrics.startRequest("eth_call").complete(400);
+
+    assertThat(observedValue("jsonrpc_requests", List.of("eth_call", "200"))).contains(2.0);
+    assertThat(observedValue("jsonrpc_requests", List.of("eth_call", "400"))).contains(1.0);
+  }
+
+  @Test
+  void downstreamFailuresAreCountedByReason() {
+    metrics.startDownstreamRequest().failed(new TimeoutException());
+    metrics.startDownstreamRequest().succeeded();
+
+    assertThat(observedValue("downstream_request_errors", List.of("timeout"))).contains(1.0);
+    assertThat(observedValue("downstream_requests_in_flight", List.of())).contains(0.0);
+  }
+
+  private Optional<Double> observedValue(final String name, final List<String> labels) {
+    return metricsSystem
+        .streamObservations()
+        // counters may be reported with the Prometheus "_total" suffix
+        .filter(
+            observation ->
+                observation.getMetricName().equals(name)
+                    || observation.getMetricName().equals(name + "_total"))
+        .filter(observation -> observation.getLabels().equals(labels))
+        .map(Observation::getValue)
+        .map(value -> ((Number) value).doubleValue())
+        .findFirst();
+  }
+}
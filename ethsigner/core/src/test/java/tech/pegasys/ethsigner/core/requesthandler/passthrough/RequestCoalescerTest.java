@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.google.common.net.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RequestCoalescerTest {
+
+  private static final String BLOCK_NUMBER_RESPONSE =
+      "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x10\"}";
+
+  private final List<DownstreamResponseHandler> downstreamRequests = new ArrayList<>();
+  private final RequestCoalescer coalescer =
+      new RequestCoalescer(
+          (context, request, responseHandler) -> downstreamRequests.add(responseHandler),
+          Set.of("eth_blockNumber", "eth_getBalance"),
+          EthSignerMetrics.noop());
+
+  private final RoutingContext context = mock(RoutingContext.class);
+  private final HttpServerRequest httpRequest = mock(HttpServerRequest.class);
+
+  @BeforeEach
+  public void setup() {
+    when(context.request()).thenReturn(httpRequest);
+    when(httpRequest.path()).thenReturn("/");
+  }
+
+  @Test
+  public void identicalRequestsShareOneDownstreamRequest() {
+    final DownstreamResponseHandler first = mock(DownstreamResponseHandler.class);
+    final DownstreamResponseHandler second = mock(DownstreamResponseHandler.class);
+    coalescer.forward(context, request("eth_blockNumber", 1, List.of()), first);
+    coalescer.forward(context, request("eth_blockNumber", "b", List.of()), second);
+    assertThat(downstreamRequests).hasSize(1);
+
+    final List<Entry<String, String>> headers =
+        List.of(
+            Map.entry(HttpHeaders.CONTENT_LENGTH, "41"),
+            Map.entry(HttpHeaders.CONTENT_TYPE, "application/json"));
+    downstreamRequests.get(0).handleResponse(headers, 200, BLOCK_NUMBER_RESPONSE);
+
+    verify(first).handleResponse(headers, 200, BLOCK_NUMBER_RESPONSE);
+    verify(second)
+        .handleResponse(
+            List.of(Map.entry(HttpHeaders.CONTENT_TYPE, "application/json")),
+            200,
+            "{\"jsonrpc\":\"2.0\",\"id\":\"b\",\"result\":\"0x10\"}");
+  }
+
+  @Test
+  public void requestsWithDifferentParamsAreNotCoalesced() {
+    coalescer.forward(context, request("eth_getBalance", 1, List.of("0x01", "latest")), handler());
+    coalescer.forward(context, request("eth_getBalance", 2, List.of("0x02", "latest")), handler());
+
+    assertThat(downstreamRequests).hasSize(2);
+  }
+
+  @Test
+  public void requestsWithDifferentAuthorizationAreNotCoalesced() {
+    final RoutingContext otherContext = mock(RoutingContext.class);
+    final HttpServerRequest otherRequest = mock(HttpServerRequest.class);
+    when(otherContext.request()).thenReturn(otherRequest);
+    when(otherRequest.path()).thenReturn("/");
+    when(otherRequest.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer other");
+
+    coalescer.forward(context, request("eth_blockNumber", 1, List.of()), handler());
+    coalescer.forward(otherContext, request("eth_blockNumber", 2, List.of()), handler());
+
+    assertThat(downstreamRequests).hasSize(2);
+  }
+
+  @Test
+  public void methodWhichIsNotCoalescedIsAlwaysForwarded() {
+    coalescer.forward(context, request("eth_getLogs", 1, List.of()), handler());
+    coalescer.forward(context, request("eth_getLogs", 2, List.of()), handler());
+
+    assertThat(downstreamRequests).hasSize(2);
+  }
+
+  @Test
+  public void failureIsReportedToEveryWaitingRequest() {
+    final DownstreamResponseHandler first = mock(DownstreamResponseHandler.class);
+    final DownstreamResponseHandler second = mock(DownstreamResponseHandler.class);
+    coalescer.forward(context, request("eth_blockNumber", 1, List.of()), first);
+    coalescer.forward(context, request("eth_blockNumber", 2, List.of()), second);
+
+    final ConnectException failure = new ConnectException("refused");
+    downstreamRequests.get(0).handleFailure(failure);
+
+    verify(first).handleFailure(failure);
+    verify(second).handleFailure(failure);
+  }
+
+  @Test
+  public void requestAfterCompletionIsForwardedAgain() {
+    coalescer.forward(context, request("eth_blockNumber", 1, List.of()), handler());
+    downstreamRequests.get(0).handleResponse(List.of(), 200, BLOCK_NUMBER_RESPONSE);
+    // a late failure of the completed request must not affect the next one
+    downstreamRequests.get(0).handleFailure(new ConnectException("closed"));
+
+    final DownstreamResponseHandler next = mock(DownstreamResponseHandler.class);
+    coalescer.forward(context, request("eth_blockNumber", 2, List.of()), next);
+    coalescer.forward(context, request("eth_blockNumber", 3, List.of()), handler());
+
+    assertThat(downstreamRequests).hasSize(2);
+    downstreamRequests.get(1).handleResponse(List.of(), 200, BLOCK_NUMBER_RESPONSE);
+    verify(next).handleResponse(List.of(), 200, BLOCK_NUMBER_RESPONSE);
+  }
+
+  private static DownstreamResponseHandler handler() {
+    return mock(DownstreamResponseHandler.class);
+  }
+
+  private static JsonRpcRequest request(final String method, final Object id, final Object params) {
+    final JsonRpcRequest request = new JsonRpcRequest("2.0", method);
+    request.setId(new JsonRpcRequestId(id));
+    request.setParams(params);
+    return request;
+  }
+}
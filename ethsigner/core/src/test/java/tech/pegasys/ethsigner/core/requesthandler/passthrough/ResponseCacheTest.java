@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.passthrough;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+import com.google.common.net.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+public class ResponseCacheTest {
+
+  private static final String BLOCK_HASH =
+      "0x3f07a9c83155594c000642e7d60e8a8a00038d03e9849171a05ed0e2d47acbb3";
+
+  private static final String ADDRESS = "0xb60e8dd61c5d32be8058bb8eb970870f07233155";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final HttpServerRequest httpRequest = httpRequest("/", null);
+  private final ResponseCache cache = newCache(false);
+  private final ResponseCache headFollowingCache = newCache(true);
+
+  @Test
+  public void cachedResultIsServedWithIdOfRequest() {
+    put(cache, request("eth_chainId", 1, null), response(1, "\"0x9\""));
+
+    final JsonObject cached =
+        new JsonObject(
+            cache.getResponse(httpRequest, request("eth_chainId", "abc", null)).orElseThrow());
+
+    assertThat(cached.getValue("id")).isEqualTo("abc");
+    assertThat(cached.getValue("result")).isEqualTo("0x9");
+    assertThat(cached.getValue("jsonrpc")).isEqualTo("2.0");
+  }
+
+  @Test
+  public void requestWithDifferentParamsIsNotAnswered() {
+    put(
+        cache,
+        request("eth_getBlockByHash", 1, List.of(BLOCK_HASH, false)),
+        response(1, "{\"number\":\"0x1b4\"}"));
+
+    assertThat(
+            cache.getResponse(
+                httpRequest, request("eth_getBlockByHash", 2, List.of(BLOCK_HASH, true))))
+        .isEmpty();
+    assertThat(
+            cache.getResponse(
+                httpRequest, request("eth_getBlockByHash", 2, List.of(BLOCK_HASH, false))))
+        .isPresent();
+  }
+
+  @Test
+  public void nullResultIsNotCached() {
+    final JsonRpcRequest request = request("eth_getTransactionReceipt", 1, List.of(BLOCK_HASH));
+    put(cache, request, response(1, "null"));
+
+    assertThat(cache.getResponse(httpRequest, request)).isEmpty();
+  }
+
+  @Test
+  public void errorResponseIsNotCached() {
+    final JsonRpcRequest request = request("net_version", 1, List.of());
+    put(
+        cache,
+        request,
+        "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32000,\"message\":\"unavailable\"}}");
+
+    assertThat(cache.getResponse(httpRequest, request)).isEmpty();
+  }
+
+  @Test
+  public void methodWithoutPolicyIsNotCached() {
+    final JsonRpcRequest request = request("eth_gasPrice", 1, List.of());
+    put(cache, request, response(1, "\"0x10\""));
+
+    assertThat(cache.getResponse(httpRequest, request)).isEmpty();
+  }
+
+  @Test
+  public void resultExpiresAfterTimeToLive() {
+    final JsonRpcRequest request = request("web3_clientVersion", 1, List.of());
+    put(cache, request, response(1, "\"besu/v23\""));
+
+    nanos.addAndGet(Duration.ofSeconds(59).toNanos());
+    assertThat(cache.getResponse(httpRequest, request)).isPresent();
+
+    nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+    assertThat(cache.getResponse(httpRequest, request)).isEmpty();
+  }
+
+  @Test
+  public void resultWithoutTimeToLiveDoesNotExpire() {
+    final JsonRpcRequest request = request("eth_chainId", 1, List.of());
+    put(cache, request, response(1, "\"0x9\""));
+
+    nanos.addAndGet(Duration.ofDays(365).toNanos());
+    assertThat(cache.getResponse(httpRequest, request)).isPresent();
+  }
+
+  @Test
+  public void requestWithDifferentPathOrAuthorizationIsNotAnswered() {
+    final JsonRpcRequest request = request("eth_chainId", 1, null);
+    put(cache, request, response(1, "\"0x9\""));
+
+    assertThat(cache.getResponse(httpRequest("/other", null), request)).isEmpty();
+    assertThat(cache.getResponse(httpRequest("/", "Bearer token"), request)).isEmpty();
+    assertThat(cache.getResponse(httpRequest("/", null), request)).isPresent();
+  }
+
+  @Test
+  public void codeIsCachedOnlyAtBlockNamedByHashWhenHeadIsNotFollowed() {
+    final JsonRpcRequest atLatest = request("eth_getCode", 1, List.of(ADDRESS, "latest"));
+    final JsonRpcRequest atNumber = request("eth_getCode", 1, List.of(ADDRESS, "0x1b4"));
+    final JsonRpcRequest atNumberObject =
+        request("eth_getCode", 1, List.of(ADDRESS, Map.of("blockNumber", "0x1b4")));
+    final JsonRpcRequest atHash =
+        request("eth_getCode", 1, List.of(ADDRESS, Map.of("blockHash", BLOCK_HASH)));
+    final JsonRpcRequest withoutBlock = request("eth_getCode", 1, List.of(ADDRESS));
+    List.of(atLatest, atNumber, atNumberObject, atHash, withoutBlock)
+        .forEach(request -> put(cache, request, response(1, "\"0x6080\"")));
+
+    assertThat(cache.getResponse(httpRequest, atLatest)).isEmpty();
+    assertThat(cache.getResponse(httpRequest, withoutBlock)).isEmpty();
+    assertThat(cache.getResponse(httpRequest, atNumber)).isEmpty();
+    assertThat(cache.getResponse(httpRequest, atNumberObject)).isEmpty();
+    assertThat(cache.getResponse(httpRequest, atHash)).isPresent();
+  }
+
+  @Test
+  public void resultAtNumberedBlockIsCachedUntilNewHeadUntilBlockIsFinal() {
+    final JsonRpcRequest atRecent = request("eth_getBalance", 1, List.of(ADDRESS, "0x1b4"));
+    final JsonRpcRequest atFinal = request("eth_getBalance", 1, List.of(ADDRESS, "0x100"));
+    headFollowingCache.newHead(0x1b4 + 1);
+    put(headFollowingCache, atRecent, response(1, "\"0x10\""));
+    put(headFollowingCache, atFinal, response(1, "\"0x20\""));
+    assertThat(headFollowingCache.getResponse(httpRequest, atRecent)).isPresent();
+
+    headFollowingCache.newHead(0x1b4 + 2);
+
+    assertThat(headFollowingCache.getResponse(httpRequest, atRecent)).isEmpty();
+    assertThat(headFollowingCache.getResponse(httpRequest, atFinal)).isPresent();
+  }
+
+  @Test
+  public void timesToLiveAdjustDefaultPolicies() {
+    final Map<String, CachePolicy> policies =
+        ResponseCache.policies(
+            Map.of(
+                "eth_chainId", Duration.ZERO,
+                "eth_getBlockByHash", Duration.ofSeconds(30),
+                "eth_gasPrice", Duration.ofSeconds(2)));
+
+    assertThat(policies).doesNotContainKey("eth_chainId");
+    assertThat(policies.get("eth_getBlockByHash").getTimeToLive())
+        .contains(Duration.ofSeconds(30));
+    assertThat(policies.get("eth_gasPrice").getTimeToLive()).contains(Duration.ofSeconds(2));
+    assertThat(policies.get("net_version").getTimeToLive()).isEmpty();
+  }
+
+  @Test
+  public void headDependentResultIsNotCachedWhenHeadIsNotFollowed() {
+    final JsonRpcRequest request = request("eth_getBalance", 1, List.of(ADDRESS, "latest"));
+    put(cache, request, response(1, "\"0x10\""));
+
+    assertThat(cache.getResponse(httpRequest, request)).isEmpty();
+  }
+
+  @Test
+  public void headDependentResultIsCachedUntilNewHead() {
+    final JsonRpcRequest atLatest = request("eth_getBalance", 1, List.of(ADDRESS, "latest"));
+    final JsonRpcRequest atHash =
+        request("eth_getBalance", 1, List.of(ADDRESS, Map.of("blockHash", BLOCK_HASH)));
+    put(headFollowingCache, atLatest, response(1, "\"0x10\""));
+    put(headFollowingCache, atHash, response(1, "\"0x20\""));
+    assertThat(headFollowingCache.getResponse(httpRequest, atLatest)).isPresent();
+
+    headFollowingCache.newHead(1);
+
+    assertThat(headFollowingCache.getResponse(httpRequest, atLatest)).isEmpty();
+    assertThat(headFollowingCache.getResponse(httpRequest, atHash)).isPresent();
+  }
+
+  @Test
+  public void resultForwardedBeforeNewHeadIsNotCached() {
+    final JsonRpcRequest request = request("eth_blockNumber", 1, List.of());
+    final long forwardedAtHead = headFollowingCache.getHead();
+    headFollowingCache.newHead(1);
+
+    headFollowingCache.putResponse(httpRequest, request, response(1, "\"0x1b4\""), forwardedAtHead);
+
+    assertThat(headFollowingCache.getResponse(httpRequest, request)).isEmpty();
+  }
+
+  @Test
+  public void nullResultIsCachedUntilNewHead() {
+    final JsonRpcRequest request = request("eth_getTransactionReceipt", 1, List.of(BLOCK_HASH));
+    put(headFollowingCache, request, response(1, "null"));
+    assertThat(headFollowingCache.getResponse(httpRequest, request)).isPresent();
+
+    headFollowingCache.newHead(1);
+
+    assertThat(headFollowingCache.getResponse(httpRequest, request)).isEmpty();
+  }
+
+  @Test
+  public void headDependentResultExpiresWhenHeadStalls() {
+    final JsonRpcRequest request = request("eth_blockNumber", 1, List.of());
+    put(headFollowingCache, request, response(1, "\"0x1b4\""));
+
+    nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+    assertThat(headFollowingCache.getResponse(httpRequest, request)).isEmpty();
+  }
+
+  private ResponseCache newCache(final boolean headFollowed) {
+    return new ResponseCache(
+        ResponseCache.policies(Map.of()),
+        100,
+        headFollowed,
+        EthSignerMetrics.noop(),
+        new Ticker() {
+          @Override
+          public long read() {
+            return nanos.get();
+          }
+        });
+  }
+
+  private void put(
+      final ResponseCache target, final JsonRpcRequest request, final String response) {
+    target.putResponse(httpRequest, request, response, target.getHead());
+  }
+
+  private static HttpServerRequest httpRequest(final String path, final String authorization) {
+    final HttpServerRequest httpRequest = mock(HttpServerRequest.class);
+    when(httpRequest.path()).thenReturn(path);
+    when(httpRequest.getHeader(HttpHeaders.AUTHORIZATION)).thenReturn(authorization);
+    return httpRequest;
+  }
+
+  private static JsonRpcRequest request(final String method, final Object id, final Object params) {
+    final JsonRpcRequest request = new JsonRpcRequest("2.0", method);
+    request.setId(new JsonRpcRequestId(id));
+    request.setParams(params);
+    return request;
+  }
+
+  private static String response(final int id, final String result) {
+    return "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":" + result + "}";
+  }
+}
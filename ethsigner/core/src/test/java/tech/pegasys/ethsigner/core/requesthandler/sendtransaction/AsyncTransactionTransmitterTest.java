@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitter;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.Transaction;
+import tech.pegasys.ethsigner.core.signing.TransactionSerializer;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.Json;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Hash;
+
+public class AsyncTransactionTransmitterTest {
+
+  private static final String ACCOUNT = "0x7577919ae5df4941180eac211965f275cdce314d";
+  private static final String SIGNED_TRANSACTION = "0xf86b80843b9aca00825208";
+  private static final JsonRpcRequestId ID = new JsonRpcRequestId(1);
+
+  private final Transaction transaction = mock(Transaction.class);
+  private final RoutingContext context = mock(RoutingContext.class);
+  private final Vertx vertx = mock(Vertx.class);
+  private final HttpServerRequest httpRequest = mock(HttpServerRequest.class);
+  private final VertxRequestTransmitter downstream = mock(VertxRequestTransmitter.class);
+  private final AtomicLong nanos = new AtomicLong();
+  private final DeliveryRetryPolicy deliveryRetryPolicy =
+      new DeliveryRetryPolicy(
+          vertx,
+          Duration.ofSeconds(1),
+          Duration.ofMinutes(1),
+          EthSignerMetrics.noop(),
+          nanos::get,
+          () -> 0);
+  private final NonceManager nonceManager = mock(NonceManager.class);
+  private final ForwardedMessageResponder responder = mock(ForwardedMessageResponder.class);
+  private final List<DownstreamResponseHandler> responseHandlers = new ArrayList<>();
+
+  private String body;
+  private AsyncTransactionTransmitter transmitter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    final JsonRpcRequest rawRequest = new JsonRpcRequest("2.0", "eth_sendRawTransaction");
+    rawRequest.setId(ID);
+    rawRequest.setParams(List.of(SIGNED_TRANSACTION));
+    body = Json.encode(rawRequest);
+
+    when(transaction.updateFieldsIfRequired()).thenReturn(Future.succeededFuture());
+    when(transaction.jsonRpcRequest(SIGNED_TRANSACTION, ID)).thenReturn(rawRequest);
+    when(transaction.getId()).thenReturn(ID);
+    when(transaction.sender()).thenReturn(ACCOUNT);
+    when(context.vertx()).thenReturn(vertx);
+    when(context.request()).thenReturn(httpRequest);
+    when(vertx.<String>executeBlocking(any(Handler.class), eq(false)))
+        .thenReturn(Future.succeededFuture(SIGNED_TRANSACTION));
+    when(httpRequest.headers()).thenReturn(MultiMap.caseInsensitiveMultiMap());
+    when(httpRequest.method()).thenReturn(HttpMethod.POST);
+    when(httpRequest.path()).thenReturn("/");
+    when(vertx.setTimer(anyLong(), any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.getArgument(1, Handler.class).handle(0L);
+              return 0L;
+            });
+
+    transmitter =
+        new AsyncTransactionTransmitter(
+            transaction,
+            mock(TransactionSerializer.class),
+            (handler, deadline) -> {
+              responseHandlers.add(handler);
+              return downstream;
+            },
+            deliveryRetryPolicy,
+            context,
+            responder,
+            Optional.of(nonceManager),
+            Optional.empty(),
+            EthSignerMetrics.noop());
+  }
+
+  @Test
+  public void hashOfSignedTransactionIsReturnedBeforeDelivery() {
+    transmitter.send();
+
+    verify(responder).successResponse(ID, Hash.sha3(SIGNED_TRANSACTION));
+    verify(downstream).sendRequest(eq(HttpMethod.POST), any(), eq("/"), eq(body));
+    verify(responder, never()).handleResponse(any(), anyInt(), any());
+  }
+
+  @Test
+  public void acceptedTransactionIsNotResubmitted() {
+    transmitter.send();
+    responseHandlers.get(0).handleResponse(List.of(), 200, "{\"id\":1,\"result\":\"0x01\"}");
+
+    verify(downstream, times(1)).sendRequest(any(), any(), any(), any());
+    verify(nonceManager, never()).resync(ACCOUNT);
+    assertThat(deliveryRetryPolicy.pending()).isZero();
+  }
+
+  @Test
+  public void transactionIsResubmittedUnchangedAfterServerError() {
+    transmitter.send();
+    responseHandlers.get(0).handleResponse(List.of(), 503, "");
+
+    verify(downstream, times(2)).sendRequest(eq(HttpMethod.POST), any(), eq("/"), eq(body));
+    verify(responder, times(1)).successResponse(any(), any());
+  }
+
+  @Test
+  public void deliveryIsRetriedUntilExpiry() {
+    transmitter.send();
+    for (int i = 0; i < 20; i++) {
+      responseHandlers.get(i).handleFailure(new ConnectException("refused"));
+    }
+    verify(downstream, times(21)).sendRequest(any(), any(), any(), any());
+    verify(nonceManager, never()).resync(ACCOUNT);
+    assertThat(deliveryRetryPolicy.pending()).isEqualTo(1);
+
+    nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+    responseHandlers.get(20).handleFailure(new ConnectException("refused"));
+
+    verify(downstream, times(21)).sendRequest(any(), any(), any(), any());
+    verify(nonceManager).resync(ACCOUNT);
+    assertThat(deliveryRetryPolicy.pending()).isZero();
+  }
+
+  @Test
+  public void rejectedTransactionIsNotResubmittedAndNonceIsResynced() {
+    transmitter.send();
+    responseHandlers
+        .get(0)
+        .handleResponse(
+            List.of(), 200, "{\"id\":1,\"error\":{\"code\":-32001,\"message\":\"Nonce too low\"}}");
+
+    verify(downstream, times(1)).sendRequest(any(), any(), any(), any());
+    verify(nonceManager).resync(ACCOUNT);
+  }
+
+  @Test
+  public void failureToPrepareTransactionIsReportedToClient() {
+    final IllegalStateException failure = new IllegalStateException("no nonce");
+    when(transaction.updateFieldsIfRequired()).thenReturn(Future.failedFuture(failure));
+
+    transmitter.send();
+
+    verify(responder).handleFailure(failure);
+    verify(responder, never()).successResponse(any(), any());
+    verify(downstream, never()).sendRequest(any(), any(), any(), any());
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DeliveryRetryPolicy.Delivery;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+
+public class DeliveryRetryPolicyTest {
+
+  private final Vertx vertx = mock(Vertx.class);
+  private final AtomicLong nanos = new AtomicLong();
+  private final DeliveryRetryPolicy policy =
+      new DeliveryRetryPolicy(
+          vertx,
+          Duration.ofSeconds(30),
+          Duration.ofMinutes(10),
+          EthSignerMetrics.noop(),
+          nanos::get,
+          () -> 0.0);
+
+  @Test
+  public void backoffDoublesForEachRetryUpToTheMaximum() {
+    assertThat(policy.delayMillis(0)).isEqualTo(100);
+    assertThat(policy.delayMillis(3)).isEqualTo(800);
+    assertThat(policy.delayMillis(9)).isEqualTo(30_000);
+    assertThat(policy.delayMillis(Integer.MAX_VALUE)).isEqualTo(30_000);
+  }
+
+  @Test
+  public void retriesAreScheduledUntilExpiry() {
+    final Delivery delivery = policy.start();
+    for (int i = 0; i < 100; i++) {
+      assertThat(delivery.retry(() -> {})).isTrue();
+    }
+
+    nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+
+    assertThat(delivery.retry(() -> {})).isFalse();
+  }
+
+  @Test
+  public void lastRetryIsScheduledAtExpiry() {
+    final Delivery delivery = policy.start();
+    nanos.addAndGet(Duration.ofMinutes(10).minusMillis(50).toNanos());
+
+    assertThat(delivery.retry(() -> {})).isTrue();
+
+    verify(vertx).setTimer(eq(50L), any());
+  }
+
+  @Test
+  public void finishedDeliveryIsNotRetriedOrCountedAsPending() {
+    final Delivery delivery = policy.start();
+    assertThat(policy.pending()).isEqualTo(1);
+
+    delivery.finished();
+    delivery.finished();
+
+    assertThat(policy.pending()).isZero();
+    assertThat(delivery.retry(() -> {})).isFalse();
+    verify(vertx, never()).setTimer(anyLong(), any());
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequest;
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.junit.jupiter.api.Test;
+
+public class IdempotencyCacheTest {
+
+  private static final String KEY = "key/0xfe3b557e8fb62b89f4916b721be55ceb828dbd73/";
+  private static final JsonRpcRequestId ID = new JsonRpcRequestId(1);
+  private static final JsonRpcRequestId RETRY_ID = new JsonRpcRequestId("retry");
+  private static final JsonRpcRequest REQUEST = request("0x1", ID);
+  // a client retrying a request sends it with a new id
+  private static final JsonRpcRequest RETRY = request("0x1", RETRY_ID);
+  private static final List<Entry<String, String>> HEADERS = List.of();
+  private static final String SUCCESS = "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0xab\"}";
+  private static final String ERROR =
+      "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32000,\"message\":\"nonce too low\"}}";
+
+  private final IdempotencyCache cache =
+      new IdempotencyCache(10, Duration.ofMinutes(1), EthSignerMetrics.noop());
+  private final List<ForwardedMessageResponder> submissions = new ArrayList<>();
+
+  @Test
+  public void firstSubmissionIsPerformedAndItsOutcomeRecorded() {
+    final ForwardedMessageResponder responder = mock(ForwardedMessageResponder.class);
+    cache.submit(KEY, REQUEST, responder, submissions::add);
+
+    assertThat(submissions).hasSize(1);
+    submissions.get(0).handleResponse(HEADERS, 200, SUCCESS);
+
+    verify(responder).handleResponse(HEADERS, 200, SUCCESS);
+  }
+
+  @Test
+  public void repeatedSubmissionReceivesOriginalOutcomeWithoutBeingPerformed() {
+    cache.submit(KEY, REQUEST, mock(ForwardedMessageResponder.class), submissions::add);
+    submissions.get(0).handleResponse(HEADERS, 200, SUCCESS);
+
+    final ForwardedMessageResponder duplicate = mock(ForwardedMessageResponder.class);
+    cache.submit(KEY, RETRY, duplicate, submissions::add);
+
+    assertThat(submissions).hasSize(1);
+    verify(duplicate)
+        .handleResponse(HEADERS, 200, "{\"jsonrpc\":\"2.0\",\"id\":\"retry\",\"result\":\"0xab\"}");
+  }
+
+  @Test
+  public void concurrentDuplicateReceivesOutcomeOfInFlightSubmission() {
+    cache.submit(KEY, REQUEST, mock(ForwardedMessageResponder.class), submissions::add);
+    final ForwardedMessageResponder duplicate = mock(ForwardedMessageResponder.class);
+    cache.submit(KEY, RETRY, duplicate, submissions::add);
+
+    assertThat(submissions).hasSize(1);
+    verify(duplicate, never()).successResponse(any(), any());
+
+    submissions.get(0).successResponse(ID, "0xab");
+
+    verify(duplicate).successResponse(RETRY_ID, "0xab");
+  }
+
+  @Test
+  public void failedSubmissionIsDeliveredToWaitersThenForgotten() {
+    cache.submit(KEY, REQUEST, mock(ForwardedMessageResponder.class), submissions::add);
+    final ForwardedMessageResponder duplicate = mock(ForwardedMessageResponder.class);
+    cache.submit(KEY, REQUEST, duplicate, submissions::add);
+
+    final RuntimeException failure = new RuntimeException("failed");
+    submissions.get(0).fail(500, failure);
+    verify(duplicate).fail(500, failure);
+
+    cache.submit(KEY, REQUEST, mock(ForwardedMessageResponder.class), submissions::add);
+    assertThat(submissions).hasSize(2);
+  }
+
+  @Test
+  public void jsonRpcErrorResponseIsNotRetained() {
+    cache.submit(KEY, REQUEST, mock(ForwardedMessageResponder.class), submissions::add);
+    submissions.get(0).handleResponse(HEADERS, 200, ERROR);
+
+    final ForwardedMessageResponder retry = mock(ForwardedMessageResponder.class);
+    cache.submit(KEY, REQUEST, retry, submissions::add);
+
+    assertThat(submissions).hasSize(2);
+    verify(retry, never()).handleResponse(any(), anyInt(), any());
+  }
+
+  @Test
+  public void keyReusedForDifferentParamsIsRejected() {
+    cache.submit(KEY, REQUEST, mock(ForwardedMessageResponder.class), submissions::add);
+    submissions.get(0).handleResponse(HEADERS, 200, SUCCESS);
+
+    final ForwardedMessageResponder reused = mock(ForwardedMessageResponder.class);
+    cache.submit(KEY, request("0x2", ID), reused, submissions::add);
+
+    assertThat(submissions).hasSize(1);
+    verify(reused)
+        .fail(
+            eq(422),
+            argThat(
+                thrown ->
+                    ((JsonRpcException) thrown).getJsonRpcError()
+                        == JsonRpcError.IDEMPOTENCY_KEY_REUSED));
+    verify(reused, never()).handleResponse(any(), anyInt(), any());
+  }
+
+  @Test
+  public void differentKeysAreSubmittedIndependently() {
+    cache.submit(KEY, REQUEST, mock(ForwardedMessageResponder.class), submissions::add);
+    cache.submit("key/2", REQUEST, mock(ForwardedMessageResponder.class), submissions::add);
+
+    assertThat(submissions).hasSize(2);
+  }
+
+  private static JsonRpcRequest request(final String value, final JsonRpcRequestId id) {
+    final JsonRpcRequest request = new JsonRpcRequest("2.0", "eth_sendTransaction");
+    request.setId(id);
+    request.setParams(
+        List.of(Map.of("from", "0xfe3b557e8fb62b89f4916b721be55ceb828dbd73", "value", value)));
+    return request;
+  }
+}
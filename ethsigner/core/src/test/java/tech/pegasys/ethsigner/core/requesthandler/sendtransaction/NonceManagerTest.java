@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+
+public class NonceManagerTest {
+
+  private static final String ACCOUNT = "0x7577919ae5df4941180eac211965f275cdce314d";
+
+  private final NonceProvider downstreamProvider = mock(NonceProvider.class);
+  private final NonceManager nonceManager = new NonceManager(Duration.ofMinutes(1));
+
+  @Test
+  public void downstreamIsOnlyQueriedForFirstNonceOfAccount() {
+    when(downstreamProvider.getNonce()).thenReturn(nonce(5));
+
+    final NonceProvider provider = nonceManager.nonceProvider(ACCOUNT, downstreamProvider);
+
+    assertThat(provider.getNonce().result()).isEqualTo(BigInteger.valueOf(5));
+    assertThat(provider.getNonce().result()).isEqualTo(BigInteger.valueOf(6));
+    assertThat(provider.getNonce().result()).isEqualTo(BigInteger.valueOf(7));
+    verify(downstreamProvider, times(1)).getNonce();
+  }
+
+  @Test
+  public void requestsWaitingOnDownstreamLookupReceiveSequentialNonces() {
+    final Promise<BigInteger> downstreamNonce = Promise.promise();
+    when(downstreamProvider.getNonce()).thenReturn(downstreamNonce.future());
+
+    final Future<BigInteger> first = nonceManager.nextNonce(ACCOUNT, downstreamProvider);
+    final Future<BigInteger> second = nonceManager.nextNonce(ACCOUNT, downstreamProvider);
+    assertThat(first.isComplete()).isFalse();
+    assertThat(second.isComplete()).isFalse();
+
+    downstreamNonce.complete(BigInteger.TEN);
+
+    assertThat(first.result()).isEqualTo(BigInteger.TEN);
+    assertThat(second.result()).isEqualTo(BigInteger.valueOf(11));
+    verify(downstreamProvider, times(1)).getNonce();
+  }
+
+  @Test
+  public void nonceIsDeliveredOnTheContextOfEachRequest() throws Exception {
+    final Vertx vertx = Vertx.vertx();
+    try {
+      final Promise<BigInteger> downstreamNonce = Promise.promise();
+      when(downstreamProvider.getNonce()).thenReturn(downstreamNonce.future());
+      // contexts created from different threads are distinct event loop contexts
+      final Context first = vertx.getOrCreateContext();
+      final Context second = CompletableFuture.supplyAsync(vertx::getOrCreateContext).get();
+      final CompletableFuture<Context> firstDeliveredOn = new CompletableFuture<>();
+      final CompletableFuture<Context> secondDeliveredOn = new CompletableFuture<>();
+
+      first.runOnContext(
+          ignored ->
+              nonceManager
+                  .nextNonce(ACCOUNT, downstreamProvider)
+                  .onComplete(nonce -> firstDeliveredOn.complete(Vertx.currentContext())));
+      second.runOnContext(
+          ignored ->
+              nonceManager
+                  .nextNonce(ACCOUNT, downstreamProvider)
+                  .onComplete(nonce -> secondDeliveredOn.complete(Vertx.currentContext())));
+      first.runOnContext(ignored -> downstreamNonce.complete(BigInteger.ONE));
+
+      assertThat(firstDeliveredOn.get(5, TimeUnit.SECONDS)).isSameAs(first);
+      assertThat(secondDeliveredOn.get(5, TimeUnit.SECONDS)).isSameAs(second);
+    } finally {
+      vertx.close();
+    }
+  }
+
+  @Test
+  public void accountAddressCaseAndPrefixDoNotAffectAllocation() {
+    when(downstreamProvider.getNonce()).thenReturn(nonce(0));
+
+    final String unprefixedUpperCaseAccount = ACCOUNT.substring(2).toUpperCase();
+
+    assertThat(nonceManager.nextNonce(ACCOUNT, downstreamProvider).result())
+        .isEqualTo(BigInteger.ZERO);
+    assertThat(nonceManager.nextNonce(unprefixedUpperCaseAccount, downstreamProvider).result())
+        .isEqualTo(BigInteger.ONE);
+    verify(downstreamProvider, times(1)).getNonce();
+  }
+
+  @Test
+  public void resyncCausesNonceToBeFetchedFromDownstream() {
+    when(downstreamProvider.getNonce()).thenReturn(nonce(1), nonce(10));
+
+    assertThat(nonceManager.nextNonce(ACCOUNT, downstreamProvider).result())
+        .isEqualTo(BigInteger.ONE);
+    nonceManager.resync(ACCOUNT);
+    assertThat(nonceManager.nextNonce(ACCOUNT, downstreamProvider).result())
+        .isEqualTo(BigInteger.TEN);
+    verify(downstreamProvider, times(2)).getNonce();
+  }
+
+  @Test
+  public void idleAccountIsRefreshedFromDownstream() throws InterruptedException {
+    final NonceManager shortLivedManager = new NonceManager(Duration.ofMillis(10));
+    when(downstreamProvider.getNonce()).thenReturn(nonce(1), nonce(10));
+
+    assertThat(shortLivedManager.nextNonce(ACCOUNT, downstreamProvider).result())
+        .isEqualTo(BigInteger.ONE);
+    Thread.sleep(50);
+    assertThat(shortLivedManager.nextNonce(ACCOUNT, downstreamProvider).result())
+        .isEqualTo(BigInteger.TEN);
+  }
+
+  @Test
+  public void failureToFetchNonceIsPropagatedAndNotCached() {
+    final RuntimeException failure = new RuntimeException("Failed");
+    when(downstreamProvider.getNonce()).thenReturn(Future.failedFuture(failure), nonce(2));
+
+    final Future<BigInteger> failed = nonceManager.nextNonce(ACCOUNT, downstreamProvider);
+    assertThat(failed.failed()).isTrue();
+    assertThat(failed.cause()).isSameAs(failure);
+    assertThat(nonceManager.nextNonce(ACCOUNT, downstreamProvider).result())
+        .isEqualTo(BigInteger.TWO);
+  }
+
+  private static Future<BigInteger> nonce(final long value) {
+    return Future.succeededFuture(BigInteger.valueOf(value));
+  }
+}
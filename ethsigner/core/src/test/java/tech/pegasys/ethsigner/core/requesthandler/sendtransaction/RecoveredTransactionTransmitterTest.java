@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.DownstreamResponseHandler;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitter;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class RecoveredTransactionTransmitterTest {
+
+  private static final long SEQUENCE = 7;
+  private static final String ACCEPTED = "{\"jsonrpc\":\"2.0\",\"id\":7,\"result\":\"0x1\"}";
+
+  private final Vertx vertx = mock(Vertx.class);
+  private final TransactionJournal journal = mock(TransactionJournal.class);
+  private final VertxRequestTransmitter downstream = mock(VertxRequestTransmitter.class);
+  private final AtomicLong nanos = new AtomicLong();
+  private final DeliveryRetryPolicy deliveryRetryPolicy =
+      new DeliveryRetryPolicy(
+          vertx,
+          Duration.ofSeconds(1),
+          Duration.ofMinutes(1),
+          EthSignerMetrics.noop(),
+          nanos::get,
+          () -> 0);
+  private final List<DownstreamResponseHandler> responseHandlers = new ArrayList<>();
+
+  private RecoveredTransactionTransmitter transmitter;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    when(vertx.setTimer(anyLong(), any()))
+        .thenAnswer(
+            invocation -> {
+              invocation.getArgument(1, Handler.class).handle(0L);
+              return 0L;
+            });
+    transmitter =
+        new RecoveredTransactionTransmitter(
+            journal,
+            new TransactionJournal.Entry(SEQUENCE, "eth_sendRawTransaction", "/", "[\"0xf86b\"]"),
+            (handler, deadline) -> {
+              responseHandlers.add(handler);
+              return downstream;
+            },
+            deliveryRetryPolicy,
+            EthSignerMetrics.noop());
+  }
+
+  @Test
+  public void acceptedTransactionIsAcknowledged() {
+    transmitter.send();
+    lastResponseHandler().handleResponse(List.of(), 200, ACCEPTED);
+
+    verify(downstream).sendRequest(eq(HttpMethod.POST), any(), eq("/"), anyString());
+    verify(journal).acknowledge(SEQUENCE);
+    assertThat(deliveryRetryPolicy.pending()).isZero();
+  }
+
+  @Test
+  public void transactionIsRedeliveredWhileNodeIsUnavailable() {
+    transmitter.send();
+    lastResponseHandler().handleFailure(new ConnectException("Connection refused"));
+    lastResponseHandler().handleResponse(List.of(), 503, "");
+
+    verify(journal, never()).acknowledge(anyLong());
+    lastResponseHandler().handleResponse(List.of(), 200, ACCEPTED);
+
+    verify(downstream, times(3)).sendRequest(eq(HttpMethod.POST), any(), eq("/"), anyString());
+    verify(journal).acknowledge(SEQUENCE);
+  }
+
+  @Test
+  public void expiredTransactionIsAcknowledged() {
+    transmitter.send();
+    nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+    lastResponseHandler().handleFailure(new ConnectException("Connection refused"));
+
+    verify(downstream).sendRequest(eq(HttpMethod.POST), any(), eq("/"), anyString());
+    verify(journal).acknowledge(SEQUENCE);
+    assertThat(deliveryRetryPolicy.pending()).isZero();
+  }
+
+  private DownstreamResponseHandler lastResponseHandler() {
+    return responseHandlers.get(responseHandlers.size() - 1);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class RetrySchedulerTest {
+
+  private final Vertx vertx = mock(Vertx.class);
+  private final EthSignerMetrics metrics = mock(EthSignerMetrics.class);
+
+  @Test
+  public void backoffDoublesForEachRetryUpToTheMaximum() {
+    final RetryScheduler scheduler = scheduler(0, 0.2, () -> 0.5);
+
+    assertThat(scheduler.delayMillis(0)).isEqualTo(10);
+    assertThat(scheduler.delayMillis(1)).isEqualTo(20);
+    assertThat(scheduler.delayMillis(3)).isEqualTo(80);
+    assertThat(scheduler.delayMillis(7)).isEqualTo(1000);
+    assertThat(scheduler.delayMillis(Integer.MAX_VALUE)).isEqualTo(1000);
+  }
+
+  @Test
+  public void jitterRemovesRandomProportionOfBackoff() {
+    assertThat(scheduler(0.5, 0.2, () -> 0.0).delayMillis(2)).isEqualTo(40);
+    assertThat(scheduler(0.5, 0.2, () -> 0.5).delayMillis(2)).isEqualTo(30);
+    assertThat(scheduler(1.0, 0.2, () -> 0.75).delayMillis(2)).isEqualTo(10);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void retryIsRunWhenTimerFires() {
+    final RetryScheduler scheduler = scheduler(0, 0.2, () -> 0.5);
+    final AtomicInteger retries = new AtomicInteger();
+
+    assertThat(scheduler.schedule(1, retries::incrementAndGet)).isTrue();
+
+    final ArgumentCaptor<Handler<Long>> timerHandler = ArgumentCaptor.forClass(Handler.class);
+    verify(vertx).setTimer(eq(20L), timerHandler.capture());
+    assertThat(retries).hasValue(0);
+
+    timerHandler.getValue().handle(1L);
+    assertThat(retries).hasValue(1);
+  }
+
+  @Test
+  public void retriesAreRefusedOnceBudgetIsSpent() {
+    final RetryScheduler scheduler = scheduler(0, 0.5, () -> 0.5);
+    for (int i = 0; i < RetryScheduler.BUDGET_CAPACITY; i++) {
+      assertThat(scheduler.schedule(0, () -> {})).isTrue();
+    }
+
+    assertThat(scheduler.schedule(0, () -> {})).isFalse();
+    verify(metrics).retryBudgetExhausted();
+
+    scheduler.transactionStarted();
+    assertThat(scheduler.schedule(0, () -> {})).isFalse();
+    scheduler.transactionStarted();
+    assertThat(scheduler.schedule(0, () -> {})).isTrue();
+  }
+
+  @Test
+  public void budgetDoesNotGrowBeyondCapacity() {
+    final RetryScheduler scheduler = scheduler(0, 1, () -> 0.5);
+    for (int i = 0; i < 1_000; i++) {
+      scheduler.transactionStarted();
+    }
+    for (int i = 0; i < RetryScheduler.BUDGET_CAPACITY; i++) {
+      scheduler.schedule(0, () -> {});
+    }
+
+    assertThat(scheduler.schedule(0, () -> {})).isFalse();
+  }
+
+  @Test
+  public void refusedRetryIsNotScheduled() {
+    final RetryScheduler scheduler = scheduler(0, 0, () -> 0.5);
+    for (int i = 0; i < RetryScheduler.BUDGET_CAPACITY; i++) {
+      scheduler.schedule(0, () -> {});
+    }
+    clearInvocations(vertx);
+
+    scheduler.schedule(0, () -> {});
+
+    verify(vertx, never()).setTimer(anyLong(), any());
+  }
+
+  private RetryScheduler scheduler(
+      final double jitter, final double budgetRatio, final DoubleSupplier random) {
+    return new RetryScheduler(
+        vertx,
+        Duration.ofMillis(10),
+        Duration.ofSeconds(1),
+        jitter,
+        budgetRatio,
+        metrics,
+        random);
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.ethsigner.core.jsonrpc.JsonRpcRequestId;
+import tech.pegasys.ethsigner.core.jsonrpc.exception.JsonRpcException;
+import tech.pegasys.ethsigner.core.jsonrpc.response.JsonRpcError;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.requesthandler.VertxRequestTransmitter;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.transaction.Transaction;
+import tech.pegasys.ethsigner.core.signing.TransactionSerializer;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class RetryingTransactionTransmitterTest {
+
+  private static final String ACCOUNT = "0x7577919ae5df4941180eac211965f275cdce314d";
+  private static final JsonRpcRequestId ID = new JsonRpcRequestId(1);
+
+  private final Transaction transaction = mock(Transaction.class);
+  private final RoutingContext context = mock(RoutingContext.class);
+  private final Vertx vertx = mock(Vertx.class);
+  private final VertxRequestTransmitter downstream = mock(VertxRequestTransmitter.class);
+  private final NonceManager nonceManager = mock(NonceManager.class);
+  private final ForwardedMessageResponder responder = mock(ForwardedMessageResponder.class);
+
+  private RetryingTransactionTransmitter transmitter;
+
+  @BeforeEach
+  public void setup() {
+    when(transaction.updateFieldsIfRequired()).thenReturn(Future.succeededFuture());
+    when(transaction.getId()).thenReturn(ID);
+    when(transaction.sender()).thenReturn(ACCOUNT);
+    when(context.vertx()).thenReturn(vertx);
+
+    transmitter =
+        new RetryingTransactionTransmitter(
+            transaction,
+            mock(TransactionSerializer.class),
+            (handler, deadline) -> downstream,
+            new NonceTooLowRetryMechanism(5),
+            new RetryScheduler(
+                vertx, Duration.ofMillis(1), Duration.ofMillis(1), 0, 1, EthSignerMetrics.noop()),
+            context,
+            responder,
+            Optional.of(nonceManager),
+            Optional.empty());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void nonceIsResyncedWhenSigningFails() {
+    when(vertx.<String>executeBlocking(any(Handler.class), eq(false)))
+        .thenReturn(Future.failedFuture(new IllegalStateException("remote signer timed out")));
+
+    transmitter.send();
+
+    final ArgumentCaptor<Throwable> failure = ArgumentCaptor.forClass(Throwable.class);
+    verify(responder).fail(eq(400), failure.capture());
+    assertThat(((JsonRpcException) failure.getValue()).getJsonRpcError())
+        .isEqualTo(JsonRpcError.INTERNAL_ERROR);
+    verify(nonceManager).resync(ACCOUNT);
+    verify(downstream, never()).sendRequest(any(), any(), any(), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void invalidTransactionFailsWithInvalidParamsAndResyncsNonce() {
+    when(vertx.<String>executeBlocking(any(Handler.class), eq(false)))
+        .thenReturn(Future.failedFuture(new IllegalArgumentException("bad field")));
+
+    transmitter.send();
+
+    final ArgumentCaptor<Throwable> failure = ArgumentCaptor.forClass(Throwable.class);
+    verify(responder).fail(eq(400), failure.capture());
+    assertThat(((JsonRpcException) failure.getValue()).getJsonRpcError())
+        .isEqualTo(JsonRpcError.INVALID_PARAMS);
+    verify(nonceManager).resync(ACCOUNT);
+  }
+}
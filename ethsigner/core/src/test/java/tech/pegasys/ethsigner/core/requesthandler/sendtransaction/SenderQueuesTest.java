@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+public class SenderQueuesTest {
+
+  private static final String ACCOUNT = "0x7577919ae5df4941180eac211965f275cdce314d";
+  private static final String OTHER_ACCOUNT = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+
+  private final SenderQueues senderQueues = new SenderQueues(3, 2);
+  private final List<String> started = new ArrayList<>();
+  private final List<Runnable> releases = new ArrayList<>();
+
+  @Test
+  public void tasksForSameSenderRunInOrderOnceThePreviousTaskCompletes() {
+    assertThat(senderQueues.enqueue(ACCOUNT, task("first"))).isTrue();
+    assertThat(senderQueues.enqueue(ACCOUNT, task("second"))).isTrue();
+    assertThat(senderQueues.enqueue(ACCOUNT.toUpperCase(Locale.US).substring(2), task("third")))
+        .isTrue();
+    assertThat(started).containsExactly("first");
+
+    releases.get(0).run();
+    assertThat(started).containsExactly("first", "second");
+
+    releases.get(1).run();
+    assertThat(started).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  public void tasksForDifferentSendersRunConcurrently() {
+    senderQueues.enqueue(ACCOUNT, task("first"));
+    senderQueues.enqueue(OTHER_ACCOUNT, task("second"));
+
+    assertThat(started).containsExactly("first", "second");
+    assertThat(senderQueues.activeSenders()).isEqualTo(2);
+  }
+
+  @Test
+  public void queueIsDiscardedOnceAllTasksHaveCompleted() {
+    senderQueues.enqueue(ACCOUNT, task("first"));
+    senderQueues.enqueue(ACCOUNT, task("second"));
+
+    releases.get(0).run();
+    assertThat(senderQueues.activeSenders()).isEqualTo(1);
+    releases.get(1).run();
+    assertThat(senderQueues.activeSenders()).isZero();
+  }
+
+  @Test
+  public void taskIsRejectedWhenQueueForSenderIsFull() {
+    senderQueues.enqueue(ACCOUNT, task("first"));
+    senderQueues.enqueue(ACCOUNT, task("second"));
+    senderQueues.enqueue(ACCOUNT, task("third"));
+
+    assertThat(senderQueues.enqueue(ACCOUNT, task("fourth"))).isFalse();
+
+    releases.get(0).run();
+    assertThat(senderQueues.enqueue(ACCOUNT, task("fourth"))).isTrue();
+  }
+
+  @Test
+  public void taskIsRejectedWhenTooManySendersAreActive() {
+    senderQueues.enqueue(ACCOUNT, task("first"));
+    senderQueues.enqueue(OTHER_ACCOUNT, task("second"));
+
+    final String thirdAccount = "0xf17f52151ebef6c7334fad080c5704d77216b732";
+    assertThat(senderQueues.enqueue(thirdAccount, task("third"))).isFalse();
+
+    releases.get(0).run();
+    assertThat(senderQueues.enqueue(thirdAccount, task("third"))).isTrue();
+    assertThat(started).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  public void repeatedCompletionOnlyReleasesOneTask() {
+    senderQueues.enqueue(ACCOUNT, task("first"));
+    senderQueues.enqueue(ACCOUNT, task("second"));
+    senderQueues.enqueue(ACCOUNT, task("third"));
+
+    releases.get(0).run();
+    releases.get(0).run();
+
+    assertThat(started).containsExactly("first", "second");
+  }
+
+  @Test
+  public void taskWhichThrowsReleasesTheQueue() {
+    assertThatThrownBy(
+            () ->
+                senderQueues.enqueue(
+                    ACCOUNT,
+                    release -> {
+                      throw new IllegalStateException("failed");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(senderQueues.activeSenders()).isZero();
+    assertThat(senderQueues.enqueue(ACCOUNT, task("second"))).isTrue();
+    assertThat(started).containsExactly("second");
+  }
+
+  private Consumer<Runnable> task(final String name) {
+    return release -> {
+      started.add(name);
+      releases.add(release);
+    };
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.core.requesthandler.sendtransaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.TransactionJournal.Entry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TransactionJournalTest {
+
+  private static final String METHOD = "eth_sendRawTransaction";
+  private static final String PATH = "/";
+
+  // a record of a transaction with these params occupies 60 bytes
+  private static final String PARAMS = "[\"0x01\"]";
+  private static final int RECORD_SIZE = 60;
+
+  @TempDir Path directory;
+
+  private final Vertx vertx = Vertx.vertx();
+
+  @AfterEach
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  public void unacknowledgedTransactionsAreRecovered() throws Exception {
+    final TransactionJournal journal = TransactionJournal.open(vertx, directory);
+    await(journal.append(METHOD, PATH, PARAMS));
+    await(journal.append("eea_sendRawTransaction", "/path", "[\"0x02\"]"));
+
+    final List<Entry> recovered = TransactionJournal.open(vertx, directory).getRecovered();
+
+    assertThat(recovered).hasSize(2);
+    assertThat(recovered.get(0).getMethod()).isEqualTo(METHOD);
+    assertThat(recovered.get(0).getPath()).isEqualTo(PATH);
+    assertThat(recovered.get(0).getParams()).isEqualTo(PARAMS);
+    assertThat(recovered.get(1).getMethod()).isEqualTo("eea_sendRawTransaction");
+    assertThat(recovered.get(1).getPath()).isEqualTo("/path");
+    assertThat(recovered.get(1).getParams()).isEqualTo("[\"0x02\"]");
+  }
+
+  @Test
+  public void acknowledgedTransactionsAreNotRecovered() throws Exception {
+    final TransactionJournal journal = TransactionJournal.open(vertx, directory);
+    final long first = await(journal.append(METHOD, PATH, PARAMS));
+    await(journal.append(METHOD, PATH, "[\"0x02\"]"));
+    journal.acknowledge(first);
+
+    final List<Entry> recovered = TransactionJournal.open(vertx, directory).getRecovered();
+
+    assertThat(recovered).hasSize(1);
+    assertThat(recovered.get(0).getParams()).isEqualTo("[\"0x02\"]");
+  }
+
+  @Test
+  public void recoveredTransactionsAreRecordedAgainUntilAcknowledged() throws Exception {
+    await(TransactionJournal.open(vertx, directory).append(METHOD, PATH, PARAMS));
+
+    assertThat(TransactionJournal.open(vertx, directory).getRecovered()).hasSize(1);
+    assertThat(segmentFiles()).hasSize(1);
+
+    final TransactionJournal recovering = TransactionJournal.open(vertx, directory);
+    assertThat(recovering.getRecovered()).hasSize(1);
+    recovering.getRecovered().forEach(entry -> recovering.acknowledge(entry.getSequence()));
+
+    assertThat(TransactionJournal.open(vertx, directory).getRecovered()).isEmpty();
+  }
+
+  @Test
+  public void segmentsAreDeletedOnceAllTheirTransactionsAreAcknowledged() throws Exception {
+    final TransactionJournal journal = TransactionJournal.open(vertx, directory, 2 * RECORD_SIZE);
+    final long first = await(journal.append(METHOD, PATH, PARAMS));
+    final long second = await(journal.append(METHOD, PATH, PARAMS));
+    final long third = await(journal.append(METHOD, PATH, PARAMS));
+    assertThat(journal.segmentCount()).isEqualTo(2);
+
+    journal.acknowledge(second);
+    assertThat(journal.segmentCount()).isEqualTo(2);
+    journal.acknowledge(first);
+    journal.acknowledge(third);
+
+    assertThat(journal.segmentCount()).isEqualTo(1);
+    assertThat(segmentFiles()).hasSize(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void transactionsWhichFailToBeForcedAreAcknowledged() throws Exception {
+    final Vertx failingVertx = mock(Vertx.class);
+    when(failingVertx.<Void>executeBlocking(any(Handler.class), eq(false)))
+        .thenReturn(Future.failedFuture(new UncheckedIOException(new IOException("disk full"))));
+    final TransactionJournal journal =
+        TransactionJournal.open(failingVertx, directory, 2 * RECORD_SIZE);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(journal.append(METHOD, PATH, PARAMS).failed()).isTrue();
+    }
+
+    assertThat(journal.segmentCount()).isEqualTo(1);
+    assertThat(TransactionJournal.open(vertx, directory).getRecovered()).isEmpty();
+  }
+
+  @Test
+  public void corruptRecordAndThoseAfterItAreDiscarded() throws Exception {
+    final TransactionJournal journal = TransactionJournal.open(vertx, directory);
+    await(journal.append(METHOD, PATH, PARAMS));
+    await(journal.append(METHOD, PATH, "[\"0x02\"]"));
+    await(journal.append(METHOD, PATH, "[\"0x03\"]"));
+
+    try (final FileChannel channel =
+        FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] {0x7f}), RECORD_SIZE + RECORD_SIZE - 3);
+    }
+
+    final List<Entry> recovered = TransactionJournal.open(vertx, directory).getRecovered();
+    assertThat(recovered).hasSize(1);
+    assertThat(recovered.get(0).getParams()).isEqualTo(PARAMS);
+  }
+
+  private List<Path> segmentFiles() throws IOException {
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files.collect(Collectors.toList());
+    }
+  }
+
+  private static <T> T await(final Future<T> future) throws Exception {
+    return future.toCompletionStage().toCompletableFuture().get();
+  }
+}
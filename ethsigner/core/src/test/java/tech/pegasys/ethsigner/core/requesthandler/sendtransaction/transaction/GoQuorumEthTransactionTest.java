@@ -26,6 +26,7 @@ import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
 
+import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 import org.assertj.core.api.Condition;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,7 +54,8 @@ public class GoQuorumEthTransactionTest {
 
     enclaveLookupIdProvider =
         (x) ->
-            "9aefeff5ef9cef1dfdeffccff0afefff6fef0ff9faef9feffaeff3ffeffcf8feefafefeffdefef98ba7aafef";
+            Future.succeededFuture(
+                "9aefeff5ef9cef1dfdeffccff0afefff6fef0ff9faef9feffaeff3ffeffcf8feefafefeffdefef98ba7aafef");
   }
 
   @Test
@@ -115,7 +117,10 @@ public class GoQuorumEthTransactionTest {
     privateFrom.ifPresent((p) -> params.privateFrom(p));
     ethTransaction =
         GoQuorumPrivateTransaction.from(
-            params, () -> BigInteger.valueOf(7), enclaveLookupIdProvider, new JsonRpcRequestId(1));
+            params,
+            () -> Future.succeededFuture(BigInteger.valueOf(7)),
+            enclaveLookupIdProvider,
+            new JsonRpcRequestId(1));
     ethTransaction.updateFieldsIfRequired();
   }
 
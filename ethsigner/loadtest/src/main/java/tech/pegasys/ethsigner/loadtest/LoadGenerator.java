@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Sends requests to EthSigner at a fixed rate, regardless of how quickly they are answered (an
+ * open-loop load). Latency is measured from the time each request was scheduled to be sent rather
+ * than when it was actually sent, so queueing delays are not hidden when EthSigner falls behind.
+ */
+class LoadGenerator extends AbstractVerticle {
+
+  private static final long NANOS_PER_SECOND = Duration.ofSeconds(1).toNanos();
+  private static final long TICK_MILLIS = 1;
+
+  private final int port;
+  private final int connections;
+  private final int rate;
+  private final long totalRequests;
+  private final List<RequestType> schedule;
+  private final String sender;
+  private final Promise<Duration> completion = Promise.promise();
+  private final LoadReport report = new LoadReport();
+
+  private HttpClient client;
+  private long startNanos;
+  private long timerId;
+  private long sent;
+  private long outstanding;
+
+  LoadGenerator(
+      final int port,
+      final int connections,
+      final int rate,
+      final Duration duration,
+      final List<RequestType> schedule,
+      final String sender) {
+    this.port = port;
+    this.connections = connections;
+    this.rate = rate;
+    this.totalRequests = rate * duration.toSeconds();
+    this.schedule = schedule;
+    this.sender = sender;
+  }
+
+  @Override
+  public void start() {
+    client =
+        vertx.createHttpClient(
+            new HttpClientOptions()
+                .setDefaultHost("127.0.0.1")
+                .setDefaultPort(port)
+                .setMaxPoolSize(connections));
+    startNanos = System.nanoTime();
+    timerId = vertx.setPeriodic(TICK_MILLIS, id -> sendDueRequests());
+  }
+
+  /** Completes with the time from the first request being due to the last response. */
+  Future<Duration> completion() {
+    return completion.future();
+  }
+
+  LoadReport report() {
+    return report;
+  }
+
+  private void sendDueRequests() {
+    final long now = System.nanoTime();
+    while (sent < totalRequests && scheduledTime(sent) <= now) {
+      send(sent, scheduledTime(sent));
+      sent++;
+    }
+    if (sent == totalRequests) {
+      vertx.cancelTimer(timerId);
+      completeIfDone();
+    }
+  }
+
+  private long scheduledTime(final long index) {
+    return startNanos + index * NANOS_PER_SECOND / rate;
+  }
+
+  private void send(final long index, final long scheduledTime) {
+    final RequestType type = schedule.get((int) (index % schedule.size()));
+    outstanding++;
+    client
+        .request(HttpMethod.POST, "/")
+        .compose(
+            request ->
+                request
+                    .putHeader("Content-Type", "application/json")
+                    .send(type.body(index, sender)))
+        .compose(response -> response.body().map(body -> isSuccess(response.statusCode(), body)))
+        .onComplete(
+            result -> {
+              report.record(
+                  type.label(),
+                  System.nanoTime() - scheduledTime,
+                  result.succeeded() && result.result());
+              outstanding--;
+              completeIfDone();
+            });
+  }
+
+  private void completeIfDone() {
+    if (sent == totalRequests && outstanding == 0) {
+      completion.tryComplete(Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+  }
+
+  private static boolean isSuccess(final int statusCode, final Buffer body) {
+    if (statusCode != 200) {
+      return false;
+    }
+    try {
+      return new JsonObject(body).containsKey("result");
+    } catch (final DecodeException e) {
+      return false;
+    }
+  }
+}
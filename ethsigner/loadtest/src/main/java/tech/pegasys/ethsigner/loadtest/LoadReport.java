@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/** Latency histograms and error counts for each request type sent during a load test run. */
+class LoadReport {
+
+  private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(5);
+  private static final int SIGNIFICANT_DIGITS = 3;
+  private static final String ROW_FORMAT = "%-32s %9s %8s %9s %9s %9s %9s %9s %9s%n";
+
+  private final Map<String, Histogram> latencies = new TreeMap<>();
+  private final Map<String, Long> errors = new TreeMap<>();
+
+  void record(final String label, final long latencyNanos, final boolean success) {
+    latencies
+        .computeIfAbsent(label, key -> new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS))
+        .recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+    if (!success) {
+      errors.merge(label, 1L, Long::sum);
+    }
+  }
+
+  void print(final PrintStream out, final Duration elapsed) {
+    out.printf(
+        ROW_FORMAT,
+        "method",
+        "requests",
+        "errors",
+        "req/s",
+        "p50 ms",
+        "p90 ms",
+        "p99 ms",
+        "p99.9 ms",
+        "max ms");
+    final Histogram total = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    latencies.forEach(
+        (label, histogram) -> {
+          printRow(out, label, histogram, errors.getOrDefault(label, 0L), elapsed);
+          total.add(histogram);
+        });
+    printRow(
+        out, "total", total, errors.values().stream().mapToLong(Long::longValue).sum(), elapsed);
+  }
+
+  private static void printRow(
+      final PrintStream out,
+      final String label,
+      final Histogram histogram,
+      final long errorCount,
+      final Duration elapsed) {
+    final double seconds = elapsed.toNanos() / 1e9;
+    out.printf(
+        ROW_FORMAT,
+        label,
+        histogram.getTotalCount(),
+        errorCount,
+        String.format("%.1f", histogram.getTotalCount() / seconds),
+        millis(histogram.getValueAtPercentile(50)),
+        millis(histogram.getValueAtPercentile(90)),
+        millis(histogram.getValueAtPercentile(99)),
+        millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()));
+  }
+
+  private static String millis(final long nanos) {
+    return String.format("%.2f", nanos / 1e6);
+  }
+}
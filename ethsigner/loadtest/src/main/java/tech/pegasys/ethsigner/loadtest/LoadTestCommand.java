@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.loadtest;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
+import tech.pegasys.ethsigner.core.Eth1AddressSignerProvider;
+import tech.pegasys.ethsigner.core.EthSigner;
+import tech.pegasys.ethsigner.core.Runner;
+import tech.pegasys.ethsigner.core.downstream.DownstreamLoadBalancer;
+import tech.pegasys.ethsigner.core.http.AdmissionHandler;
+import tech.pegasys.ethsigner.core.metrics.EthSignerMetrics;
+import tech.pegasys.ethsigner.core.metrics.MetricsEndpoint;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.DownstreamPathCalculator;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.NonceManager;
+import tech.pegasys.ethsigner.core.requesthandler.sendtransaction.RetryScheduler;
+import tech.pegasys.signers.secp256k1.api.SingleSignerProvider;
+import tech.pegasys.signers.secp256k1.filebased.CredentialSigner;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpServerOptions;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.web3j.crypto.Credentials;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+/**
+ * Runs EthSigner in-process against a stub Ethereum node and reports the throughput and latency
+ * percentiles it sustains under an open-loop load. No network access or external node is required.
+ *
+ * <p>Run with e.g. {@code ./gradlew :ethsigner:loadtest:run --args="--rate=500 --duration=60"}.
+ */
+@Command(
+    name = "ethsigner-loadtest",
+    mixinStandardHelpOptions = true,
+    description = "Measures EthSigner throughput and latency against a stub Ethereum node.")
+public class LoadTestCommand implements Callable<Integer> {
+
+  private static final long CHAIN_ID = 2018;
+  private static final String PRIVATE_KEY =
+      "8f2a55949038a9610f50fb23b5883af3b4ecb3c3bb792cbcefbd1542c692be63";
+  private static final String PORTS_FILENAME = "ethsigner.ports";
+
+  @Option(
+      names = {"--rate"},
+      description = "Requests per second sent to EthSigner (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer rate = 200;
+
+  @Option(
+      names = {"--duration"},
+      description = "Duration in seconds of the measured run (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long durationSeconds = 30L;
+
+  @Option(
+      names = {"--warmup"},
+      description =
+          "Duration in seconds of a run at the same rate whose results are discarded "
+              + "(default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long warmupSeconds = 5L;
+
+  @Option(
+      names = {"--connections"},
+      description = "Maximum connections from the load generator (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer connections = 64;
+
+  @Option(
+      names = {"--stub-latency"},
+      description =
+          "Time in milliseconds the stub node waits before answering each request "
+              + "(default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Long stubLatencyMillis = 5L;
+
+  @Option(
+      names = {"--send-transaction-weight"},
+      description = "Relative share of eth_sendTransaction requests (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer sendTransactionWeight = 50;
+
+  @Option(
+      names = {"--private-transaction-weight"},
+      description =
+          "Relative share of GoQuorum private eth_sendTransaction requests "
+              + "(default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer privateTransactionWeight = 0;
+
+  @Option(
+      names = {"--passthrough-weight"},
+      description =
+          "Relative share of requests passed through to the node (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Integer passthroughWeight = 50;
+
+  @Option(
+      names = {"--http-server-instances"},
+      description = "Number of EthSigner HTTP server instances (default: available processors)",
+      arity = "1")
+  private final Integer httpServerInstances = Runtime.getRuntime().availableProcessors();
+
+  @Option(
+      names = {"--local-nonce-management-enabled"},
+      description = "Allocate nonces locally in EthSigner (default: ${DEFAULT-VALUE})")
+  private final Boolean localNonceManagementEnabled = false;
+
+  @Option(
+      names = {"--streaming-passthrough-enabled"},
+      description =
+          "Stream passed through requests instead of buffering them (default: ${DEFAULT-VALUE})")
+  private final Boolean streamingPassThroughEnabled = false;
+
+  @Option(
+      names = {"--logging"},
+      description = "Logging level of EthSigner during the run (default: ${DEFAULT-VALUE})",
+      arity = "1")
+  private final Level logLevel = Level.WARN;
+
+  public static void main(final String... args) {
+    System.exit(new CommandLine(new LoadTestCommand()).execute(args));
+  }
+
+  @Override
+  public Integer call() throws Exception {
+    Configurator.setRootLevel(logLevel);
+    final List<RequestType> schedule = schedule();
+    if (schedule.isEmpty()) {
+      System.err.println("At least one request type must have a positive weight");
+      return 1;
+    }
+
+    final Vertx harnessVertx = Vertx.vertx();
+    final Vertx ethSignerVertx = Vertx.vertx();
+    try {
+      final StubEthereumNode stubNode =
+          new StubEthereumNode(harnessVertx, Duration.ofMillis(stubLatencyMillis));
+      final int stubPort = stubNode.start().toCompletionStage().toCompletableFuture().get();
+
+      final Credentials credentials = Credentials.create(PRIVATE_KEY);
+      final String sender = credentials.getAddress();
+      final int ethSignerPort =
+          startEthSigner(ethSignerVertx, new CredentialSigner(credentials), stubPort);
+
+      System.out.printf(
+          "EthSigner on port %d, stub node on port %d with %d ms latency, %d requests/s%n",
+          ethSignerPort, stubPort, stubLatencyMillis, rate);
+
+      if (warmupSeconds > 0) {
+        run(harnessVertx, ethSignerPort, Duration.ofSeconds(warmupSeconds), schedule, sender);
+      }
+      final LoadGenerator generator =
+          run(harnessVertx, ethSignerPort, Duration.ofSeconds(durationSeconds), schedule, sender);
+      final Duration elapsed = generator.completion().result();
+      generator.report().print(System.out, elapsed);
+      return 0;
+    } finally {
+      ethSignerVertx.close();
+      harnessVertx.close();
+    }
+  }
+
+  private LoadGenerator run(
+      final Vertx vertx,
+      final int port,
+      final Duration duration,
+      final List<RequestType> schedule,
+      final String sender)
+      throws Exception {
+    final LoadGenerator generator =
+        new LoadGenerator(port, connections, rate, duration, schedule, sender);
+    final String deploymentId =
+        vertx
+            .deployVerticle(generator, new DeploymentOptions())
+            .toCompletionStage()
+            .toCompletableFuture()
+            .get();
+    generator.completion().toCompletionStage().toCompletableFuture().get();
+    vertx.undeploy(deploymentId).toCompletionStage().toCompletableFuture().get();
+    return generator;
+  }
+
+  private int startEthSigner(final Vertx vertx, final CredentialSigner signer, final int stubPort)
+      throws Exception {
+    final Path dataPath = Files.createTempDirectory("ethsigner-loadtest");
+    dataPath.toFile().deleteOnExit();
+
+    final HttpClientOptions clientOptions =
+        new HttpClientOptions().setDefaultHost("127.0.0.1").setDefaultPort(stubPort);
+    final HttpServerOptions serverOptions =
+        new HttpServerOptions().setHost("127.0.0.1").setPort(0).setReusePort(true);
+    final MetricsEndpoint metricsEndpoint =
+        new MetricsEndpoint(false, 0, "", emptySet(), emptyList());
+    final Optional<NonceManager> nonceManager =
+        localNonceManagementEnabled
+            ? Optional.of(new NonceManager(Duration.ofMinutes(1)))
+            : Optional.empty();
+
+    final Runner runner =
+        Runner.builder()
+            .withChainId(CHAIN_ID)
+            .withSignerProvider(new Eth1AddressSignerProvider(new SingleSignerProvider(signer)))
+            .withClientOptions(clientOptions)
+            .withServerOptions(serverOptions)
+            .withHttpRequestTimeout(Duration.ofSeconds(5))
+            .withRequestDeadline(Duration.ofSeconds(15))
+            .withDownstreamPathCalculator(new DownstreamPathCalculator(""))
+            .withDownstreamLoadBalancer(
+                DownstreamLoadBalancer.singleEndpoint("127.0.0.1", stubPort))
+            .withDownstreamHealthCheckInterval(Duration.ofSeconds(5))
+            .withJsonDecoder(EthSigner.createJsonDecoder())
+            .withDataPath(dataPath)
+            .withVertx(vertx)
+            .withMetricsEndpoint(metricsEndpoint)
+            .withMetrics(EthSignerMetrics.noop())
+            .withNonceManager(nonceManager)
+            .withRetryScheduler(
+                new RetryScheduler(
+                    vertx,
+                    Duration.ofMillis(10),
+                    Duration.ofSeconds(1),
+                    0.5,
+                    0.2,
+                    EthSignerMetrics.noop()))
+            .withAdmissionHandler(
+                new AdmissionHandler(
+                    0,
+                    Optional.empty(),
+                    AdmissionHandler.DEFAULT_MAX_BODY_SIZE,
+                    EthSignerMetrics.noop()))
+            .withHttpServerInstances(httpServerInstances)
+            .withStreamingPassThroughEnabled(streamingPassThroughEnabled)
+            .build();
+    runner.start();
+
+    final Properties ports = new Properties();
+    try (final InputStream portsFile = Files.newInputStream(dataPath.resolve(PORTS_FILENAME))) {
+      ports.load(portsFile);
+    }
+    return Integer.parseInt(ports.getProperty("http-jsonrpc"));
+  }
+
+  /** Interleaves the request types in proportion to their weights (smooth weighted round robin). */
+  private List<RequestType> schedule() {
+    final Map<RequestType, Integer> weights = new EnumMap<>(RequestType.class);
+    weights.put(RequestType.SEND_TRANSACTION, sendTransactionWeight);
+    weights.put(RequestType.SEND_PRIVATE_TRANSACTION, privateTransactionWeight);
+    weights.put(RequestType.PASSTHROUGH, passthroughWeight);
+    weights.values().removeIf(weight -> weight <= 0);
+
+    final int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+    final Map<RequestType, Integer> credit = new EnumMap<>(RequestType.class);
+    final List<RequestType> schedule = new ArrayList<>(total);
+    for (int i = 0; i < total; i++) {
+      RequestType next = null;
+      for (final Map.Entry<RequestType, Integer> weight : weights.entrySet()) {
+        final int updated = credit.merge(weight.getKey(), weight.getValue(), Integer::sum);
+        if (next == null || updated > credit.get(next)) {
+          next = weight.getKey();
+        }
+      }
+      credit.merge(next, -total, Integer::sum);
+      schedule.add(next);
+    }
+    return schedule;
+  }
+}
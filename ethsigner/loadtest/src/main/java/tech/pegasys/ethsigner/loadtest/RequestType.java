@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.loadtest;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/** The kinds of request the load generator sends to EthSigner. */
+enum RequestType {
+  SEND_TRANSACTION("eth_sendTransaction"),
+  SEND_PRIVATE_TRANSACTION("eth_sendTransaction(privateFor)"),
+  PASSTHROUGH("eth_blockNumber");
+
+  private static final String RECEIVER = "0x627306090abaB3A6e1400e9345bC60c78a8BEf57";
+  private static final String DATA =
+      "0xd46e8dd67c5d32be8d46e8dd67c5d32be8058bb8eb970870f072445675058bb8eb970870f072445675";
+  private static final String PRIVATE_FOR = "GV8m0VZAccYGAAYMBuYQtKEj0XtpXeaw2APcoBmtA2w=";
+
+  private final String label;
+
+  RequestType(final String label) {
+    this.label = label;
+  }
+
+  String label() {
+    return label;
+  }
+
+  String body(final long id, final String sender) {
+    final JsonObject request = new JsonObject().put("jsonrpc", "2.0").put("id", id);
+    switch (this) {
+      case SEND_TRANSACTION:
+        return request
+            .put("method", "eth_sendTransaction")
+            .put("params", new JsonArray().add(transaction(sender)))
+            .encode();
+      case SEND_PRIVATE_TRANSACTION:
+        return request
+            .put("method", "eth_sendTransaction")
+            .put(
+                "params",
+                new JsonArray()
+                    .add(transaction(sender).put("privateFor", new JsonArray().add(PRIVATE_FOR))))
+            .encode();
+      default:
+        return request.put("method", "eth_blockNumber").put("params", new JsonArray()).encode();
+    }
+  }
+
+  private static JsonObject transaction(final String sender) {
+    return new JsonObject()
+        .put("from", sender)
+        .put("to", RECEIVER)
+        .put("gas", "0x76c0")
+        .put("gasPrice", "0x9184e72a000")
+        .put("value", "0x0")
+        .put("data", DATA);
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.ethsigner.loadtest;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import org.web3j.crypto.Hash;
+import org.web3j.utils.Numeric;
+
+/**
+ * A minimal Ethereum JSON-RPC node which answers the requests EthSigner makes when submitting
+ * transactions, delaying every response by a fixed latency. Nothing is validated; transactions are
+ * acknowledged with their hash, and the transaction count reported for any account is the number of
+ * raw transactions received so far.
+ */
+class StubEthereumNode {
+
+  private final Vertx vertx;
+  private final Duration latency;
+  private final AtomicLong transactionCount = new AtomicLong();
+
+  StubEthereumNode(final Vertx vertx, final Duration latency) {
+    this.vertx = vertx;
+    this.latency = latency;
+  }
+
+  Future<Integer> start() {
+    return vertx
+        .createHttpServer(new HttpServerOptions().setHost("127.0.0.1").setPort(0))
+        .requestHandler(request -> request.body().onSuccess(body -> handle(request, body)))
+        .listen()
+        .map(HttpServer::actualPort);
+  }
+
+  private void handle(final HttpServerRequest request, final Buffer body) {
+    final Object response;
+    try {
+      final Object json = body.toJson();
+      if (json instanceof JsonArray) {
+        final JsonArray responses = new JsonArray();
+        ((JsonArray) json).forEach(element -> responses.add(respond((JsonObject) element)));
+        response = responses;
+      } else {
+        response = respond((JsonObject) json);
+      }
+    } catch (final DecodeException | ClassCastException e) {
+      request.response().setStatusCode(400).end();
+      return;
+    }
+
+    final String encoded = response.toString();
+    if (latency.isZero()) {
+      send(request, encoded);
+    } else {
+      vertx.setTimer(latency.toMillis(), timerId -> send(request, encoded));
+    }
+  }
+
+  private static void send(final HttpServerRequest request, final String body) {
+    request.response().putHeader("Content-Type", "application/json").end(body);
+  }
+
+  private JsonObject respond(final JsonObject request) {
+    final String method = request.getString("method", "");
+    final JsonArray params = request.getJsonArray("params", new JsonArray());
+    final Object result;
+    switch (method) {
+      case "eth_getTransactionCount":
+        result = Numeric.encodeQuantity(BigInteger.valueOf(transactionCount.get()));
+        break;
+      case "eth_sendRawTransaction":
+      case "eth_sendRawPrivateTransaction":
+        transactionCount.incrementAndGet();
+        result = Hash.sha3(params.getString(0));
+        break;
+      case "goquorum_storeRaw":
+        // the lookup id only needs to be a deterministic hex value derived from the payload
+        result = Hash.sha3(params.getString(0));
+        break;
+      default:
+        result = "0x1";
+    }
+    return new JsonObject()
+        .put("jsonrpc", "2.0")
+        .put("id", request.getValue("id"))
+        .put("result", result);
+  }
+}